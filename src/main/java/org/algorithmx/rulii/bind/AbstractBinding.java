@@ -0,0 +1,180 @@
+/*
+ * This software is licensed under the Apache 2 license, quoted below.
+ *
+ * Copyright (c) 1999-2021, Algorithmx Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.algorithmx.rulii.bind;
+
+import org.algorithmx.rulii.lib.spring.util.Assert;
+import org.algorithmx.rulii.util.RuleUtils;
+
+import java.lang.reflect.Type;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
+
+/**
+ * Base class for Binding implementations. Takes care of the name, type, version and mutability; subclasses decide
+ * how the value is stored.
+ *
+ * @param <T> generic type of the Binding.
+ *
+ * @author Max Arulananthan
+ * @since 1.0
+ * @see Binding
+ */
+public abstract class AbstractBinding<T> implements Binding<T> {
+
+    private static final Pattern NAME_PATTERN = Pattern.compile(NAME_REGEX);
+    private static final AtomicLong VERSIONS = new AtomicLong();
+
+    private final String name;
+    private final Type type;
+    private volatile long version;
+    private final boolean primary;
+    // Cannot be final as subclasses change it to editable = false after they set the value in the ctor
+    private boolean editable = true;
+    private final String description;
+
+    /**
+     * Creates a new AbstractBinding. Subclasses are expected to set the initial value and then call
+     * setEditable.
+     *
+     * @param name name of the Binding.
+     * @param type Type of the Binding.
+     * @param primary determines whether this Binding is a Primary candidate or not.
+     * @param description description of the Binding.
+     */
+    protected AbstractBinding(String name, Type type, boolean primary, String description) {
+        super();
+        Assert.notNull(name, "name cannot be null");
+        Assert.notNull(type, "type cannot be null");
+        Assert.isTrue(name.trim().length() > 0, "name length must be > 0");
+        Assert.isTrue(NAME_PATTERN.matcher(name).matches(), "Binding name [" + name + "] must match [" + NAME_PATTERN + "]");
+        this.name = name;
+        this.type = type;
+        this.primary = primary;
+        this.description = description;
+    }
+
+    /**
+     * Issues a new value version (unique across all the Bindings).
+     *
+     * @return new version.
+     */
+    static long nextVersion() {
+        return VERSIONS.incrementAndGet();
+    }
+
+    /**
+     * Makes sure the value can be changed.
+     *
+     * @throws InvalidBindingException if the Binding is not editable.
+     */
+    protected void checkEditable() {
+        if (!isEditable()) {
+            throw new InvalidBindingException("Attempting to change a immutable Binding [" + name + "]");
+        }
+    }
+
+    /**
+     * Records a value change.
+     */
+    protected void changed() {
+        this.version = nextVersion();
+    }
+
+    /**
+     * Sets the mutability of the Binding. Only meant to be called once the initial value has been set.
+     *
+     * @param editable determines whether this Binding is editable or not.
+     */
+    protected void setEditable(boolean editable) {
+        this.editable = editable;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Type getType() {
+        return type;
+    }
+
+    @Override
+    public boolean isEditable() {
+        return editable;
+    }
+
+    @Override
+    public boolean isPrimary() {
+        return primary;
+    }
+
+    @Override
+    public long getVersion() {
+        return version;
+    }
+
+    @Override
+    public String getDescription() {
+        return description;
+    }
+
+    @Override
+    public String getTypeName() {
+        if (type == null) return null;
+        if (type instanceof Class) return ((Class) type).getSimpleName();
+        return type.getTypeName();
+    }
+
+    @Override
+    public String getTypeAndName() {
+        return getTypeName() + " " + name;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        Binding<?> that = (Binding<?>) o;
+        return name.equals(that.getName()) &&
+                type.equals(that.getType()) &&
+                Objects.equals(getValue(), that.getValue());
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(name, type, getValue());
+    }
+
+    @Override
+    public String getSummary() {
+        return "(" + getTypeAndName() + " = " + getValue() + ")";
+    }
+
+    @Override
+    public String toString() {
+        return "Name = " + name +
+                ", Type = " + getTypeName() +
+                ", Value = " + RuleUtils.getTextValue(getValue(), 80) +
+                ", Primary = " + primary +
+                ", Editable = " + editable +
+                ", Description = " + description;
+    }
+}
@@ -0,0 +1,222 @@
+/*
+ * This software is licensed under the Apache 2 license, quoted below.
+ *
+ * Copyright (c) 1999-2021, Algorithmx Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.algorithmx.rulii.bind;
+
+import org.algorithmx.rulii.core.UnrulyException;
+import org.algorithmx.rulii.lib.spring.util.Assert;
+import org.algorithmx.rulii.lib.spring.util.ReflectionUtils;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Live view of a bean's (non synthetic) fields as Bindings. Nothing is copied; a field is only read when its Binding
+ * value is accessed and writes go straight through to the bean. Field accessors are built once per class.
+ *
+ * Note that changes made directly to the bean (ie: not through a Binding) do not change the Binding versions.
+ * Final fields are not editable. Anything else bound is stored in a regular (map based) Bindings.
+ *
+ * @author Max Arulananthan
+ * @since 1.0
+ */
+public class BeanBindings extends DeclaredBindings {
+
+    private static final ClassValue<BeanAccessors> ACCESSORS = new ClassValue<BeanAccessors>() {
+        @Override
+        protected BeanAccessors computeValue(Class<?> type) {
+            return new BeanAccessors(type);
+        }
+    };
+
+    private final Object bean;
+    private final BeanAccessors accessors;
+    // Created on first access
+    private final AtomicReferenceArray<FieldBinding> bindings;
+
+    private BeanBindings(Object bean) {
+        super();
+        Assert.notNull(bean, "bean cannot be null.");
+        this.bean = bean;
+        this.accessors = ACCESSORS.get(bean.getClass());
+        this.bindings = new AtomicReferenceArray<>(accessors.names.length);
+    }
+
+    /**
+     * Creates a new view over the given bean.
+     *
+     * @param bean target bean.
+     * @return new BeanBindings.
+     */
+    public static BeanBindings create(Object bean) {
+        return new BeanBindings(bean);
+    }
+
+    public Object getBean() {
+        return bean;
+    }
+
+    @Override
+    protected int getDeclaredSize() {
+        return accessors.names.length;
+    }
+
+    @Override
+    protected Binding<?> getDeclaredBinding(String name) {
+        Integer index = accessors.indexes.get(name);
+        return index != null ? getFieldBinding(index) : null;
+    }
+
+    @Override
+    protected void collectDeclaredBindings(List<Binding<?>> result) {
+        for (int i = 0; i < accessors.names.length; i++) {
+            result.add(getFieldBinding(i));
+        }
+    }
+
+    private FieldBinding getFieldBinding(int index) {
+        FieldBinding result = bindings.get(index);
+        if (result != null) return result;
+
+        bindings.compareAndSet(index, null, new FieldBinding(index));
+        return bindings.get(index);
+    }
+
+    /**
+     * Binding view of a bean field.
+     */
+    private class FieldBinding extends AbstractBinding<Object> {
+
+        private final int index;
+
+        private FieldBinding(int index) {
+            super(accessors.names[index], accessors.types[index], false, null);
+            this.index = index;
+            changed();
+            setEditable(accessors.setters[index] != null);
+        }
+
+        @Override
+        public Object getValue() {
+            Object target = bean;
+
+            try {
+                return (Object) accessors.getters[index].invokeExact(target);
+            } catch (Throwable e) {
+                // Couldn't get the value
+                throw new UnrulyException("Error trying to retrieve field [" + getName()
+                        + "] on Bean class [" + bean.getClass() + "]", e);
+            }
+        }
+
+        @Override
+        public void setValue(Object value) {
+            // Make sure we can edit this value
+            checkEditable();
+
+            // Looks like they are passing us a wrong value type (primitives cannot be null)
+            if (value == null ? isPrimitive() : !isAssignable(value.getClass())) {
+                throw new InvalidBindingException(getName(), getType(), value);
+            }
+
+            Object target = bean;
+
+            try {
+                accessors.setters[index].invokeExact(target, value);
+            } catch (Throwable e) {
+                // Couldn't set the value
+                throw new UnrulyException("Error trying to set field [" + getName()
+                        + "] on Bean class [" + bean.getClass() + "]", e);
+            }
+
+            changed();
+        }
+
+        private boolean isPrimitive() {
+            return getType() instanceof Class && ((Class<?>) getType()).isPrimitive();
+        }
+    }
+
+    /**
+     * Field accessors for a class.
+     */
+    private static final class BeanAccessors {
+
+        private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+        private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+        private final String[] names;
+        private final Type[] types;
+        private final MethodHandle[] getters;
+        private final MethodHandle[] setters;
+        private final Map<String, Integer> indexes = new HashMap<>();
+
+        private BeanAccessors(Class<?> type) {
+            super();
+            List<Field> fields = new ArrayList<>();
+
+            ReflectionUtils.doWithFields(type, field -> {
+                // Sub class fields hide the super class ones; compiler/agent generated fields are not bean state
+                if (field.isSynthetic() || indexes.containsKey(field.getName())) return;
+                indexes.put(field.getName(), fields.size());
+                fields.add(field);
+            });
+
+            this.names = new String[fields.size()];
+            this.types = new Type[fields.size()];
+            this.getters = new MethodHandle[fields.size()];
+            this.setters = new MethodHandle[fields.size()];
+
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+
+            for (int i = 0; i < names.length; i++) {
+                Field field = fields.get(i);
+                names[i] = field.getName();
+                types[i] = field.getGenericType();
+
+                try {
+                    ReflectionUtils.makeAccessible(field);
+                    getters[i] = adapt(lookup.unreflectGetter(field), field, GETTER_TYPE);
+                    setters[i] = Modifier.isFinal(field.getModifiers())
+                            ? null
+                            : adapt(lookup.unreflectSetter(field), field, SETTER_TYPE);
+                } catch (IllegalAccessException e) {
+                    throw new UnrulyException("Unable to access field [" + field.getName()
+                            + "] on Bean class [" + type + "]", e);
+                }
+            }
+        }
+
+        private static MethodHandle adapt(MethodHandle handle, Field field, MethodType type) {
+            // Static fields ignore the bean
+            MethodHandle result = Modifier.isStatic(field.getModifiers())
+                    ? MethodHandles.dropArguments(handle, 0, Object.class)
+                    : handle;
+            return result.asType(type);
+        }
+    }
+}
@@ -19,7 +19,7 @@
 package org.algorithmx.rulii.bind;
 
 import org.algorithmx.rulii.core.Identifiable;
-import org.algorithmx.rulii.lib.apache.reflect.TypeUtils;
+import org.algorithmx.rulii.util.reflect.TypeAssignability;
 
 import java.lang.reflect.Type;
 
@@ -104,7 +104,7 @@ public interface Binding<T> extends Identifiable {
 	 * @return true if the given type matches the SimpleBinding type.
 	 */
 	default boolean isTypeAcceptable(Type type) {
-		return TypeUtils.isAssignable(getType(), type);
+		return TypeAssignability.isAssignable(getType(), type);
 	}
 
 	/**
@@ -114,7 +114,7 @@ public interface Binding<T> extends Identifiable {
 	 * @return true if this Binding can be assigned to the desired type.
 	 */
 	default boolean isAssignable(Type type) {
-		return TypeUtils.isAssignable(type, getType());
+		return TypeAssignability.isAssignable(type, getType());
 	}
 
 	/**
@@ -137,6 +137,18 @@ public interface Binding<T> extends Identifiable {
 	 */
 	String getTypeAndName();
 
+	/**
+	 * Value version of this Binding. A new version is issued every time the value is set; versions are unique across
+	 * all the Bindings so a Binding replaced by another one (with the same name) is also detected as a change.
+	 *
+	 * Implementations that do not track their value should return Bindings.UNVERSIONED (the default).
+	 *
+	 * @return current value version; Bindings.UNVERSIONED if the value is not tracked.
+	 */
+	default long getVersion() {
+		return Bindings.UNVERSIONED;
+	}
+
 	/**
 	 * Quick summary of the Binding name, type and value.
 	 *
@@ -21,6 +21,7 @@ package org.algorithmx.rulii.bind;
 import org.algorithmx.rulii.lib.spring.util.Assert;
 import org.algorithmx.rulii.util.TypeReference;
 import org.algorithmx.rulii.util.reflect.ReflectionUtils;
+import org.algorithmx.rulii.util.reflect.TypeAssignability;
 
 import java.lang.reflect.Type;
 import java.util.Optional;
@@ -233,6 +234,42 @@ public class BindingBuilder {
             bindingValue = ReflectionUtils.getDefaultValue(bindingType);
         }
 
+        // Primitive types get Bindings that do not box the value
+        if (bindingType instanceof Class && ((Class<?>) bindingType).isPrimitive()) {
+            Binding<T> result = buildPrimitive((Class<?>) bindingType, bindingValue);
+            if (result != null) return result;
+        }
+
         return new DefaultBinding(name, bindingType, bindingValue, editable, primary, description);
     }
+
+    @SuppressWarnings("unchecked")
+    private <T> Binding<T> buildPrimitive(Class<?> bindingType, Object bindingValue) {
+        if (!(int.class.equals(bindingType) || long.class.equals(bindingType)
+                || double.class.equals(bindingType) || boolean.class.equals(bindingType))) return null;
+
+        // Looks like they are passing us a wrong value type
+        if (bindingValue == null || !TypeAssignability.isAssignable(bindingValue.getClass(), bindingType)) {
+            throw new InvalidBindingException(name, bindingType, bindingValue);
+        }
+
+        if (boolean.class.equals(bindingType)) {
+            return (Binding<T>) new BooleanBinding(name, bindingType, (Boolean) bindingValue, editable, primary, description);
+        }
+
+        // Widening from char
+        Number number = bindingValue instanceof Character
+                ? Integer.valueOf((Character) bindingValue)
+                : (Number) bindingValue;
+
+        if (int.class.equals(bindingType)) {
+            return (Binding<T>) new IntBinding(name, bindingType, number.intValue(), editable, primary, description);
+        }
+
+        if (long.class.equals(bindingType)) {
+            return (Binding<T>) new LongBinding(name, bindingType, number.longValue(), editable, primary, description);
+        }
+
+        return (Binding<T>) new DoubleBinding(name, bindingType, number.doubleValue(), editable, primary, description);
+    }
 }
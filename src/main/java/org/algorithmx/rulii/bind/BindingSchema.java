@@ -0,0 +1,134 @@
+/*
+ * This software is licensed under the Apache 2 license, quoted below.
+ *
+ * Copyright (c) 1999-2021, Algorithmx Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.algorithmx.rulii.bind;
+
+import org.algorithmx.rulii.lib.spring.util.Assert;
+
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * Declared set of Bindings (names and types). Each declared Binding is assigned an integer slot; RuleSets built
+ * against a schema resolve their parameters to slots once (at build time) and read the values straight out of
+ * SlotBindings.
+ *
+ * @author Max Arulananthan
+ * @since 1.0
+ */
+public final class BindingSchema {
+
+    private static final Pattern NAME_PATTERN = Pattern.compile(Binding.NAME_REGEX);
+
+    private final String[] names;
+    private final Type[] types;
+    private final Map<String, Integer> slots;
+
+    private BindingSchema(List<String> names, List<Type> types) {
+        super();
+        this.names = names.toArray(new String[names.size()]);
+        this.types = types.toArray(new Type[types.size()]);
+        Map<String, Integer> slots = new HashMap<>();
+        for (int i = 0; i < this.names.length; i++) slots.put(this.names[i], i);
+        this.slots = Collections.unmodifiableMap(slots);
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Creates new (empty) Bindings for this schema.
+     *
+     * @return new SlotBindings.
+     */
+    public SlotBindings createBindings() {
+        return new SlotBindings(this);
+    }
+
+    /**
+     * Slot of the given Binding.
+     *
+     * @param name Binding name.
+     * @return slot of the Binding; -1 if it is not part of the schema.
+     */
+    public int getSlot(String name) {
+        Integer result = slots.get(name);
+        return result != null ? result : -1;
+    }
+
+    public String getName(int slot) {
+        return names[slot];
+    }
+
+    public Type getType(int slot) {
+        return types[slot];
+    }
+
+    public int size() {
+        return names.length;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder result = new StringBuilder("BindingSchema{");
+
+        for (int i = 0; i < names.length; i++) {
+            if (i > 0) result.append(", ");
+            result.append(i).append(" = ").append(types[i].getTypeName()).append(" ").append(names[i]);
+        }
+
+        return result.append("}").toString();
+    }
+
+    public static class Builder {
+
+        private final List<String> names = new ArrayList<>();
+        private final List<Type> types = new ArrayList<>();
+
+        private Builder() {
+            super();
+        }
+
+        /**
+         * Declares a Binding.
+         *
+         * @param name name of the Binding.
+         * @param type type of the Binding.
+         * @return this for fluency.
+         */
+        public Builder declare(String name, Type type) {
+            Assert.notNull(name, "name cannot be null.");
+            Assert.notNull(type, "type cannot be null.");
+            Assert.isTrue(NAME_PATTERN.matcher(name).matches(), "Binding name [" + name + "] must match [" + NAME_PATTERN + "]");
+            Assert.isTrue(!names.contains(name), "Binding [" + name + "] is already declared.");
+            names.add(name);
+            types.add(type);
+            return this;
+        }
+
+        public BindingSchema build() {
+            return new BindingSchema(names, types);
+        }
+    }
+}
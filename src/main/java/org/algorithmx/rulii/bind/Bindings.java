@@ -33,6 +33,11 @@ import java.util.Map;
  */
 public interface Bindings extends Iterable<Binding<?>> {
 
+    /**
+     * Version returned by Bindings that do not track their structure. Nothing is cached against such Bindings.
+     */
+    long UNVERSIONED = -1L;
+
     /**
      * Creates the default implementation of these Bindings.
      * @return new default implementation instance.
@@ -195,6 +200,18 @@ public interface Bindings extends Iterable<Binding<?>> {
         return size() == 0;
     }
 
+    /**
+     * Structural version of these Bindings. The version changes every time a Binding is added (or a scope is
+     * added/removed in case of ScopedBindings). Changes to the Binding values do not affect the version.
+     *
+     * Implementations that do not track their structure should return UNVERSIONED (the default).
+     *
+     * @return current structural version; UNVERSIONED if the structure is not tracked.
+     */
+    default long getVersion() {
+        return UNVERSIONED;
+    }
+
     /**
      * Retrieves the Binding identified by the given name.
      *
@@ -0,0 +1,81 @@
+/*
+ * This software is licensed under the Apache 2 license, quoted below.
+ *
+ * Copyright (c) 1999-2021, Algorithmx Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.algorithmx.rulii.bind;
+
+import java.lang.reflect.Type;
+
+/**
+ * Binding that holds a boolean value without boxing it. Use getBoolean/setBoolean to read/write the value; the
+ * generic getValue/setValue methods are still supported (and box/unbox as required).
+ *
+ * @author Max Arulananthan
+ * @since 1.0
+ * @see Binding
+ */
+public class BooleanBinding extends PrimitiveBinding<Boolean> {
+
+    private volatile boolean value;
+
+    /**
+     * Creates a new BooleanBinding
+     *
+     * @param name name of the Binding.
+     * @param type Type of the Binding (boolean or Boolean).
+     * @param value initial value of the Binding.
+     * @param editable determines whether this Binding is editable or not.
+     * @param primary determines whether this Binding is a Primary candidate or not.
+     */
+    BooleanBinding(String name, Type type, boolean value, boolean editable, boolean primary, String description) {
+        super(name, type, primary, description);
+        setBoolean(value);
+        setEditable(editable);
+    }
+
+    /**
+     * Current value of the Binding.
+     *
+     * @return boolean value.
+     */
+    public boolean getBoolean() {
+        return value;
+    }
+
+    /**
+     * Sets the value of the Binding.
+     *
+     * @param value new value.
+     * @throws InvalidBindingException if the Binding is not editable.
+     */
+    public void setBoolean(boolean value) {
+        // Make sure we can edit this value
+        checkEditable();
+        this.value = value;
+        changed();
+    }
+
+    @Override
+    public Boolean getValue() {
+        return value;
+    }
+
+    @Override
+    protected void setPrimitive(Object value) {
+        setBoolean((Boolean) value);
+    }
+}
@@ -0,0 +1,189 @@
+/*
+ * This software is licensed under the Apache 2 license, quoted below.
+ *
+ * Copyright (c) 1999-2021, Algorithmx Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.algorithmx.rulii.bind;
+
+import org.algorithmx.rulii.lib.spring.util.Assert;
+import org.algorithmx.rulii.util.TypeReference;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Base class for Bindings that come with a set of declared Bindings (slots, bean fields, map keys etc). The declared
+ * Bindings are provided by the subclass; anything else bound is stored in a regular (map based) Bindings.
+ *
+ * @author Max Arulananthan
+ * @since 1.0
+ */
+abstract class DeclaredBindings implements Bindings {
+
+    // Bindings that are not declared
+    private volatile Bindings dynamicBindings;
+
+    protected DeclaredBindings() {
+        super();
+    }
+
+    /**
+     * Number of declared Bindings.
+     *
+     * @return declared count.
+     */
+    protected abstract int getDeclaredSize();
+
+    /**
+     * Finds the declared Binding with the given name.
+     *
+     * @param name Binding name.
+     * @return declared Binding; null if there isn't one.
+     */
+    protected abstract Binding<?> getDeclaredBinding(String name);
+
+    /**
+     * Adds all the declared Bindings to the given list.
+     *
+     * @param result list to add to.
+     */
+    protected abstract void collectDeclaredBindings(List<Binding<?>> result);
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <S extends Bindings, T> S bind(Binding<T> binding) throws BindingAlreadyExistsException {
+        Assert.notNull(binding, "binding cannot be null");
+        Binding<?> existing = getDeclaredBinding(binding.getName());
+
+        // Declared Bindings always exist
+        if (existing != null) throw new BindingAlreadyExistsException(existing);
+
+        getDynamicBindings(true).bind(binding);
+        return (S) this;
+    }
+
+    @Override
+    public int size() {
+        Bindings dynamic = getDynamicBindings(false);
+        return getDeclaredSize() + (dynamic != null ? dynamic.size() : 0);
+    }
+
+    @Override
+    public long getVersion() {
+        // Declared Bindings are fixed
+        Bindings dynamic = getDynamicBindings(false);
+        return dynamic != null ? dynamic.getVersion() : 0L;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> Binding<T> getBinding(String name) {
+        Assert.notNull(name, "name cannot be null.");
+        Binding<T> result = (Binding<T>) getDeclaredBinding(name);
+        if (result != null) return result;
+
+        Bindings dynamic = getDynamicBindings(false);
+        return dynamic != null ? dynamic.getBinding(name) : null;
+    }
+
+    @Override
+    public <T> Binding<T> getBinding(String name, TypeReference<T> type) {
+        Binding<T> result = getBinding(name);
+        // Make sure it also matches the Type
+        return result != null && result.isTypeAcceptable(type.getType()) ? result : null;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> Map<String, Binding<T>> getBindings(TypeReference<T> type) {
+        Map<String, Binding<T>> result = new HashMap<>();
+
+        for (Iterator<Binding<?>> it = iterator(); it.hasNext();) {
+            Binding<?> binding = it.next();
+            if (binding.isTypeAcceptable(type.getType())) result.put(binding.getName(), (Binding<T>) binding);
+        }
+
+        return Collections.unmodifiableMap(result);
+    }
+
+    @Override
+    public Map<String, ?> asMap() {
+        Map<String, Object> result = new HashMap<>();
+
+        for (Iterator<Binding<?>> it = iterator(); it.hasNext();) {
+            Binding<?> binding = it.next();
+            result.put(binding.getName(), binding.getValue());
+        }
+
+        return result;
+    }
+
+    @Override
+    public Iterator<Binding<?>> iterator() {
+        List<Binding<?>> result = new ArrayList<>(size());
+        collectDeclaredBindings(result);
+
+        Bindings dynamic = getDynamicBindings(false);
+        if (dynamic != null) dynamic.iterator().forEachRemaining(result::add);
+
+        return result.iterator();
+    }
+
+    private Bindings getDynamicBindings(boolean create) {
+        Bindings result = dynamicBindings;
+        if (result != null || !create) return result;
+
+        synchronized (this) {
+            if (dynamicBindings == null) dynamicBindings = Bindings.create();
+            return dynamicBindings;
+        }
+    }
+
+    @Override
+    public String prettyPrint(String prefix) {
+        StringBuilder result = new StringBuilder(System.lineSeparator());
+
+        for (Iterator<Binding<?>> it = iterator(); it.hasNext();) {
+            Binding<?> binding = it.next();
+            if (binding.getValue() instanceof Bindings) continue;
+
+            result.append(prefix + binding.getSummary() + System.lineSeparator());
+        }
+
+        return result.toString();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof Bindings)) return false;
+        return asMap().equals(((Bindings) o).asMap());
+    }
+
+    @Override
+    public int hashCode() {
+        return asMap().hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return prettyPrint("");
+    }
+}
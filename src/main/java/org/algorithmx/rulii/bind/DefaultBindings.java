@@ -21,6 +21,8 @@ package org.algorithmx.rulii.bind;
 import org.algorithmx.rulii.lib.spring.util.Assert;
 import org.algorithmx.rulii.util.TypeReference;
 
+import java.lang.reflect.Type;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -29,6 +31,7 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Default implementation of the Bindings.
@@ -41,6 +44,12 @@ public class DefaultBindings implements Bindings {
     // Stores all the Bindings
     private final Map<String, Binding<?>> bindings = createBindings();
     private final Set<String> reservedWords = new HashSet<>();
+    // Incremented every time a Binding is added
+    private final AtomicLong version = new AtomicLong();
+    // Bindings by requested Type; entries are only valid for the version they were built for
+    private final Map<Type, TypeMatches> typeIndex = new ConcurrentHashMap<>();
+    // Notified every time a Binding is added (used by the scoped Bindings to keep their name index up to date)
+    private volatile BindListener[] listeners = new BindListener[0];
 
     /**
      * Default Ctor. Self Reference added.
@@ -73,14 +82,44 @@ public class DefaultBindings implements Bindings {
             throw new BindingAlreadyExistsException(existingBinding);
         }
 
+        version.incrementAndGet();
+
+        for (BindListener listener : listeners) {
+            if (listener.isActive()) listener.bound(binding);
+        }
+
         return (S) this;
     }
 
+    synchronized void addListener(BindListener listener) {
+        // Drop the listeners that are no longer around
+        BindListener[] result = Arrays.stream(listeners).filter(BindListener::isActive).toArray(BindListener[]::new);
+        result = Arrays.copyOf(result, result.length + 1);
+        result[result.length - 1] = listener;
+        this.listeners = result;
+    }
+
+    synchronized void removeListener(BindListener listener) {
+        for (int i = 0; i < listeners.length; i++) {
+            if (listeners[i] != listener) continue;
+            BindListener[] result = new BindListener[listeners.length - 1];
+            System.arraycopy(listeners, 0, result, 0, i);
+            System.arraycopy(listeners, i + 1, result, i, listeners.length - i - 1);
+            this.listeners = result;
+            return;
+        }
+    }
+
     @Override
     public int size() {
         return bindings.size();
     }
 
+    @Override
+    public long getVersion() {
+        return version.get();
+    }
+
     @Override
     public Iterator<Binding<?>> iterator() {
         return bindings.values().iterator();
@@ -122,15 +161,24 @@ public class DefaultBindings implements Bindings {
     @Override
     @SuppressWarnings("unchecked")
     public <T> Map<String, Binding<T>> getBindings(TypeReference<T> typeRef) {
-        Map<String, Binding<T>> result = new HashMap<>();
+        long currentVersion = version.get();
+        TypeMatches result = typeIndex.get(typeRef.getType());
+
+        // Nothing has been bound since
+        if (result != null && result.version == currentVersion) return (Map<String, Binding<T>>) result.matches;
+
+        Map<String, Binding<T>> matches = new HashMap<>();
 
         for (Binding<?> binding : bindings.values()) {
             if (binding.isTypeAcceptable(typeRef.getType())) {
-                result.put(binding.getName(), (Binding<T>) binding);
+                matches.put(binding.getName(), (Binding<T>) binding);
             }
         }
 
-        return Collections.unmodifiableMap(result);
+        // Built against the version read before the scan; a concurrent bind will invalidate it
+        result = new TypeMatches(currentVersion, Collections.unmodifiableMap(matches));
+        typeIndex.put(typeRef.getType(), result);
+        return (Map<String, Binding<T>>) result.matches;
     }
 
     @Override
@@ -183,4 +231,32 @@ public class DefaultBindings implements Bindings {
     public String toString() {
         return prettyPrint("");
     }
+
+    /**
+     * Callback for newly added Bindings.
+     */
+    interface BindListener {
+
+        void bound(Binding<?> binding);
+
+        /**
+         * Inactive listeners are no longer notified and are dropped.
+         *
+         * @return true if the listener still wants to be notified.
+         */
+        default boolean isActive() {
+            return true;
+        }
+    }
+
+    private static class TypeMatches {
+        private final long version;
+        private final Map<String, ? extends Binding<?>> matches;
+
+        private TypeMatches(long version, Map<String, ? extends Binding<?>> matches) {
+            super();
+            this.version = version;
+            this.matches = matches;
+        }
+    }
 }
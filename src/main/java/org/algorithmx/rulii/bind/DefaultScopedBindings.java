@@ -33,6 +33,8 @@ import java.util.*;
 public class DefaultScopedBindings implements ScopedBindings {
 
     private final Stack<NamedScope> scopes = new Stack<>();
+    // Keeps getVersion() moving forward as scopes are added and removed
+    private long versionOffset = 0;
 
     DefaultScopedBindings(String name) {
         this(name, Bindings.create());
@@ -64,6 +66,7 @@ public class DefaultScopedBindings implements ScopedBindings {
         }
 
         scopes.push(new NamedScope(name, bindings));
+        versionOffset++;
     }
 
     public Bindings getScope(String name) {
@@ -101,7 +104,11 @@ public class DefaultScopedBindings implements ScopedBindings {
             throw new CannotRemoveRootScopeException();
         }
 
-        return scopes.pop().bindings;
+        Bindings result = scopes.pop().bindings;
+        // The popped scope no longer contributes to the version; compensate so the version still moves forward
+        long removedVersion = result.getVersion();
+        versionOffset += (removedVersion == UNVERSIONED ? 0 : removedVersion) + 1;
+        return result;
     }
 
     public Bindings removeScope(String name) {
@@ -224,6 +231,19 @@ public class DefaultScopedBindings implements ScopedBindings {
         return scopes.size();
     }
 
+    @Override
+    public long getVersion() {
+        long result = versionOffset;
+
+        for (NamedScope scope : scopes) {
+            long scopeVersion = scope.bindings.getVersion();
+            if (scopeVersion == UNVERSIONED) return UNVERSIONED;
+            result += scopeVersion;
+        }
+
+        return result;
+    }
+
     @Override
     public int size() {
         NamedScope[] scopes = getScopes();
@@ -51,6 +51,11 @@ public class ImmutableBinding<T> implements Binding<T>  {
         return getTarget().getValue();
     }
 
+    @Override
+    public long getVersion() {
+        return getTarget().getVersion();
+    }
+
     @Override
     public String getDescription() {
         return getTarget().getDescription();
@@ -48,6 +48,11 @@ public class ImmutableBindings implements Bindings {
         return getTarget().size();
     }
 
+    @Override
+    public long getVersion() {
+        return getTarget().getVersion();
+    }
+
     @Override
     public boolean contains(String name) {
         return getTarget().contains(name);
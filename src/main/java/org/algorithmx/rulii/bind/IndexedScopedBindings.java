@@ -0,0 +1,623 @@
+/*
+ * This software is licensed under the Apache 2 license, quoted below.
+ *
+ * Copyright (c) 1999-2021, Algorithmx Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.algorithmx.rulii.bind;
+
+import org.algorithmx.rulii.lib.spring.util.Assert;
+import org.algorithmx.rulii.util.RuleUtils;
+import org.algorithmx.rulii.util.TypeReference;
+
+import java.lang.ref.WeakReference;
+import java.lang.reflect.Type;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * ScopedBindings backed by an array stack. Scope names are hashed (duplicate detection and lookups by name are O(1))
+ * and a flattened index of the top most Binding per name is maintained as scopes are added/removed, so a Binding
+ * lookup is a single hash probe regardless of the number of scopes.
+ *
+ * Bindings added to a DefaultBindings scope (directly or through this class) update the index as they happen; other
+ * Bindings implementations (and the global scope, which is shared by every RuleContext built on the same Bindings)
+ * are checked for changes using their version on every lookup and the index is rebuilt only when one of them has
+ * changed. Lookups go straight to the scopes while any of them is unversioned.
+ *
+ * The version identifies the Binding layout rather than counting changes: adding/removing an empty DefaultBindings
+ * scope leaves it as is, removing a DefaultBindings scope goes back to the version from before the scope was added
+ * (as long as nothing changed underneath it) and adding the same DefaultBindings (unchanged) on top of the same
+ * layout gets the same version as the last time. Anything else gets a brand new version. This lets callers keep
+ * whatever they derived from the layout (ie: parameter matches) across scopes that come and go, such as the scope
+ * of each RuleSet run.
+ *
+ * Scopes must be added/removed by a single thread at a time (as the RuleContext does); Bindings can be looked up and
+ * added concurrently.
+ *
+ * @author Max Arulananthan
+ * @since 1.0
+ */
+public class IndexedScopedBindings implements ScopedBindings {
+
+    private static final int MAX_PUSH_VERSIONS = 64;
+
+    private NamedScope[] scopes = new NamedScope[8];
+    private int scopeSize = 0;
+    private final Map<String, NamedScope> scopesByName = new HashMap<>();
+    private final Map<Bindings, NamedScope> scopesByBindings = new IdentityHashMap<>();
+    // Top most Binding per name
+    private final Map<String, IndexEntry> index = new ConcurrentHashMap<>();
+    // Bindings by requested Type; entries are only valid for the version they were built for
+    private final Map<Type, TypeMatches> typeIndex = new ConcurrentHashMap<>();
+    // Scopes that cannot tell us about new Bindings
+    private NamedScope[] unmanagedScopes = new NamedScope[0];
+    // Current layout version
+    private final AtomicLong version = new AtomicLong();
+    // Issues new (never used before) versions
+    private final AtomicLong versions = new AtomicLong();
+    // Versions given to (unchanged) DefaultBindings scopes added on top of a layout
+    private final Map<PushKey, Long> pushVersions = new HashMap<>();
+
+    IndexedScopedBindings(String name) {
+        this(name, Bindings.create());
+    }
+
+    IndexedScopedBindings(String name, Bindings bindings) {
+        super();
+        Assert.notNull(bindings, "bindings cannot be null.");
+        push(new NamedScope(name, bindings, 0));
+    }
+
+    @Override
+    public Bindings addScope() {
+        return addScope("anonymous-" + UUID.randomUUID().toString() + "-scope");
+    }
+
+    @Override
+    public Bindings addScope(String name) {
+        Bindings result = createScope();
+        addScope(name, result);
+        return result;
+    }
+
+    @Override
+    public void addScope(String name, Bindings bindings) {
+        Assert.notNull(name, "name cannot be null.");
+        Assert.notNull(bindings, "bindings cannot be null.");
+        NamedScope existing = scopesByName.get(name);
+
+        if (existing != null) {
+            throw new BindingsAlreadyExistsException(name, existing.bindings);
+        }
+
+        push(new NamedScope(name, bindings, scopeSize));
+    }
+
+    @Override
+    public Bindings getScope(String name) {
+        NamedScope result = scopesByName.get(name);
+        return result != null ? result.bindings : null;
+    }
+
+    @Override
+    public String getScopeName(Bindings bindings) {
+        NamedScope result = scopesByBindings.get(bindings);
+        return result != null ? result.name : null;
+    }
+
+    @Override
+    public Bindings removeScope() {
+        // Check to make sure we are not removing the root scope
+        if (scopeSize == 1) {
+            throw new CannotRemoveRootScopeException();
+        }
+
+        return pop().bindings;
+    }
+
+    @Override
+    public Bindings removeScope(String name) {
+        Bindings bindings = getScope(name);
+
+        // We couldn't find any such Scope.
+        if (bindings == null) throw new NoSuchBindingsException(name);
+
+        return removeScope(bindings);
+    }
+
+    @Override
+    public Bindings removeScope(Bindings target) {
+        // Check to make sure we are not removing the root scope
+        if (scopeSize == 1) {
+            throw new CannotRemoveRootScopeException();
+        }
+
+        // Could not find the requested Bindings
+        if (!scopesByBindings.containsKey(target)) {
+            throw new NoSuchBindingsException(target);
+        }
+
+        Bindings result;
+
+        // We know the Scope exists;
+        do {
+            // Pop will we find out target
+            result = removeScope();
+        } while (result != target);
+
+        return result;
+    }
+
+    @Override
+    public Bindings getCurrentScope() {
+        return scopes[scopeSize - 1].bindings;
+    }
+
+    @Override
+    public Bindings getParentScope() {
+        return scopeSize > 2 ? scopes[scopeSize - 2].bindings : null;
+    }
+
+    @Override
+    public Bindings getRootScope() {
+        return scopes[0].bindings;
+    }
+
+    @Override
+    public Bindings getGlobalScope() {
+        return getScope(ScopedBindings.GLOBAL_SCOPE);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> Binding<T> getBinding(String name) {
+        Assert.notNull(name, "name cannot be null.");
+
+        if (!validateIndex()) {
+            // Cannot trust the index; look through the scopes
+            for (int i = scopeSize - 1; i >= 0; i--) {
+                Binding<T> result = scopes[i].bindings.getBinding(name);
+                if (result != null) return result;
+            }
+
+            return null;
+        }
+
+        IndexEntry result = index.get(name);
+        return result != null ? (Binding<T>) result.binding : null;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> Binding<T> getBinding(String name, TypeReference<T> type) {
+        Assert.notNull(name, "name cannot be null.");
+        int level = scopeSize - 1;
+
+        if (validateIndex()) {
+            IndexEntry entry = index.get(name);
+            if (entry == null) return null;
+            if (entry.binding.isTypeAcceptable(type.getType())) return (Binding<T>) entry.binding;
+            // Top most one does not match the type; try the lower scopes
+            level = entry.level - 1;
+        }
+
+        for (int i = level; i >= 0; i--) {
+            Binding<T> result = scopes[i].bindings.getBinding(name, type);
+            if (result != null) return result;
+        }
+
+        return null;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> Map<String, Binding<T>> getBindings(TypeReference<T> type) {
+        long currentVersion = getVersion();
+        TypeMatches cached = typeIndex.get(type.getType());
+
+        // Nothing has been bound (and no scope added/removed) since
+        if (cached != null && cached.version == currentVersion && currentVersion != UNVERSIONED) {
+            return (Map<String, Binding<T>>) cached.matches;
+        }
+
+        Map<String, Binding<T>> result = new HashMap<>();
+
+        // Must start at end and come up
+        for (int i = scopeSize - 1; i >= 0; i--) {
+            result.putAll(scopes[i].bindings.getBindings(type));
+            // Found something in this scope stop.
+            if (result.size() > 0) break;
+        }
+
+        result = Collections.unmodifiableMap(result);
+        if (currentVersion != UNVERSIONED) typeIndex.put(type.getType(), new TypeMatches(currentVersion, result));
+        return result;
+    }
+
+    @Override
+    public <T> Map<String, Binding<T>> getAllBindings(TypeReference<T> type) {
+        Map<String, Binding<T>> result = new HashMap<>();
+
+        // Must start at root and keep adding
+        for (int i = 0; i < scopeSize; i++) {
+            result.putAll(scopes[i].bindings.getBindings(type));
+        }
+
+        return result;
+    }
+
+    @Override
+    public int getScopeSize() {
+        return scopeSize;
+    }
+
+    @Override
+    public long getVersion() {
+        for (NamedScope scope : unmanagedScopes) {
+            long scopeVersion = scope.bindings.getVersion();
+            if (scopeVersion == UNVERSIONED) return UNVERSIONED;
+            if (scopeVersion == scope.seenVersion) continue;
+            // Changed behind our back
+            scope.seenVersion = scopeVersion;
+            changed(scope.level);
+        }
+
+        return version.get();
+    }
+
+    @Override
+    public int size() {
+        int result = 0;
+
+        for (int i = 0; i < scopeSize; i++) {
+            result += scopes[i].bindings.size();
+        }
+
+        return result;
+    }
+
+    @Override
+    public Map<String, ?> asMap() {
+        Map<String, Object> result = new HashMap<>();
+
+        for (int i = 0; i < scopeSize; i++) {
+            result.putAll(scopes[i].bindings.asMap());
+        }
+
+        return result;
+    }
+
+    /**
+     * Iterator of all the Bindings starting with working scope and going up the Stack.
+     *
+     * @return all bindings (reverse order).
+     */
+    @Override
+    public Iterator<Binding<?>> iterator() {
+        Set<Binding<?>> result = new HashSet<>();
+
+        // Must start at root and keep adding
+        for (int i = 0; i < scopeSize; i++) {
+            for (Iterator<Binding<?>> it = scopes[i].bindings.iterator(); it.hasNext();) {
+                result.add(it.next());
+            }
+        }
+
+        return result.iterator();
+    }
+
+    /**
+     * Creates a new scope.
+     *
+     * @return newly created Bindings.
+     */
+    protected Bindings createScope() {
+        return Bindings.create();
+    }
+
+    private void push(NamedScope scope) {
+        long below = getVersion();
+        scope.versionBelow = below;
+
+        if (scopeSize == scopes.length) scopes = Arrays.copyOf(scopes, scopeSize * 2);
+        scopes[scopeSize++] = scope;
+        scopesByName.put(scope.name, scope);
+        // Same Bindings could be pushed more than once; the top most one wins
+        scopesByBindings.put(scope.bindings, scope);
+
+        if (scope.managed) {
+            ((DefaultBindings) scope.bindings).addListener(scope.listener);
+        } else {
+            scope.indexedVersion = scope.bindings.getVersion();
+            scope.seenVersion = scope.indexedVersion;
+            unmanagedScopes = Arrays.copyOf(unmanagedScopes, unmanagedScopes.length + 1);
+            unmanagedScopes[unmanagedScopes.length - 1] = scope;
+        }
+
+        for (Binding<?> binding : scope.bindings) {
+            index.put(binding.getName(), new IndexEntry(binding, scope.level));
+        }
+
+        if (!scope.managed || below == UNVERSIONED) {
+            version.set(versions.incrementAndGet());
+            return;
+        }
+
+        // Empty scope; nothing visible has changed
+        if (scope.bindings.size() == 0) return;
+
+        // Same Bindings (unchanged) on top of the same layout; same version as last time
+        PushKey key = new PushKey(below, scope.bindings, scope.bindings.getVersion());
+        Long known = pushVersions.get(key);
+
+        if (known == null) {
+            known = versions.incrementAndGet();
+            if (pushVersions.size() >= MAX_PUSH_VERSIONS) pushVersions.clear();
+            pushVersions.put(key, known);
+        }
+
+        version.set(known);
+    }
+
+    private NamedScope pop() {
+        NamedScope result = scopes[--scopeSize];
+        scopes[scopeSize] = null;
+        scopesByName.remove(result.name);
+        scopesByBindings.remove(result.bindings);
+
+        // Pushed more than once
+        for (int i = scopeSize - 1; i >= 0; i--) {
+            if (scopes[i].bindings == result.bindings) {
+                scopesByBindings.put(scopes[i].bindings, scopes[i]);
+                break;
+            }
+        }
+
+        if (result.managed) {
+            ((DefaultBindings) result.bindings).removeListener(result.listener);
+        } else {
+            unmanagedScopes = Arrays.copyOf(unmanagedScopes, unmanagedScopes.length - 1);
+        }
+
+        // Names of the popped scope now resolve to the lower scopes (if any)
+        for (Binding<?> binding : result.bindings) {
+            reindex(binding.getName());
+        }
+
+        // Back to the layout from before the scope was added (unless something changed underneath it)
+        if (result.managed && !result.belowChanged && result.versionBelow != UNVERSIONED) {
+            version.set(result.versionBelow);
+        } else {
+            version.set(versions.incrementAndGet());
+        }
+
+        return result;
+    }
+
+    private void changed(int level) {
+        // Scopes above no longer sit on the layout they were added to
+        for (int i = level + 1; i < scopeSize; i++) {
+            NamedScope scope = scopes[i];
+            if (scope != null) scope.belowChanged = true;
+        }
+
+        long next = versions.incrementAndGet();
+        version.accumulateAndGet(next, Math::max);
+    }
+
+    private void reindex(String name) {
+        for (int i = scopeSize - 1; i >= 0; i--) {
+            Binding<?> binding = scopes[i].bindings.getBinding(name);
+
+            if (binding != null) {
+                index.put(name, new IndexEntry(binding, i));
+                return;
+            }
+        }
+
+        index.remove(name);
+    }
+
+    /**
+     * Brings the index up to date with the scopes we are not told about.
+     *
+     * @return false if one of those scopes is unversioned (and the index cannot be trusted); true otherwise.
+     */
+    private boolean validateIndex() {
+        boolean changed = false;
+        boolean versioned = true;
+
+        for (NamedScope scope : unmanagedScopes) {
+            long current = scope.bindings.getVersion();
+
+            // Untracked Bindings could have changed at any time
+            if (current == UNVERSIONED) {
+                versioned = false;
+                continue;
+            }
+
+            if (current == scope.indexedVersion) continue;
+            scope.indexedVersion = current;
+            changed = true;
+        }
+
+        if (!changed) return versioned;
+
+        // Something was added behind our back; rebuild
+        index.clear();
+
+        for (int i = 0; i < scopeSize; i++) {
+            for (Binding<?> binding : scopes[i].bindings) {
+                index.put(binding.getName(), new IndexEntry(binding, i));
+            }
+        }
+
+        return versioned;
+    }
+
+    @Override
+    public String prettyPrint(String prefix) {
+        StringBuilder result = new StringBuilder();
+
+        for (int scopeIndex = 0; scopeIndex < scopeSize;) {
+            NamedScope scope = scopes[scopeIndex];
+            result.append("Scope (index = " + (scopeIndex++) + ")");
+            result.append(prefix + scope.bindings.prettyPrint(getTabs(scopeIndex + 1)));
+            result.append(prefix + getTabs(scopeIndex));
+        }
+
+        return result.toString();
+    }
+
+    private String getTabs(int count) {
+        StringBuilder result = new StringBuilder();
+
+        for (int i = 0; i < count; i++) {
+            result.append(RuleUtils.TAB);
+        }
+
+        return result.toString();
+    }
+
+    @Override
+    public String toString() {
+        return prettyPrint("");
+    }
+
+    /**
+     * Scopes can outlive these Bindings without ever being removed; the listener only keeps a weak reference so these
+     * Bindings can still be collected.
+     */
+    private static class ScopeListener implements DefaultBindings.BindListener {
+        private final WeakReference<NamedScope> scope;
+
+        private ScopeListener(NamedScope scope) {
+            super();
+            this.scope = new WeakReference<>(scope);
+        }
+
+        @Override
+        public void bound(Binding<?> binding) {
+            NamedScope result = scope.get();
+            if (result != null) result.bound(binding);
+        }
+
+        @Override
+        public boolean isActive() {
+            return scope.get() != null;
+        }
+    }
+
+    private static class PushKey {
+        private final long versionBelow;
+        private final Bindings bindings;
+        private final long bindingsVersion;
+
+        private PushKey(long versionBelow, Bindings bindings, long bindingsVersion) {
+            super();
+            this.versionBelow = versionBelow;
+            this.bindings = bindings;
+            this.bindingsVersion = bindingsVersion;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            PushKey that = (PushKey) o;
+            return versionBelow == that.versionBelow && bindings == that.bindings
+                    && bindingsVersion == that.bindingsVersion;
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * (31 * Long.hashCode(versionBelow) + System.identityHashCode(bindings))
+                    + Long.hashCode(bindingsVersion);
+        }
+    }
+
+    private static class TypeMatches {
+        private final long version;
+        private final Map<String, ? extends Binding<?>> matches;
+
+        private TypeMatches(long version, Map<String, ? extends Binding<?>> matches) {
+            super();
+            this.version = version;
+            this.matches = matches;
+        }
+    }
+
+    private static class IndexEntry {
+        private final Binding<?> binding;
+        private final int level;
+
+        private IndexEntry(Binding<?> binding, int level) {
+            super();
+            this.binding = binding;
+            this.level = level;
+        }
+    }
+
+    private class NamedScope {
+        private final String name;
+        private final Bindings bindings;
+        private final int level;
+        private final ScopeListener listener = new ScopeListener(this);
+        // Tells us about new Bindings as they happen
+        private final boolean managed;
+        private long indexedVersion;
+        private volatile long seenVersion;
+        // Version of the layout underneath this scope when it was added
+        private long versionBelow;
+        private volatile boolean belowChanged = false;
+
+        private NamedScope(String name, Bindings bindings, int level) {
+            super();
+            Assert.notNull(name, "name cannot be null");
+            Assert.notNull(bindings, "bindings cannot be null");
+            this.name = name;
+            this.bindings = bindings;
+            this.level = level;
+            // The global scope is shared across RuleContexts (and outlives them); track it through its version rather
+            // than registering a listener on it for every RuleContext
+            this.managed = bindings instanceof DefaultBindings && !ScopedBindings.GLOBAL_SCOPE.equals(name);
+        }
+
+        private void bound(Binding<?> binding) {
+            // Only wins if there is nothing in a higher scope
+            index.compute(binding.getName(), (k, existing) -> existing == null || existing.level <= level
+                    ? new IndexEntry(binding, level) : existing);
+            changed(level);
+        }
+
+        @Override
+        public String toString() {
+            return "NamedScope{" +
+                    "name='" + name + '\'' +
+                    ", bindings=" + bindings +
+                    '}';
+        }
+    }
+}
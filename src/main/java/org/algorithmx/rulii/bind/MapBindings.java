@@ -0,0 +1,175 @@
+/*
+ * This software is licensed under the Apache 2 license, quoted below.
+ *
+ * Copyright (c) 1999-2021, Algorithmx Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.algorithmx.rulii.bind;
+
+import org.algorithmx.rulii.lib.spring.util.Assert;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Live view of a Map's entries as Bindings (the same entries MapBindingLoader would load). Nothing is copied; a value
+ * is only read when its Binding value is accessed and writes go straight through to the Map. The Type of an entry
+ * Binding is the class of its value when the Binding is first accessed (Object if the value is null).
+ *
+ * Keys must be added/removed through put/remove (not directly on the Map) while the MapBindings is in use; the
+ * version (and therefore anything indexed/cached against it, such as the ScopedBindings name index and the parameter
+ * matches) only tracks changes made through this view. Values can be changed directly on the Map, but doing so does
+ * not change the Binding versions.
+ * Anything else bound is stored in a regular (map based) Bindings.
+ *
+ * @author Max Arulananthan
+ * @since 1.0
+ */
+public class MapBindings extends DeclaredBindings {
+
+    private final Map<String, ?> map;
+    // Created on first access
+    private final Map<String, EntryBinding> bindings = new ConcurrentHashMap<>();
+    // Number of keys added/removed through this view
+    private final AtomicLong structure = new AtomicLong();
+
+    private MapBindings(Map<String, ?> map) {
+        super();
+        Assert.notNull(map, "map cannot be null.");
+        this.map = map;
+    }
+
+    /**
+     * Creates a new view over the given Map.
+     *
+     * @param map target map.
+     * @return new MapBindings.
+     */
+    public static MapBindings create(Map<String, ?> map) {
+        return new MapBindings(map);
+    }
+
+    public Map<String, ?> getMap() {
+        return map;
+    }
+
+    /**
+     * Puts the given entry into the Map. Keys must be added this way (rather than directly on the Map) for the change
+     * to be seen by anything that has indexed these Bindings. Use the entry Binding to just change a value.
+     *
+     * @param name entry key.
+     * @param value entry value.
+     * @throws InvalidBindingException if the Map cannot be modified.
+     */
+    @SuppressWarnings("unchecked")
+    public void put(String name, Object value) {
+        Assert.notNull(name, "name cannot be null.");
+
+        try {
+            ((Map<String, Object>) map).put(name, value);
+        } catch (UnsupportedOperationException e) {
+            throw new InvalidBindingException("Attempting to change a immutable Map [" + name + "]");
+        }
+
+        // Binding Type is worked out again from the new value
+        bindings.remove(name);
+        structure.incrementAndGet();
+    }
+
+    /**
+     * Removes the given entry from the Map. Keys must be removed this way (rather than directly on the Map) for the
+     * change to be seen by anything that has indexed these Bindings.
+     *
+     * @param name entry key.
+     * @return true if the entry existed; false otherwise.
+     * @throws InvalidBindingException if the Map cannot be modified.
+     */
+    public boolean remove(String name) {
+        Assert.notNull(name, "name cannot be null.");
+        if (!map.containsKey(name)) return false;
+
+        try {
+            map.remove(name);
+        } catch (UnsupportedOperationException e) {
+            throw new InvalidBindingException("Attempting to change a immutable Map [" + name + "]");
+        }
+
+        bindings.remove(name);
+        structure.incrementAndGet();
+        return true;
+    }
+
+    @Override
+    public long getVersion() {
+        // Only changes made through this view are tracked
+        return super.getVersion() + structure.get();
+    }
+
+    @Override
+    protected int getDeclaredSize() {
+        return map.size();
+    }
+
+    @Override
+    protected Binding<?> getDeclaredBinding(String name) {
+        if (!map.containsKey(name)) return null;
+        return bindings.computeIfAbsent(name, EntryBinding::new);
+    }
+
+    @Override
+    protected void collectDeclaredBindings(List<Binding<?>> result) {
+        for (String key : map.keySet()) {
+            result.add(getDeclaredBinding(key));
+        }
+    }
+
+    /**
+     * Binding view of a Map entry.
+     */
+    private class EntryBinding extends AbstractBinding<Object> {
+
+        private EntryBinding(String name) {
+            super(name, map.get(name) != null ? map.get(name).getClass() : Object.class, false, null);
+            changed();
+        }
+
+        @Override
+        public Object getValue() {
+            return map.get(getName());
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public void setValue(Object value) {
+            // Make sure we can edit this value
+            checkEditable();
+
+            // Looks like they are passing us a wrong value type
+            if (value != null && !isAssignable(value.getClass())) {
+                throw new InvalidBindingException(getName(), getType(), value);
+            }
+
+            try {
+                ((Map<String, Object>) map).put(getName(), value);
+            } catch (UnsupportedOperationException e) {
+                throw new InvalidBindingException("Attempting to change a immutable Binding [" + getName() + "]");
+            }
+
+            changed();
+        }
+    }
+}
@@ -0,0 +1,608 @@
+/*
+ * This software is licensed under the Apache 2 license, quoted below.
+ *
+ * Copyright (c) 1999-2021, Algorithmx Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.algorithmx.rulii.bind;
+
+import org.algorithmx.rulii.lib.spring.util.Assert;
+import org.algorithmx.rulii.util.RuleUtils;
+import org.algorithmx.rulii.util.TypeReference;
+
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Thread safe Bindings backed by a persistent (structurally shared) hash array mapped trie. Every change (bind or
+ * value change) creates a new version of the trie that shares everything but the changed path with the previous one,
+ * which makes snapshot() and derive() O(1) regardless of the number of Bindings. Readers never lock.
+ *
+ * Bindings are copied in when they are bound (changing the original Binding afterwards has no effect); values must be
+ * changed through the Bindings returned by these Bindings.
+ *
+ * Typical use : load a large (reference data) set of Bindings once and hand a snapshot (read only) or a derived copy
+ * (private changes) to every concurrent rule execution.
+ *
+ * @author Max Arulananthan
+ * @since 1.0
+ */
+public class PersistentBindings implements Bindings {
+
+    private static final State EMPTY = new State(BitmapNode.EMPTY, 0, 0L);
+
+    private final AtomicReference<State> state;
+    private final boolean frozen;
+    // Binding views (mutable Bindings only)
+    private final Map<String, EntryView> views;
+
+    private PersistentBindings(State state, boolean frozen) {
+        super();
+        this.state = new AtomicReference<>(state);
+        this.frozen = frozen;
+        this.views = frozen ? null : new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Creates a new empty (mutable) PersistentBindings.
+     *
+     * @return new PersistentBindings.
+     */
+    public static PersistentBindings create() {
+        return new PersistentBindings(EMPTY, false);
+    }
+
+    /**
+     * Read only view of the current Bindings and values. Nothing is copied; changes made afterwards are not visible
+     * in the snapshot.
+     *
+     * @return immutable snapshot.
+     */
+    public PersistentBindings snapshot() {
+        return frozen ? this : new PersistentBindings(state.get(), true);
+    }
+
+    /**
+     * Mutable copy of the current Bindings and values. Nothing is copied; changes made to the copy are not visible
+     * here (and vice versa).
+     *
+     * @return new PersistentBindings starting with the current Bindings.
+     */
+    public PersistentBindings derive() {
+        return new PersistentBindings(state.get(), false);
+    }
+
+    /**
+     * Determines whether these Bindings are a read only snapshot.
+     *
+     * @return true if read only; false otherwise.
+     */
+    public boolean isSnapshot() {
+        return frozen;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <S extends Bindings, T> S bind(Binding<T> binding) throws BindingAlreadyExistsException {
+        Assert.notNull(binding, "binding cannot be null");
+        if (frozen) throw new UnsupportedOperationException();
+
+        Entry entry = new Entry(binding);
+
+        while (true) {
+            State current = state.get();
+            Entry existing = current.root.find(entry.name, entry.hash, 0);
+
+            if (existing != null) throw new BindingAlreadyExistsException(getBinding(existing.name));
+
+            State next = new State(current.root.put(entry, 0), current.size + 1, current.version + 1);
+            if (state.compareAndSet(current, next)) return (S) this;
+        }
+    }
+
+    @Override
+    public int size() {
+        return state.get().size;
+    }
+
+    @Override
+    public long getVersion() {
+        return state.get().version;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> Binding<T> getBinding(String name) {
+        Assert.notNull(name, "name cannot be null.");
+        Entry entry = state.get().root.find(name, hash(name), 0);
+
+        if (entry == null) return null;
+        // Entries are immutable; use them as is
+        if (frozen) return (Binding<T>) entry;
+
+        return (Binding<T>) views.computeIfAbsent(name, EntryView::new);
+    }
+
+    @Override
+    public <T> Binding<T> getBinding(String name, TypeReference<T> type) {
+        Binding<T> result = getBinding(name);
+        // Make sure it also matches the Type
+        return result != null && result.isTypeAcceptable(type.getType()) ? result : null;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> Map<String, Binding<T>> getBindings(TypeReference<T> type) {
+        Map<String, Binding<T>> result = new HashMap<>();
+
+        for (Iterator<Binding<?>> it = iterator(); it.hasNext();) {
+            Binding<?> binding = it.next();
+            if (binding.isTypeAcceptable(type.getType())) result.put(binding.getName(), (Binding<T>) binding);
+        }
+
+        return Collections.unmodifiableMap(result);
+    }
+
+    @Override
+    public Map<String, ?> asMap() {
+        List<Entry> entries = new ArrayList<>();
+        state.get().root.collect(entries);
+
+        Map<String, Object> result = new HashMap<>();
+        for (Entry entry : entries) result.put(entry.name, entry.value);
+        return result;
+    }
+
+    @Override
+    public Iterator<Binding<?>> iterator() {
+        List<Entry> entries = new ArrayList<>();
+        state.get().root.collect(entries);
+
+        List<Binding<?>> result = new ArrayList<>(entries.size());
+        for (Entry entry : entries) result.add(frozen ? entry : views.computeIfAbsent(entry.name, EntryView::new));
+        return result.iterator();
+    }
+
+    @Override
+    public Bindings asImmutableBindings() {
+        return snapshot();
+    }
+
+    @Override
+    public String prettyPrint(String prefix) {
+        StringBuilder result = new StringBuilder(System.lineSeparator());
+
+        for (Iterator<Binding<?>> it = iterator(); it.hasNext();) {
+            Binding<?> binding = it.next();
+            if (binding.getValue() instanceof Bindings) continue;
+
+            result.append(prefix + binding.getSummary() + System.lineSeparator());
+        }
+
+        return result.toString();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof Bindings)) return false;
+        return asMap().equals(((Bindings) o).asMap());
+    }
+
+    @Override
+    public int hashCode() {
+        return asMap().hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return prettyPrint("");
+    }
+
+    private Entry getEntry(String name) {
+        return state.get().root.find(name, hash(name), 0);
+    }
+
+    private void setValue(Entry entry, Object value) {
+        // Make sure we can edit this value
+        if (!entry.editable) {
+            throw new InvalidBindingException("Attempting to change a immutable Binding [" + entry.name + "]");
+        }
+
+        // Looks like they are passing us a wrong value type
+        if (value != null && !entry.isAssignable(value.getClass())) {
+            throw new InvalidBindingException(entry.name, entry.type, value);
+        }
+
+        Entry changed = new Entry(entry, value);
+
+        while (true) {
+            State current = state.get();
+            State next = new State(current.root.put(changed, 0), current.size, current.version);
+            if (state.compareAndSet(current, next)) return;
+        }
+    }
+
+    private static int hash(String name) {
+        int result = name.hashCode();
+        return result ^ (result >>> 16);
+    }
+
+    /**
+     * Root of the trie along with its size/version.
+     */
+    private static final class State {
+
+        private final Node root;
+        private final int size;
+        private final long version;
+
+        private State(Node root, int size, long version) {
+            super();
+            this.root = root;
+            this.size = size;
+            this.version = version;
+        }
+    }
+
+    /**
+     * Trie node.
+     */
+    private abstract static class Node {
+
+        abstract Entry find(String name, int hash, int shift);
+
+        abstract Node put(Entry entry, int shift);
+
+        abstract void collect(List<Entry> result);
+
+        static Node merge(Entry entry1, Entry entry2, int shift) {
+            // Ran out of hash bits
+            if (shift >= 32) return new CollisionNode(new Entry[] {entry1, entry2});
+
+            int bit1 = bit(entry1.hash, shift);
+            int bit2 = bit(entry2.hash, shift);
+
+            if (bit1 == bit2) return new BitmapNode(bit1, new Object[] {merge(entry1, entry2, shift + 5)});
+
+            // Children are ordered by bit position (bit 31 is negative as an int)
+            return Integer.compareUnsigned(bit1, bit2) < 0
+                    ? new BitmapNode(bit1 | bit2, new Object[] {entry1, entry2})
+                    : new BitmapNode(bit1 | bit2, new Object[] {entry2, entry1});
+        }
+
+        static int bit(int hash, int shift) {
+            return 1 << ((hash >>> shift) & 31);
+        }
+    }
+
+    /**
+     * Node holding up to 32 children (Entries or Nodes) indexed by a 5 bit slice of the hash.
+     */
+    private static final class BitmapNode extends Node {
+
+        private static final BitmapNode EMPTY = new BitmapNode(0, new Object[0]);
+
+        private final int bitmap;
+        private final Object[] children;
+
+        private BitmapNode(int bitmap, Object[] children) {
+            super();
+            this.bitmap = bitmap;
+            this.children = children;
+        }
+
+        @Override
+        Entry find(String name, int hash, int shift) {
+            int bit = bit(hash, shift);
+            if ((bitmap & bit) == 0) return null;
+
+            Object child = children[Integer.bitCount(bitmap & (bit - 1))];
+
+            if (child instanceof Entry) {
+                Entry entry = (Entry) child;
+                return entry.hash == hash && entry.name.equals(name) ? entry : null;
+            }
+
+            return ((Node) child).find(name, hash, shift + 5);
+        }
+
+        @Override
+        Node put(Entry entry, int shift) {
+            int bit = bit(entry.hash, shift);
+            int index = Integer.bitCount(bitmap & (bit - 1));
+
+            if ((bitmap & bit) == 0) {
+                Object[] result = new Object[children.length + 1];
+                System.arraycopy(children, 0, result, 0, index);
+                result[index] = entry;
+                System.arraycopy(children, index, result, index + 1, children.length - index);
+                return new BitmapNode(bitmap | bit, result);
+            }
+
+            Object child = children[index];
+            Object replacement;
+
+            if (child instanceof Entry) {
+                Entry existing = (Entry) child;
+                replacement = existing.name.equals(entry.name) ? entry : merge(existing, entry, shift + 5);
+            } else {
+                replacement = ((Node) child).put(entry, shift + 5);
+            }
+
+            Object[] result = children.clone();
+            result[index] = replacement;
+            return new BitmapNode(bitmap, result);
+        }
+
+        @Override
+        void collect(List<Entry> result) {
+            for (Object child : children) {
+                if (child instanceof Entry) result.add((Entry) child);
+                else ((Node) child).collect(result);
+            }
+        }
+    }
+
+    /**
+     * Node holding Entries with the exact same hash.
+     */
+    private static final class CollisionNode extends Node {
+
+        private final Entry[] entries;
+
+        private CollisionNode(Entry[] entries) {
+            super();
+            this.entries = entries;
+        }
+
+        @Override
+        Entry find(String name, int hash, int shift) {
+            for (Entry entry : entries) {
+                if (entry.name.equals(name)) return entry;
+            }
+
+            return null;
+        }
+
+        @Override
+        Node put(Entry entry, int shift) {
+            for (int i = 0; i < entries.length; i++) {
+                if (entries[i].name.equals(entry.name)) {
+                    Entry[] result = entries.clone();
+                    result[i] = entry;
+                    return new CollisionNode(result);
+                }
+            }
+
+            Entry[] result = new Entry[entries.length + 1];
+            System.arraycopy(entries, 0, result, 0, entries.length);
+            result[entries.length] = entry;
+            return new CollisionNode(result);
+        }
+
+        @Override
+        void collect(List<Entry> result) {
+            Collections.addAll(result, entries);
+        }
+    }
+
+    /**
+     * Immutable Binding stored in the trie. A value change creates a new Entry.
+     */
+    private static final class Entry implements Binding<Object> {
+
+        private final String name;
+        private final int hash;
+        private final Type type;
+        private final Object value;
+        private final long version;
+        private final boolean editable;
+        private final boolean primary;
+        private final String description;
+
+        private Entry(Binding<?> binding) {
+            super();
+            this.name = binding.getName();
+            this.hash = hash(name);
+            this.type = binding.getType();
+            this.value = binding.getValue();
+            this.version = AbstractBinding.nextVersion();
+            this.editable = binding.isEditable();
+            this.primary = binding.isPrimary();
+            this.description = binding.getDescription();
+        }
+
+        private Entry(Entry entry, Object value) {
+            super();
+            this.name = entry.name;
+            this.hash = entry.hash;
+            this.type = entry.type;
+            this.value = value;
+            this.version = AbstractBinding.nextVersion();
+            this.editable = entry.editable;
+            this.primary = entry.primary;
+            this.description = entry.description;
+        }
+
+        @Override
+        public String getName() {
+            return name;
+        }
+
+        @Override
+        public Type getType() {
+            return type;
+        }
+
+        @Override
+        public Object getValue() {
+            return value;
+        }
+
+        @Override
+        public void setValue(Object value) {
+            throw new InvalidBindingException("Attempting to change a immutable Binding [" + name + "]");
+        }
+
+        @Override
+        public long getVersion() {
+            return version;
+        }
+
+        @Override
+        public boolean isEditable() {
+            // Entries are only handed out by snapshots
+            return false;
+        }
+
+        @Override
+        public boolean isPrimary() {
+            return primary;
+        }
+
+        @Override
+        public String getDescription() {
+            return description;
+        }
+
+        @Override
+        public String getTypeName() {
+            return type instanceof Class ? ((Class<?>) type).getSimpleName() : type.getTypeName();
+        }
+
+        @Override
+        public String getTypeAndName() {
+            return getTypeName() + " " + name;
+        }
+
+        @Override
+        public String getSummary() {
+            return "(" + getTypeAndName() + " = " + value + ")";
+        }
+
+        @Override
+        public Binding<Object> immutableSelf() {
+            return this;
+        }
+
+        @Override
+        public String toString() {
+            return "Name = " + name +
+                    ", Type = " + getTypeName() +
+                    ", Value = " + RuleUtils.getTextValue(value, 80) +
+                    ", Primary = " + primary +
+                    ", Description = " + description;
+        }
+    }
+
+    /**
+     * Binding view (of the latest Entry) handed out by mutable Bindings.
+     */
+    private final class EntryView implements Binding<Object> {
+
+        private final String name;
+
+        private EntryView(String name) {
+            super();
+            this.name = name;
+        }
+
+        private Entry getEntry() {
+            return PersistentBindings.this.getEntry(name);
+        }
+
+        @Override
+        public String getName() {
+            return name;
+        }
+
+        @Override
+        public Type getType() {
+            return getEntry().type;
+        }
+
+        @Override
+        public Object getValue() {
+            return getEntry().value;
+        }
+
+        @Override
+        public void setValue(Object value) {
+            PersistentBindings.this.setValue(getEntry(), value);
+        }
+
+        @Override
+        public long getVersion() {
+            return getEntry().version;
+        }
+
+        @Override
+        public boolean isEditable() {
+            return getEntry().editable;
+        }
+
+        @Override
+        public boolean isPrimary() {
+            return getEntry().primary;
+        }
+
+        @Override
+        public String getDescription() {
+            return getEntry().description;
+        }
+
+        @Override
+        public String getTypeName() {
+            return getEntry().getTypeName();
+        }
+
+        @Override
+        public String getTypeAndName() {
+            return getEntry().getTypeAndName();
+        }
+
+        @Override
+        public String getSummary() {
+            return getEntry().getSummary();
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof EntryView)) return false;
+            EntryView that = (EntryView) o;
+            return name.equals(that.name) && Objects.equals(getValue(), that.getValue());
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(name, getValue());
+        }
+
+        @Override
+        public String toString() {
+            return getEntry().toString();
+        }
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * This software is licensed under the Apache 2 license, quoted below.
+ *
+ * Copyright (c) 1999-2021, Algorithmx Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.algorithmx.rulii.bind;
+
+import java.lang.reflect.Type;
+
+/**
+ * Base class for the Bindings that hold a primitive value without boxing it. The generic setValue method accepts
+ * any value that can be widened to the primitive type (ie: short/char -> int, int -> long, long -> double).
+ *
+ * @param <T> boxed type of the Binding.
+ *
+ * @author Max Arulananthan
+ * @since 1.0
+ * @see Binding
+ */
+public abstract class PrimitiveBinding<T> extends AbstractBinding<T> {
+
+    protected PrimitiveBinding(String name, Type type, boolean primary, String description) {
+        super(name, type, primary, description);
+    }
+
+    @Override
+    public void setValue(T value) {
+        // Generics are erased; Bindings.setValue can pass us any value type
+        Object target = value;
+
+        // Primitives cannot be null; looks like they are passing us a wrong value type
+        if (target == null || !isAssignable(target.getClass())) {
+            throw new InvalidBindingException(getName(), getType(), target);
+        }
+
+        setPrimitive(target);
+    }
+
+    /**
+     * Sets the (already type checked) value of the Binding.
+     *
+     * @param value new value; assignable to the Binding type.
+     */
+    protected abstract void setPrimitive(Object value);
+
+    /**
+     * Widens the given value to a Number.
+     *
+     * @param value Number or Character.
+     * @return value as a Number.
+     */
+    protected static Number widen(Object value) {
+        return value instanceof Character ? Integer.valueOf((Character) value) : (Number) value;
+    }
+}
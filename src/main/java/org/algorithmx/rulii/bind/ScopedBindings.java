@@ -59,6 +59,16 @@ public interface ScopedBindings extends Bindings {
         return new DefaultScopedBindings(name);
     }
 
+    /**
+     * Creates the array backed implementation with a flattened name index (see IndexedScopedBindings). Scopes must be
+     * added/removed by one thread at a time.
+     *
+     * @return new indexed implementation instance.
+     */
+    static ScopedBindings createIndexed() {
+        return new IndexedScopedBindings(ROOT_SCOPE);
+    }
+
     /**
      * Returns the current working scope.
      *
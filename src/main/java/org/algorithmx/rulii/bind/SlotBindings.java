@@ -0,0 +1,172 @@
+/*
+ * This software is licensed under the Apache 2 license, quoted below.
+ *
+ * Copyright (c) 1999-2021, Algorithmx Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.algorithmx.rulii.bind;
+
+import org.algorithmx.rulii.lib.spring.util.Assert;
+import org.algorithmx.rulii.util.RuleUtils;
+import org.algorithmx.rulii.util.reflect.ReflectionUtils;
+
+import java.lang.reflect.Type;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Bindings for a BindingSchema. The declared Bindings always exist and store their values in an Object[] (indexed
+ * by slot); anything else bound is stored in a regular (map based) Bindings.
+ *
+ * @author Max Arulananthan
+ * @since 1.0
+ * @see BindingSchema
+ */
+public class SlotBindings extends DeclaredBindings {
+
+    private final BindingSchema schema;
+    private final Object[] values;
+    private final long[] versions;
+    private final SlotBinding[] slots;
+
+    SlotBindings(BindingSchema schema) {
+        super();
+        Assert.notNull(schema, "schema cannot be null.");
+        this.schema = schema;
+        this.values = new Object[schema.size()];
+        this.versions = new long[schema.size()];
+        this.slots = new SlotBinding[schema.size()];
+
+        for (int i = 0; i < slots.length; i++) {
+            values[i] = ReflectionUtils.getDefaultValue(schema.getType(i));
+            versions[i] = AbstractBinding.nextVersion();
+            slots[i] = new SlotBinding(i);
+        }
+    }
+
+    public BindingSchema getSchema() {
+        return schema;
+    }
+
+    /**
+     * Binding stored in the given slot.
+     *
+     * @param slot slot number.
+     * @param <T> generic type of the Binding.
+     * @return Binding.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> Binding<T> getBinding(int slot) {
+        return (Binding<T>) slots[slot];
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> T getValue(int slot) {
+        return (T) values[slot];
+    }
+
+    public void setValue(int slot, Object value) {
+        slots[slot].setValue(value);
+    }
+
+    @Override
+    protected int getDeclaredSize() {
+        return slots.length;
+    }
+
+    @Override
+    protected Binding<?> getDeclaredBinding(String name) {
+        int slot = schema.getSlot(name);
+        return slot >= 0 ? slots[slot] : null;
+    }
+
+    @Override
+    protected void collectDeclaredBindings(List<Binding<?>> result) {
+        Collections.addAll(result, slots);
+    }
+
+    /**
+     * Binding view of a slot.
+     */
+    private class SlotBinding implements Binding<Object> {
+
+        private final int slot;
+
+        private SlotBinding(int slot) {
+            super();
+            this.slot = slot;
+        }
+
+        @Override
+        public String getName() {
+            return schema.getName(slot);
+        }
+
+        @Override
+        public Type getType() {
+            return schema.getType(slot);
+        }
+
+        @Override
+        public Object getValue() {
+            return values[slot];
+        }
+
+        @Override
+        public void setValue(Object value) {
+            // Looks like they are passing us a wrong value type
+            if (value != null && !isAssignable(value.getClass())) {
+                throw new InvalidBindingException(getName(), getType(), value);
+            }
+
+            values[slot] = value;
+            versions[slot] = AbstractBinding.nextVersion();
+        }
+
+        @Override
+        public long getVersion() {
+            return versions[slot];
+        }
+
+        @Override
+        public String getDescription() {
+            return null;
+        }
+
+        @Override
+        public String getTypeName() {
+            Type type = getType();
+            return type instanceof Class ? ((Class<?>) type).getSimpleName() : type.getTypeName();
+        }
+
+        @Override
+        public String getTypeAndName() {
+            return getTypeName() + " " + getName();
+        }
+
+        @Override
+        public String getSummary() {
+            return "(" + getTypeAndName() + " = " + getValue() + ")";
+        }
+
+        @Override
+        public String toString() {
+            return "Name = " + getName() +
+                    ", Type = " + getTypeName() +
+                    ", Value = " + RuleUtils.getTextValue(getValue(), 80) +
+                    ", Slot = " + slot;
+        }
+    }
+}
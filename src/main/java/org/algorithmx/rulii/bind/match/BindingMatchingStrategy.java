@@ -64,4 +64,14 @@ public interface BindingMatchingStrategy {
      * @return Bindings that match the criteria.
      */
     <T> Map<String, Binding<T>> match(Bindings bindings, String name, TypeReference<T> type);
+
+    /**
+     * Determines whether a Binding with the given name (and an acceptable type) is always the match when one exists.
+     * Such strategies can be short-circuited with name based lookups (such as BindingSchema slots).
+     *
+     * @return true if the strategy matches by name first; false otherwise.
+     */
+    default boolean isNameFirst() {
+        return false;
+    }
 }
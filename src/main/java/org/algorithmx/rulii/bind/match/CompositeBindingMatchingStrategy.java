@@ -67,4 +67,9 @@ public class CompositeBindingMatchingStrategy implements BindingMatchingStrategy
 
         return Collections.unmodifiableMap(result);
     }
+
+    @Override
+    public boolean isNameFirst() {
+        return stopWhenMatched && strategies[0].isNameFirst();
+    }
 }
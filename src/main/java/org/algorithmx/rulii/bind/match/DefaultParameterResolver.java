@@ -26,12 +26,13 @@ import org.algorithmx.rulii.convert.ConverterRegistry;
 import org.algorithmx.rulii.core.UnrulyException;
 import org.algorithmx.rulii.core.model.MethodDefinition;
 import org.algorithmx.rulii.core.model.ParameterDefinition;
-import org.algorithmx.rulii.lib.apache.reflect.TypeUtils;
 import org.algorithmx.rulii.lib.spring.util.Assert;
 import org.algorithmx.rulii.util.TypeReference;
 import org.algorithmx.rulii.util.reflect.ObjectFactory;
 import org.algorithmx.rulii.util.reflect.ReflectionUtils;
+import org.algorithmx.rulii.util.reflect.TypeAssignability;
 
+import java.lang.reflect.Type;
 import java.util.Map;
 
 /**
@@ -42,7 +43,9 @@ import java.util.Map;
  */
 public class DefaultParameterResolver implements ParameterResolver {
 
-    private boolean autoConvert = true;
+    private volatile boolean autoConvert = true;
+    // Replaced whenever a setting changes; invalidates the precomputed ParameterValueStrategies
+    private volatile Object settings = new Object();
 
     public DefaultParameterResolver() {
         super();
@@ -122,26 +125,62 @@ public class DefaultParameterResolver implements ParameterResolver {
     protected Object getValue(ParameterMatch match, MethodDefinition definition,
                               BindingMatchingStrategy matchingStrategy, ConverterRegistry registry) {
         Assert.notNull(match, "match cannot be null.");
+        Object currentSettings = settings;
+        ParameterValueStrategy strategy = match.getValueStrategy(registry, currentSettings);
 
-        if (match.getDefinition().isBindingType()) {
-            return match.getBinding();
+        if (strategy == null) {
+            strategy = createValueStrategy(match, definition, matchingStrategy, registry);
+            match.setValueStrategy(registry, currentSettings, strategy);
         }
 
-        if (match.getBinding() == null) return getDefaultValue(match, definition, matchingStrategy, registry);
+        return strategy.getValue(match);
+    }
+
+    /**
+     * Works out (once per ParameterMatch) how the parameter value is produced : the Binding itself, the Binding value
+     * as is, the converted Binding value or the default value. Note that default values are computed once and shared.
+     *
+     * @param match parameter match.
+     * @param definition method definition.
+     * @param matchingStrategy matching strategy used.
+     * @param registry converter registry.
+     * @return value strategy.
+     */
+    protected ParameterValueStrategy createValueStrategy(ParameterMatch match, MethodDefinition definition,
+                                                        BindingMatchingStrategy matchingStrategy,
+                                                        ConverterRegistry registry) {
+        if (match.getDefinition().isBindingType()) return ParameterValueStrategy.binding();
+
+        if (match.getBinding() == null) {
+            return ParameterValueStrategy.constant(getDefaultValue(match, definition, matchingStrategy, registry));
+        }
 
-        Object result = match.getBinding().getValue();
+        Type type = match.getDefinition().getType();
 
-        if (result != null && isAutoConvert()) {
-            result = autoConvert(result, match, registry);
+        if (isAutoConvert() && !TypeAssignability.isAssignable(type, match.getBinding().getType())) {
+            Converter converter = registry.find(match.getBinding().getType(), type);
+            if (converter != null) return ParameterValueStrategy.convert(converter, type);
         }
 
-        return result;
+        return ParameterValueStrategy.identity();
     }
 
+    /**
+     * Converts the Binding value to the parameter type (if required).
+     *
+     * @param result Binding value.
+     * @param match parameter match.
+     * @param registry converter registry.
+     * @return converted value.
+     * @deprecated no longer called; the Converter is now looked up once per ParameterMatch. Override
+     * {@link #createValueStrategy(ParameterMatch, MethodDefinition, BindingMatchingStrategy, ConverterRegistry)}
+     * (and return a {@link ParameterValueStrategy}) to customize the conversion instead.
+     */
+    @Deprecated
     protected Object autoConvert(Object result, ParameterMatch match, ConverterRegistry registry) {
         if (match.getBinding() == null) return result;
 
-        if (!TypeUtils.isAssignable(match.getDefinition().getType(), match.getBinding().getType())) {
+        if (!TypeAssignability.isAssignable(match.getDefinition().getType(), match.getBinding().getType())) {
             Converter converter = registry.find(match.getBinding().getType(), match.getDefinition().getType());
             if (converter != null) result = converter.convert(result, match.getDefinition().getType());
         }
@@ -185,5 +224,6 @@ public class DefaultParameterResolver implements ParameterResolver {
 
     public void setAutoConvert(boolean autoConvert) {
         this.autoConvert = autoConvert;
+        this.settings = new Object();
     }
 }
@@ -54,4 +54,9 @@ public class MatchByNameAndTypeMatchingStrategy implements BindingMatchingStrate
 
         return Collections.unmodifiableMap(result);
     }
+
+    @Override
+    public boolean isNameFirst() {
+        return true;
+    }
 }
@@ -53,4 +53,9 @@ public class MatchByNameMatchingStrategy implements BindingMatchingStrategy {
 
         return Collections.unmodifiableMap(result);
     }
+
+    @Override
+    public boolean isNameFirst() {
+        return true;
+    }
 }
@@ -33,6 +33,8 @@ public class ParameterMatch {
 
     private final ParameterDefinition definition;
     private final Binding<Object> binding;
+    // Computed on first resolve
+    private volatile PreparedStrategy prepared;
 
     public ParameterMatch(ParameterDefinition definition, Binding<Object> binding) {
         super();
@@ -53,6 +55,22 @@ public class ParameterMatch {
         return definition.isBindingType();
     }
 
+    /**
+     * Strategy computed for this match with the given registry/settings.
+     *
+     * @param registry registry the strategy was computed with.
+     * @param settings resolver settings the strategy was computed with.
+     * @return strategy if one was computed with the given registry/settings; null otherwise.
+     */
+    ParameterValueStrategy getValueStrategy(Object registry, Object settings) {
+        PreparedStrategy result = prepared;
+        return result != null && result.registry == registry && result.settings == settings ? result.strategy : null;
+    }
+
+    void setValueStrategy(Object registry, Object settings, ParameterValueStrategy strategy) {
+        this.prepared = new PreparedStrategy(registry, settings, strategy);
+    }
+
     @Override
     public String toString() {
         return "ParameterMatch{" +
@@ -60,4 +78,18 @@ public class ParameterMatch {
                 ", binding=" + binding +
                 '}';
     }
+
+    private static final class PreparedStrategy {
+
+        private final Object registry;
+        private final Object settings;
+        private final ParameterValueStrategy strategy;
+
+        private PreparedStrategy(Object registry, Object settings, ParameterValueStrategy strategy) {
+            super();
+            this.registry = registry;
+            this.settings = settings;
+            this.strategy = strategy;
+        }
+    }
 }
@@ -0,0 +1,87 @@
+/*
+ * This software is licensed under the Apache 2 license, quoted below.
+ *
+ * Copyright (c) 1999-2021, Algorithmx Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.algorithmx.rulii.bind.match;
+
+import org.algorithmx.rulii.bind.Binding;
+import org.algorithmx.rulii.convert.Converter;
+
+import java.lang.reflect.Type;
+
+/**
+ * Strategy used to produce the value of a matched parameter (ie: pass the Binding value as is, convert it, use a
+ * default value). Strategies are computed once per ParameterMatch (see DefaultParameterResolver) so that resolving a
+ * value does not require any type checks or lookups.
+ *
+ * @author Max Arulananthan.
+ * @since 1.0
+ */
+@FunctionalInterface
+public interface ParameterValueStrategy {
+
+    /**
+     * Produces the value of the parameter.
+     *
+     * @param match parameter match.
+     * @return parameter value.
+     */
+    Object getValue(ParameterMatch match);
+
+    /**
+     * Passes the Binding value as is.
+     *
+     * @return identity strategy.
+     */
+    static ParameterValueStrategy identity() {
+        return match -> match.getBinding().getValue();
+    }
+
+    /**
+     * Passes the Binding itself (for Binding<?> parameters).
+     *
+     * @return binding strategy.
+     */
+    static ParameterValueStrategy binding() {
+        return ParameterMatch::getBinding;
+    }
+
+    /**
+     * Converts the Binding value to the desired type.
+     *
+     * @param converter converter to use.
+     * @param type desired type.
+     * @return converting strategy.
+     */
+    @SuppressWarnings("unchecked")
+    static ParameterValueStrategy convert(Converter converter, Type type) {
+        return match -> {
+            Object result = match.getBinding().getValue();
+            return result != null ? converter.convert(result, type) : null;
+        };
+    }
+
+    /**
+     * Always uses the given value.
+     *
+     * @param value constant value.
+     * @return constant strategy.
+     */
+    static ParameterValueStrategy constant(Object value) {
+        return match -> value;
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * This software is licensed under the Apache 2 license, quoted below.
+ *
+ * Copyright (c) 1999-2021, Algorithmx Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.algorithmx.rulii.convert;
+
+import org.algorithmx.rulii.lib.spring.util.Assert;
+import org.algorithmx.rulii.util.reflect.TypeAssignability;
+
+import java.lang.reflect.Type;
+import java.util.Arrays;
+
+/**
+ * Converter that converts a value in multiple hops (ie: A -> B -> C) using a chain of Converters.
+ *
+ * @param <T> source type.
+ * @param <R> target type.
+ *
+ * @author Max Arulananthan.
+ * @since 1.0
+ */
+public final class ConverterChain<T, R> implements Converter<T, R> {
+
+    private final Type sourceType;
+    private final Type targetType;
+    private final Converter[] converters;
+    // Type each converter converts to; the last one is the target type
+    private final Type[] types;
+
+    /**
+     * Ctor taking the chain.
+     *
+     * @param sourceType source type.
+     * @param targetType target type.
+     * @param converters converters in the order they are applied.
+     * @param intermediateTypes type produced by each converter (except the last one which produces the target type).
+     */
+    ConverterChain(Type sourceType, Type targetType, Converter<?, ?>[] converters, Type[] intermediateTypes) {
+        super();
+        Assert.notNull(sourceType, "sourceType cannot be null.");
+        Assert.notNull(targetType, "targetType cannot be null.");
+        Assert.notNullArray(converters, "converters cannot be null.");
+        Assert.isTrue(intermediateTypes.length == converters.length - 1, "intermediateTypes must match the converters.");
+        this.sourceType = sourceType;
+        this.targetType = targetType;
+        this.converters = converters;
+        this.types = Arrays.copyOf(intermediateTypes, converters.length);
+        this.types[converters.length - 1] = targetType;
+    }
+
+    @Override
+    public Type getSourceType() {
+        return sourceType;
+    }
+
+    @Override
+    public Type getTargetType() {
+        return targetType;
+    }
+
+    /**
+     * Converters in the order they are applied.
+     *
+     * @return chained converters.
+     */
+    public Converter<?, ?>[] getConverters() {
+        return Arrays.copyOf(converters, converters.length);
+    }
+
+    @Override
+    public boolean canConvert(Type sourceType, Type targetType) {
+        return TypeAssignability.isAssignable(sourceType, this.sourceType)
+                && TypeAssignability.isAssignable(targetType, this.targetType);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public R convert(T value, Type toType) throws ConversionException {
+        Object result = value;
+
+        for (int i = 0; i < converters.length; i++) {
+            if (result == null) return null;
+            result = converters[i].convert(result, i == converters.length - 1 ? toType : types[i]);
+        }
+
+        return (R) result;
+    }
+
+    @Override
+    public String toString() {
+        return "ConverterChain{" +
+                "sourceType=" + sourceType +
+                ", targetType=" + targetType +
+                ", converters=" + Arrays.toString(converters) +
+                '}';
+    }
+}
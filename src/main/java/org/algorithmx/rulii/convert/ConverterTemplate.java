@@ -18,8 +18,8 @@
 
 package org.algorithmx.rulii.convert;
 
-import org.algorithmx.rulii.lib.apache.reflect.TypeUtils;
 import org.algorithmx.rulii.lib.spring.util.Assert;
+import org.algorithmx.rulii.util.reflect.TypeAssignability;
 
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
@@ -71,7 +71,7 @@ public abstract class ConverterTemplate<T, R> implements Converter<T, R> {
 
     @Override
     public boolean canConvert(Type sourceType, Type targetType) {
-        return TypeUtils.isAssignable(sourceType, this.sourceType) && TypeUtils.isAssignable(targetType, this.targetType);
+        return TypeAssignability.isAssignable(sourceType, this.sourceType) && TypeAssignability.isAssignable(targetType, this.targetType);
     }
 
     protected Type captureType(int index) {
@@ -37,12 +37,16 @@ import org.algorithmx.rulii.convert.text.TextToUUIDConverter;
 import org.algorithmx.rulii.convert.text.TextToUrlConverter;
 import org.algorithmx.rulii.lib.spring.util.Assert;
 
+import java.lang.reflect.Modifier;
 import java.lang.reflect.Type;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
-import java.util.Objects;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 
 /**
@@ -53,8 +57,24 @@ import java.util.concurrent.ConcurrentHashMap;
  */
 public class DefaultConverterRegistry implements ConverterRegistry {
 
-    private List<Converter<?, ?>> converters = Collections.synchronizedList(new ArrayList<>());
-    private Map<ConverterKey, Converter<?, ?>> converterCache = new ConcurrentHashMap();
+    /**
+     * Maximum number of Converters chained together to get from the source to the target type.
+     */
+    public static final int MAX_CHAIN_LENGTH = 3;
+
+    // Marks a cached miss
+    private static final Converter<?, ?> NO_CONVERTER = new ConverterTemplate<Object, Object>(Object.class, Object.class) {
+        @Override
+        public Object convert(Object value, Type toType) {
+            throw new UnsupportedOperationException();
+        }
+    };
+
+    // Registration order; replaced (never modified) on register
+    private volatile Converter<?, ?>[] converters = new Converter<?, ?>[0];
+    // source -> target -> Converter (or NO_CONVERTER); replaced on register
+    private volatile Map<Type, Map<Type, Converter<?, ?>>> converterCache = new ConcurrentHashMap<>();
+
     /**
      * Ctor to create a new ConverterRegistry.
      *
@@ -70,14 +90,18 @@ public class DefaultConverterRegistry implements ConverterRegistry {
      *
      * @param converter new converter.
      */
-
-    public void register(Converter<?, ?> converter) {
+    public synchronized void register(Converter<?, ?> converter) {
         Assert.notNull(converter, "Converter cannot be null.");
-        converters.add(converter);
+        Converter<?, ?>[] result = Arrays.copyOf(converters, converters.length + 1);
+        result[result.length - 1] = converter;
+        this.converters = result;
+        // Previous answers (including misses) may no longer be correct
+        this.converterCache = new ConcurrentHashMap<>();
     }
 
     /**
-     * Finds a Convert for the desired source/target types.
+     * Finds a Convert for the desired source/target types. Directly registered Converters are preferred (the latest
+     * registered one wins); otherwise the shortest chain of Converters (up to MAX_CHAIN_LENGTH) is used.
      *
      * @param source source type.
      * @param target target type.
@@ -85,50 +109,110 @@ public class DefaultConverterRegistry implements ConverterRegistry {
      * @param <T> target generic type.
      * @return converter if one is found; null otherwise.
      */
+    @SuppressWarnings("unchecked")
     public <S, T> Converter<S, T> find(Type source, Type target) {
-        Converter result = converterCache.get(new ConverterKey(source, target));
+        Assert.notNull(source, "source cannot be null.");
+        Assert.notNull(target, "target cannot be null.");
 
-        if (result != null) return result;
+        Map<Type, Map<Type, Converter<?, ?>>> cache = converterCache;
+        Map<Type, Converter<?, ?>> targets = cache.get(source);
+        Converter<?, ?> result = targets != null ? targets.get(target) : null;
 
-        int size = converters.size();
+        if (result == null) {
+            result = resolve(source, target);
+            if (result == null) result = NO_CONVERTER;
+            cache.computeIfAbsent(source, key -> new ConcurrentHashMap<>()).put(target, result);
+        }
 
-        for (int i = size - 1; i >=0; i--) {
-            if (converters.get(i).canConvert(source, target)) {
-                result = converters.get(i);
-                break;
+        return result != NO_CONVERTER ? (Converter<S, T>) result : null;
+    }
+
+    private Converter<?, ?> resolve(Type source, Type target) {
+        Converter<?, ?>[] candidates = converters;
+        Converter<?, ?> result = findDirect(candidates, source, target);
+
+        return result != null ? result : findChain(candidates, source, target);
+    }
+
+    private static Converter<?, ?> findDirect(Converter<?, ?>[] candidates, Type source, Type target) {
+        for (int i = candidates.length - 1; i >= 0; i--) {
+            if (candidates[i].canConvert(source, target)) return candidates[i];
+        }
+
+        return null;
+    }
+
+    /**
+     * Breadth first search through the converter target types; the first (shortest) chain found wins.
+     */
+    private static Converter<?, ?> findChain(Converter<?, ?>[] candidates, Type source, Type target) {
+        List<Hop> frontier = Collections.singletonList(new Hop(null, null, source));
+        Set<Type> visited = new HashSet<>();
+        visited.add(source);
+
+        for (int length = 2; length <= MAX_CHAIN_LENGTH && !frontier.isEmpty(); length++) {
+            List<Hop> next = new ArrayList<>();
+
+            for (Hop hop : frontier) {
+                for (int i = candidates.length - 1; i >= 0; i--) {
+                    Converter<?, ?> converter = candidates[i];
+                    Type intermediate = converter.getTargetType();
+
+                    if (!isConcrete(intermediate) || visited.contains(intermediate)
+                            || !converter.canConvert(hop.type, intermediate)) continue;
+
+                    Hop candidate = new Hop(hop, converter, intermediate);
+                    Converter<?, ?> last = findDirect(candidates, intermediate, target);
+
+                    if (last != null) return candidate.toChain(source, target, last);
+
+                    visited.add(intermediate);
+                    next.add(candidate);
+                }
             }
+
+            frontier = next;
         }
 
-        // TODO : Dont' cache if source or target is Object.class
-        if (result != null) converterCache.put(new ConverterKey(source, target), result);
+        return null;
+    }
 
-        return result;
+    private static boolean isConcrete(Type type) {
+        // Converters targeting abstract types (ie: Enum) need the actual type to produce a value
+        if (!(type instanceof Class)) return false;
+        Class<?> result = (Class<?>) type;
+        return !result.isInterface() && !Modifier.isAbstract(result.getModifiers());
     }
 
-    private static class ConverterKey {
-        private final Type sourceType;
-        private final Type targetType;
+    /**
+     * Step in a conversion chain.
+     */
+    private static final class Hop {
+
+        private final Hop previous;
+        private final Converter<?, ?> converter;
+        private final Type type;
 
-        public ConverterKey(Type sourceType, Type targetType) {
+        private Hop(Hop previous, Converter<?, ?> converter, Type type) {
             super();
-            Assert.notNull(sourceType, "sourceType cannot be null.");
-            Assert.notNull(targetType, "targetType cannot be null.");
-            this.sourceType = sourceType;
-            this.targetType = targetType;
+            this.previous = previous;
+            this.converter = converter;
+            this.type = type;
         }
 
-        @Override
-        public boolean equals(Object o) {
-            if (this == o) return true;
-            if (o == null || getClass() != o.getClass()) return false;
-            ConverterKey that = (ConverterKey) o;
-            return sourceType.equals(that.sourceType) &&
-                    targetType.equals(that.targetType);
-        }
+        private Converter<?, ?> toChain(Type source, Type target, Converter<?, ?> last) {
+            LinkedList<Converter<?, ?>> converters = new LinkedList<>();
+            LinkedList<Type> types = new LinkedList<>();
 
-        @Override
-        public int hashCode() {
-            return Objects.hash(sourceType, targetType);
+            converters.add(last);
+
+            for (Hop hop = this; hop.converter != null; hop = hop.previous) {
+                converters.addFirst(hop.converter);
+                types.addFirst(hop.type);
+            }
+
+            return new ConverterChain<>(source, target, converters.toArray(new Converter<?, ?>[converters.size()]),
+                    types.toArray(new Type[types.size()]));
         }
     }
 
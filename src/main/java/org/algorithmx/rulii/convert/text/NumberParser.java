@@ -0,0 +1,342 @@
+/*
+ * This software is licensed under the Apache 2 license, quoted below.
+ *
+ * Copyright (c) 1999-2021, Algorithmx Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.algorithmx.rulii.convert.text;
+
+import org.algorithmx.rulii.lib.apache.math.NumberUtils;
+import org.algorithmx.rulii.lib.spring.util.Assert;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+
+/**
+ * Parses numbers straight from a CharSequence. Plain ASCII decimal input (ie: "-1234", "12.50") is parsed in place
+ * without creating a String; anything else (hex, exponents, whitespace, invalid input etc) falls back to the standard
+ * JDK parsing so the results and errors (NumberFormatException) are exactly the same.
+ *
+ * Integer/Long/BigInteger follow the decode rules (ie: "0x1F", "#1F" and octal "017" are supported).
+ *
+ * @author Max Arulananthan.
+ * @since 1.0
+ */
+public final class NumberParser {
+
+    private static final int NOT_PLAIN = -1;
+    // Doubles with up to 15 digits and a power of 10 up to 22 are exact; one division is correctly rounded
+    private static final int MAX_DOUBLE_DIGITS = 15;
+    private static final double[] DOUBLE_POWERS_OF_10 = {
+            1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10,
+            1e11, 1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22};
+    // Same for floats : mantissa up to 2^24 and powers of 10 up to 10
+    private static final long MAX_FLOAT_MANTISSA = 1L << 24;
+    private static final float[] FLOAT_POWERS_OF_10 = {1e0f, 1e1f, 1e2f, 1e3f, 1e4f, 1e5f, 1e6f, 1e7f, 1e8f, 1e9f, 1e10f};
+    private static final int MAX_LONG_DIGITS = 18;
+
+    private NumberParser() {
+        super();
+    }
+
+    /**
+     * View of a char[] slice as a CharSequence (nothing is copied).
+     *
+     * @param chars characters.
+     * @param offset start of the slice.
+     * @param length length of the slice.
+     * @return CharSequence view.
+     */
+    public static CharSequence wrap(char[] chars, int offset, int length) {
+        return CharBuffer.wrap(chars, offset, length);
+    }
+
+    /**
+     * View of the remaining bytes (ASCII) of the ByteBuffer as a CharSequence (nothing is copied). The position of
+     * the buffer is not changed.
+     *
+     * @param buffer ASCII bytes.
+     * @return CharSequence view.
+     */
+    public static CharSequence ascii(ByteBuffer buffer) {
+        Assert.notNull(buffer, "buffer cannot be null.");
+        return new AsciiSequence(buffer, buffer.position(), buffer.remaining());
+    }
+
+    /**
+     * Parses the value as an int (same as Integer.decode).
+     *
+     * @param value input.
+     * @return parsed value.
+     * @throws NumberFormatException if the value cannot be parsed.
+     */
+    public static int parseInt(CharSequence value) {
+        int digits = integerDigits(value, true);
+
+        if (digits > 0 && digits <= 10) {
+            long result = integerValue(value);
+            if (result >= Integer.MIN_VALUE && result <= Integer.MAX_VALUE) return (int) result;
+        }
+
+        return Integer.decode(value.toString());
+    }
+
+    /**
+     * Parses the value as a long (same as Long.decode).
+     *
+     * @param value input.
+     * @return parsed value.
+     * @throws NumberFormatException if the value cannot be parsed.
+     */
+    public static long parseLong(CharSequence value) {
+        int digits = integerDigits(value, true);
+        if (digits > 0 && digits <= MAX_LONG_DIGITS) return integerValue(value);
+        return Long.decode(value.toString());
+    }
+
+    /**
+     * Parses the value as a short (same as Short.parseShort).
+     *
+     * @param value input.
+     * @return parsed value.
+     * @throws NumberFormatException if the value cannot be parsed.
+     */
+    public static short parseShort(CharSequence value) {
+        int digits = integerDigits(value, false);
+
+        if (digits > 0 && digits <= 5) {
+            long result = integerValue(value);
+            if (result >= Short.MIN_VALUE && result <= Short.MAX_VALUE) return (short) result;
+        }
+
+        return Short.parseShort(value.toString());
+    }
+
+    /**
+     * Parses the value as a byte (same as Byte.parseByte).
+     *
+     * @param value input.
+     * @return parsed value.
+     * @throws NumberFormatException if the value cannot be parsed.
+     */
+    public static byte parseByte(CharSequence value) {
+        int digits = integerDigits(value, false);
+
+        if (digits > 0 && digits <= 3) {
+            long result = integerValue(value);
+            if (result >= Byte.MIN_VALUE && result <= Byte.MAX_VALUE) return (byte) result;
+        }
+
+        return Byte.parseByte(value.toString());
+    }
+
+    /**
+     * Parses the value as a BigInteger (same as NumberUtils.createBigInteger).
+     *
+     * @param value input.
+     * @return parsed value.
+     * @throws NumberFormatException if the value cannot be parsed.
+     */
+    public static BigInteger parseBigInteger(CharSequence value) {
+        int digits = integerDigits(value, true);
+        if (digits > 0 && digits <= MAX_LONG_DIGITS) return BigInteger.valueOf(integerValue(value));
+        return NumberUtils.createBigInteger(value.toString());
+    }
+
+    /**
+     * Parses the value as a double (same as Double.parseDouble).
+     *
+     * @param value input.
+     * @return parsed value.
+     * @throws NumberFormatException if the value cannot be parsed.
+     */
+    public static double parseDouble(CharSequence value) {
+        int scale = decimalScale(value, MAX_DOUBLE_DIGITS);
+
+        if (scale != NOT_PLAIN && scale < DOUBLE_POWERS_OF_10.length) {
+            long unscaled = unscaledValue(value);
+            // Keep the sign of -0
+            double result = Math.abs(unscaled) / DOUBLE_POWERS_OF_10[scale];
+            return isNegative(value) ? -result : result;
+        }
+
+        return Double.parseDouble(value.toString());
+    }
+
+    /**
+     * Parses the value as a float (same as Float.parseFloat).
+     *
+     * @param value input.
+     * @return parsed value.
+     * @throws NumberFormatException if the value cannot be parsed.
+     */
+    public static float parseFloat(CharSequence value) {
+        int scale = decimalScale(value, 8);
+
+        if (scale != NOT_PLAIN && scale < FLOAT_POWERS_OF_10.length) {
+            long unscaled = Math.abs(unscaledValue(value));
+
+            if (unscaled <= MAX_FLOAT_MANTISSA) {
+                float result = unscaled / FLOAT_POWERS_OF_10[scale];
+                return isNegative(value) ? -result : result;
+            }
+        }
+
+        return Float.parseFloat(value.toString());
+    }
+
+    /**
+     * Parses the value as a BigDecimal (same as new BigDecimal(String)).
+     *
+     * @param value input.
+     * @return parsed value.
+     * @throws NumberFormatException if the value cannot be parsed.
+     */
+    public static BigDecimal parseBigDecimal(CharSequence value) {
+        int scale = decimalScale(value, MAX_LONG_DIGITS);
+        if (scale != NOT_PLAIN) return BigDecimal.valueOf(unscaledValue(value), scale);
+        return new BigDecimal(value.toString());
+    }
+
+    /**
+     * Number of digits in a plain ([+-]digits) integer.
+     *
+     * @param value input.
+     * @param decode true if a leading 0 means octal (in which case we leave it to the JDK).
+     * @return number of digits; NOT_PLAIN if the input is not a plain integer.
+     */
+    private static int integerDigits(CharSequence value, boolean decode) {
+        int length = value.length();
+        int start = signLength(value);
+
+        if (start == length) return NOT_PLAIN;
+        if (decode && value.charAt(start) == '0' && length - start > 1) return NOT_PLAIN;
+
+        for (int i = start; i < length; i++) {
+            if (!isDigit(value.charAt(i))) return NOT_PLAIN;
+        }
+
+        return length - start;
+    }
+
+    private static long integerValue(CharSequence value) {
+        long result = 0;
+
+        for (int i = signLength(value); i < value.length(); i++) {
+            result = result * 10 + (value.charAt(i) - '0');
+        }
+
+        return isNegative(value) ? -result : result;
+    }
+
+    /**
+     * Number of fraction digits in a plain ([+-]digits[.digits]) decimal.
+     *
+     * @param value input.
+     * @param maxDigits maximum number of digits allowed.
+     * @return scale; NOT_PLAIN if the input is not a plain decimal or has too many digits.
+     */
+    private static int decimalScale(CharSequence value, int maxDigits) {
+        int length = value.length();
+        int digits = 0;
+        int point = -1;
+
+        for (int i = signLength(value); i < length; i++) {
+            char c = value.charAt(i);
+
+            if (isDigit(c)) {
+                digits++;
+            } else if (c == '.' && point < 0) {
+                point = i;
+            } else {
+                return NOT_PLAIN;
+            }
+        }
+
+        if (digits == 0 || digits > maxDigits) return NOT_PLAIN;
+        return point < 0 ? 0 : length - point - 1;
+    }
+
+    private static long unscaledValue(CharSequence value) {
+        long result = 0;
+
+        for (int i = signLength(value); i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c != '.') result = result * 10 + (c - '0');
+        }
+
+        return isNegative(value) ? -result : result;
+    }
+
+    private static int signLength(CharSequence value) {
+        if (value.length() == 0) return 0;
+        char c = value.charAt(0);
+        return c == '-' || c == '+' ? 1 : 0;
+    }
+
+    private static boolean isNegative(CharSequence value) {
+        return value.length() > 0 && value.charAt(0) == '-';
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    /**
+     * CharSequence view over ASCII bytes.
+     */
+    private static final class AsciiSequence implements CharSequence {
+
+        private final ByteBuffer buffer;
+        private final int offset;
+        private final int length;
+
+        private AsciiSequence(ByteBuffer buffer, int offset, int length) {
+            super();
+            this.buffer = buffer;
+            this.offset = offset;
+            this.length = length;
+        }
+
+        @Override
+        public int length() {
+            return length;
+        }
+
+        @Override
+        public char charAt(int index) {
+            if (index < 0 || index >= length) throw new IndexOutOfBoundsException("index : " + index);
+            return (char) (buffer.get(offset + index) & 0xFF);
+        }
+
+        @Override
+        public CharSequence subSequence(int start, int end) {
+            if (start < 0 || end > length || start > end) {
+                throw new IndexOutOfBoundsException("start : " + start + " end : " + end);
+            }
+
+            return new AsciiSequence(buffer, offset + start, end - start);
+        }
+
+        @Override
+        public String toString() {
+            char[] result = new char[length];
+            for (int i = 0; i < length; i++) result[i] = charAt(i);
+            return new String(result);
+        }
+    }
+}
@@ -0,0 +1,181 @@
+/*
+ * This software is licensed under the Apache 2 license, quoted below.
+ *
+ * Copyright (c) 1999-2021, Algorithmx Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.algorithmx.rulii.convert.text;
+
+import org.algorithmx.rulii.lib.spring.util.Assert;
+
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.TemporalAccessor;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Thread safe parser that tries a list of (immutable, shared) DateTimeFormatters. The formatter that worked for an
+ * input "shape" (ie: "dddd-dd-ddTdd:dd:dd" where d is any digit) is remembered so that later inputs with the same
+ * shape go straight to it.
+ *
+ * Also has allocation light parsing for the common ISO-8601 local date/date-time forms.
+ *
+ * @author Max Arulananthan.
+ * @since 1.0
+ */
+public final class TemporalParser {
+
+    /**
+     * Maximum number of input shapes remembered. The cache is dropped when it is full.
+     */
+    public static final int MAX_SHAPES = 256;
+
+    private final DateTimeFormatter[] formats;
+    private final Map<Long, DateTimeFormatter> shapes = new ConcurrentHashMap<>();
+
+    /**
+     * Ctor taking the accepted formats.
+     *
+     * @param formats accepted formats in the order they are tried.
+     */
+    public TemporalParser(DateTimeFormatter...formats) {
+        super();
+        Assert.notNullArray(formats, "formats cannot be null.");
+        Assert.isTrue(formats.length > 0, "at least one format is required.");
+        this.formats = Arrays.copyOf(formats, formats.length);
+    }
+
+    /**
+     * Parses the text using the accepted formats.
+     *
+     * @param text input text.
+     * @return parsed (resolved) temporal.
+     * @throws DateTimeParseException if none of the formats can parse the text.
+     */
+    public TemporalAccessor parse(CharSequence text) {
+        Assert.notNull(text, "text cannot be null.");
+        Long shape = shapeOf(text);
+        DateTimeFormatter cached = shapes.get(shape);
+
+        if (cached != null) {
+            try {
+                return cached.parse(text);
+            } catch (DateTimeParseException e) {
+                // Same shape but not the same format; try them all
+            }
+        }
+
+        DateTimeParseException error = null;
+
+        for (DateTimeFormatter format : formats) {
+            if (format == cached) continue;
+
+            try {
+                TemporalAccessor result = format.parse(text);
+                if (shapes.size() >= MAX_SHAPES) shapes.clear();
+                shapes.put(shape, format);
+                return result;
+            } catch (DateTimeParseException e) {
+                error = e;
+            }
+        }
+
+        throw error != null ? error : new DateTimeParseException("Text cannot be parsed", text, 0);
+    }
+
+    /**
+     * Parses a plain ISO-8601 local date (uuuu-MM-dd) without going through a DateTimeFormatter.
+     *
+     * @param text input text.
+     * @return local date; null if the text is not in the plain form.
+     * @throws DateTimeException if the text is in the plain form but is not a valid date.
+     */
+    public static LocalDate parseIsoDate(CharSequence text) {
+        if (text.length() != 10 || !isDate(text)) return null;
+        return LocalDate.of(number(text, 0, 4), number(text, 5, 7), number(text, 8, 10));
+    }
+
+    /**
+     * Parses a plain ISO-8601 local date-time (uuuu-MM-ddTHH:mm[:ss[.fraction]]) without going through a
+     * DateTimeFormatter.
+     *
+     * @param text input text.
+     * @return local date-time; null if the text is not in the plain form.
+     * @throws DateTimeException if the text is in the plain form but is not a valid date-time.
+     */
+    public static LocalDateTime parseIsoDateTime(CharSequence text) {
+        int length = text.length();
+        if (length < 16 || !isDate(text) || text.charAt(10) != 'T' || !isTwoDigits(text, 11)
+                || text.charAt(13) != ':' || !isTwoDigits(text, 14)) return null;
+
+        int second = 0;
+        int nano = 0;
+
+        if (length > 16) {
+            if (length < 19 || text.charAt(16) != ':' || !isTwoDigits(text, 17)) return null;
+            second = number(text, 17, 19);
+
+            if (length > 19) {
+                // Fraction of 1 to 9 digits
+                if (text.charAt(19) != '.' || length == 20 || length > 29) return null;
+
+                for (int i = 20; i < length; i++) {
+                    if (!isDigit(text.charAt(i))) return null;
+                }
+
+                nano = number(text, 20, length);
+                for (int i = length; i < 29; i++) nano *= 10;
+            }
+        }
+
+        return LocalDateTime.of(number(text, 0, 4), number(text, 5, 7), number(text, 8, 10),
+                number(text, 11, 13), number(text, 14, 16), second, nano);
+    }
+
+    private static boolean isDate(CharSequence text) {
+        return isDigit(text.charAt(0)) && isDigit(text.charAt(1)) && isTwoDigits(text, 2) && text.charAt(4) == '-'
+                && isTwoDigits(text, 5) && text.charAt(7) == '-' && isTwoDigits(text, 8);
+    }
+
+    private static boolean isTwoDigits(CharSequence text, int index) {
+        return isDigit(text.charAt(index)) && isDigit(text.charAt(index + 1));
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static int number(CharSequence text, int start, int end) {
+        int result = 0;
+        for (int i = start; i < end; i++) result = result * 10 + (text.charAt(i) - '0');
+        return result;
+    }
+
+    private static Long shapeOf(CharSequence text) {
+        long result = text.length();
+
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            result = 31 * result + (isDigit(c) ? 'd' : c);
+        }
+
+        return result;
+    }
+}
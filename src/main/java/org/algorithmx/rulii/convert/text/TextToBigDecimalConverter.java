@@ -41,7 +41,7 @@ public class TextToBigDecimalConverter extends ConverterTemplate<CharSequence, B
         if (value == null) return null;
 
         try {
-            return new BigDecimal(value.toString());
+            return NumberParser.parseBigDecimal(value);
         } catch (NumberFormatException e) {
             throw new ConversionException(e, value, getSourceType(), getTargetType());
         }
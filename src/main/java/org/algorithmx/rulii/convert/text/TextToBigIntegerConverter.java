@@ -20,7 +20,6 @@ package org.algorithmx.rulii.convert.text;
 
 import org.algorithmx.rulii.convert.ConversionException;
 import org.algorithmx.rulii.convert.ConverterTemplate;
-import org.algorithmx.rulii.lib.apache.math.NumberUtils;
 
 import java.lang.reflect.Type;
 import java.math.BigInteger;
@@ -42,7 +41,7 @@ public class TextToBigIntegerConverter extends ConverterTemplate<CharSequence, B
         if (value == null) return null;
 
         try {
-            return NumberUtils.createBigInteger(value.toString());
+            return NumberParser.parseBigInteger(value);
         } catch (NumberFormatException e) {
             throw new ConversionException(e, value, getSourceType(), getTargetType());
         }
@@ -40,7 +40,7 @@ public class TextToByteConverter extends ConverterTemplate<CharSequence, Byte> {
         if (value == null) return null;
 
         try {
-            return Byte.valueOf(value.toString());
+            return NumberParser.parseByte(value);
         } catch (NumberFormatException e) {
             throw new ConversionException(e, value, getSourceType(), getTargetType());
         }
@@ -22,57 +22,102 @@ import org.algorithmx.rulii.convert.ConversionException;
 import org.algorithmx.rulii.convert.ConverterTemplate;
 
 import java.lang.reflect.Type;
-import java.text.ParseException;
-import java.text.SimpleDateFormat;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeFormatterBuilder;
+import java.time.format.ResolverStyle;
+import java.time.temporal.ChronoField;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAccessor;
+import java.time.temporal.TemporalQueries;
 import java.util.Date;
 
 /**
- * Converts a String value to a Date.
+ * Converts a String value to a Date. Values without an offset are in the default time zone. An optional fraction of
+ * a second is accepted but the result is truncated to the second. Dates are resolved strictly (ie: 2020-02-30 is
+ * rejected) and the whole text must match one of the formats.
  *
  * @author Max Arulananthan.
  * @since 1.0
  */
 public class TextToDateConverter extends ConverterTemplate<CharSequence, Date> {
 
-    private static final String DATE_ONLY_FORMAT        = "yyyy-MM-dd";
-    private static final String DATE_TIME_FORMAT        = "yyyy-MM-dd'T'HH:mm:ss";
-    private static final String DATE_TIME_ZONE_FORMAT   = "yyyy-MM-dd'T'HH:mm:ssZ";
+    public static final DateTimeFormatter DATE_ONLY_FORMAT      = DateTimeFormatter.ofPattern("u-M-d")
+            .withResolverStyle(ResolverStyle.STRICT);
+    public static final DateTimeFormatter DATE_TIME_FORMAT      = dateTimeFormat(false);
+    public static final DateTimeFormatter DATE_TIME_ZONE_FORMAT = dateTimeFormat(true);
+
+    private final TemporalParser parser;
+    private final boolean isoFastPath;
 
     public TextToDateConverter() {
+        this(true, DATE_TIME_ZONE_FORMAT, DATE_TIME_FORMAT, DATE_ONLY_FORMAT);
+    }
+
+    /**
+     * Ctor taking the accepted formats (tried in the given order).
+     *
+     * @param formats accepted formats.
+     */
+    public TextToDateConverter(DateTimeFormatter...formats) {
+        this(false, formats);
+    }
+
+    private TextToDateConverter(boolean isoFastPath, DateTimeFormatter...formats) {
         super();
+        this.parser = new TemporalParser(formats);
+        this.isoFastPath = isoFastPath;
     }
 
     @Override
     public Date convert(CharSequence text, Type toType) throws ConversionException {
         if (text == null) return null;
 
-        String value = text.toString();
         try {
-            int timeIndex = value.indexOf('T');
+            if (isoFastPath) {
+                LocalDate date = TemporalParser.parseIsoDate(text);
+                if (date != null) return toDate(date.atStartOfDay(ZoneId.systemDefault()).toInstant());
 
-            if (timeIndex > 0) {
-                int zoneIndex = value.indexOf('-', timeIndex);
-                return zoneIndex > timeIndex ? parseDateTimeZone(value) : parseDateTime(value);
-            } else {
-                return parseDate(value);
+                LocalDateTime dateTime = TemporalParser.parseIsoDateTime(text);
+                if (dateTime != null) return toDate(dateTime.atZone(ZoneId.systemDefault()).toInstant());
             }
-        } catch (Exception e) {
-            throw new ConversionException(e, value, getSourceType(), getTargetType());
+
+            return toDate(parser.parse(text));
+        } catch (DateTimeException | ArithmeticException e) {
+            // Cannot be parsed or is out of the range of a Date
+            throw new ConversionException(e, text, getSourceType(), getTargetType());
         }
     }
 
-    private Date parseDate(String value) throws ParseException {
-        SimpleDateFormat dateFormat = new SimpleDateFormat(DATE_ONLY_FORMAT);
-        return dateFormat.parse(value);
+    private static DateTimeFormatter dateTimeFormat(boolean zoned) {
+        DateTimeFormatterBuilder result = new DateTimeFormatterBuilder()
+                .appendPattern("u-M-d'T'H:m:s")
+                .optionalStart()
+                .appendFraction(ChronoField.NANO_OF_SECOND, 0, 9, true)
+                .optionalEnd();
+        if (zoned) result.appendPattern("Z");
+        return result.toFormatter().withResolverStyle(ResolverStyle.STRICT);
     }
 
-    private Date parseDateTime(String value) throws ParseException {
-        SimpleDateFormat dateFormat = new SimpleDateFormat(DATE_TIME_FORMAT);
-        return dateFormat.parse(value);
+    private static Date toDate(TemporalAccessor temporal) {
+        if (temporal.isSupported(ChronoField.INSTANT_SECONDS)) return toDate(Instant.from(temporal));
+
+        LocalDate date = temporal.query(TemporalQueries.localDate());
+        LocalTime time = temporal.query(TemporalQueries.localTime());
+
+        if (date == null) throw new DateTimeException("Unable to obtain a date from [" + temporal + "]");
+
+        return toDate((time != null ? date.atTime(time) : date.atStartOfDay())
+                .atZone(ZoneId.systemDefault()).toInstant());
     }
 
-    private Date parseDateTimeZone(String value) throws ParseException {
-        SimpleDateFormat dateFormat = new SimpleDateFormat(DATE_TIME_ZONE_FORMAT);
-        return dateFormat.parse(value);
+    private static Date toDate(Instant instant) {
+        // Fractions are not kept
+        return new Date(instant.truncatedTo(ChronoUnit.SECONDS).toEpochMilli());
     }
 }
@@ -40,7 +40,7 @@ public class TextToDoubleConverter extends ConverterTemplate<CharSequence, Doubl
         if (value == null) return null;
 
         try {
-            return Double.valueOf(value.toString());
+            return NumberParser.parseDouble(value);
         } catch (NumberFormatException e) {
             throw new ConversionException(e, value, getSourceType(), getTargetType());
         }
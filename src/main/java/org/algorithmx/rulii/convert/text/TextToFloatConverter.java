@@ -40,7 +40,7 @@ public class TextToFloatConverter extends ConverterTemplate<CharSequence, Float>
         if (value == null) return null;
 
         try {
-            return Float.valueOf(value.toString());
+            return NumberParser.parseFloat(value);
         } catch (NumberFormatException e) {
             throw new ConversionException(e, value, getSourceType(), getTargetType());
         }
@@ -40,7 +40,7 @@ public class TextToIntegerConverter extends ConverterTemplate<CharSequence, Inte
         if (value == null) return null;
 
         try {
-            return Integer.decode(value.toString());
+            return NumberParser.parseInt(value);
         } catch (NumberFormatException e) {
             throw new ConversionException(e, value, getSourceType(), getTargetType());
         }
@@ -22,19 +22,38 @@ import org.algorithmx.rulii.convert.ConversionException;
 import org.algorithmx.rulii.convert.ConverterTemplate;
 
 import java.lang.reflect.Type;
+import java.time.DateTimeException;
 import java.time.LocalDate;
-import java.time.format.DateTimeParseException;
+import java.time.format.DateTimeFormatter;
 
 /**
- * Converts a String value to a LocalDate.
+ * Converts a String value to a LocalDate. Uses ISO-8601 by default.
  *
  * @author Max Arulananthan.
  * @since 1.0
  */
 public class TextToLocalDateConverter extends ConverterTemplate<CharSequence, LocalDate> {
 
+    private final TemporalParser parser;
+    private final boolean isoFastPath;
+
     public TextToLocalDateConverter() {
+        this(true, DateTimeFormatter.ISO_LOCAL_DATE);
+    }
+
+    /**
+     * Ctor taking the accepted formats (tried in the given order).
+     *
+     * @param formats accepted formats.
+     */
+    public TextToLocalDateConverter(DateTimeFormatter...formats) {
+        this(false, formats);
+    }
+
+    private TextToLocalDateConverter(boolean isoFastPath, DateTimeFormatter...formats) {
         super();
+        this.parser = new TemporalParser(formats);
+        this.isoFastPath = isoFastPath;
     }
 
     @Override
@@ -42,8 +61,9 @@ public class TextToLocalDateConverter extends ConverterTemplate<CharSequence, Lo
         if (value == null) return null;
 
         try {
-            return LocalDate.parse(value);
-        } catch (DateTimeParseException e) {
+            LocalDate result = isoFastPath ? TemporalParser.parseIsoDate(value) : null;
+            return result != null ? result : LocalDate.from(parser.parse(value));
+        } catch (DateTimeException e) {
             throw new ConversionException(e, value, getSourceType(), getTargetType());
         }
     }
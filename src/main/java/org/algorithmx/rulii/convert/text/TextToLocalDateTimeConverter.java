@@ -22,19 +22,38 @@ import org.algorithmx.rulii.convert.ConversionException;
 import org.algorithmx.rulii.convert.ConverterTemplate;
 
 import java.lang.reflect.Type;
+import java.time.DateTimeException;
 import java.time.LocalDateTime;
-import java.time.format.DateTimeParseException;
+import java.time.format.DateTimeFormatter;
 
 /**
- * Converts a String value to a LocalDateTime.
+ * Converts a String value to a LocalDateTime. Uses ISO-8601 by default.
  *
  * @author Max Arulananthan.
  * @since 1.0
  */
 public class TextToLocalDateTimeConverter extends ConverterTemplate<CharSequence, LocalDateTime> {
 
+    private final TemporalParser parser;
+    private final boolean isoFastPath;
+
     public TextToLocalDateTimeConverter() {
+        this(true, DateTimeFormatter.ISO_LOCAL_DATE_TIME);
+    }
+
+    /**
+     * Ctor taking the accepted formats (tried in the given order).
+     *
+     * @param formats accepted formats.
+     */
+    public TextToLocalDateTimeConverter(DateTimeFormatter...formats) {
+        this(false, formats);
+    }
+
+    private TextToLocalDateTimeConverter(boolean isoFastPath, DateTimeFormatter...formats) {
         super();
+        this.parser = new TemporalParser(formats);
+        this.isoFastPath = isoFastPath;
     }
 
     @Override
@@ -42,8 +61,9 @@ public class TextToLocalDateTimeConverter extends ConverterTemplate<CharSequence
         if (value == null) return null;
 
         try {
-            return LocalDateTime.parse(value);
-        } catch (DateTimeParseException e) {
+            LocalDateTime result = isoFastPath ? TemporalParser.parseIsoDateTime(value) : null;
+            return result != null ? result : LocalDateTime.from(parser.parse(value));
+        } catch (DateTimeException e) {
             throw new ConversionException(e, value, getSourceType(), getTargetType());
         }
     }
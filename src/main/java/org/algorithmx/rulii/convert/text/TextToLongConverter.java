@@ -40,7 +40,7 @@ public class TextToLongConverter extends ConverterTemplate<CharSequence, Long> {
         if (value == null) return null;
 
         try {
-            return Long.decode(value.toString());
+            return NumberParser.parseLong(value);
         } catch (NumberFormatException e) {
             throw new ConversionException(e, value, getSourceType(), getTargetType());
         }
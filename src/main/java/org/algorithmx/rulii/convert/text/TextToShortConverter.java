@@ -40,7 +40,7 @@ public class TextToShortConverter extends ConverterTemplate<CharSequence, Short>
         if (value == null) return null;
 
         try {
-            return Short.valueOf(value.toString());
+            return NumberParser.parseShort(value);
         } catch (NumberFormatException e) {
             throw new ConversionException(e, value, getSourceType(), getTargetType());
         }
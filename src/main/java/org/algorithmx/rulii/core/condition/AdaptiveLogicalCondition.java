@@ -0,0 +1,291 @@
+/*
+ * This software is licensed under the Apache 2 license, quoted below.
+ *
+ * Copyright (c) 1999-2021, Algorithmx Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.algorithmx.rulii.core.condition;
+
+import org.algorithmx.rulii.annotation.Pinned;
+import org.algorithmx.rulii.core.context.RuleContext;
+import org.algorithmx.rulii.lib.spring.util.Assert;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * LogicalCondition that reorders its operands based on observed statistics. For every operand the average evaluation
+ * time and how often it returns true are recorded; every reorderInterval evaluations the operands are sorted so that
+ * the cheapest operands that are most likely to decide the outcome are evaluated first (cost / probability of
+ * short-circuiting).
+ *
+ * Statistics are only gathered on one in every sampleInterval evaluations (by default reorderInterval / 64, but at
+ * least 1) so that timing the operands does not cost more than it saves. Once STABLE_REORDERS consecutive reorders
+ * leave the order unchanged the condition is considered settled and stops gathering statistics altogether; calling
+ * reset() starts the learning again.
+ *
+ * Reordering assumes the operands are pure. Operands with side effects should be pinned (@Pinned or
+ * ConditionBuilder.pin); a pinned operand keeps its position and no other operand is moved across it. XOR conditions
+ * evaluate all their operands and are never reordered.
+ *
+ * @author Max Arulananthan
+ * @since 1.0
+ */
+public class AdaptiveLogicalCondition implements LogicalCondition {
+
+    public static final int DEFAULT_REORDER_INTERVAL = 1024;
+    public static final int STABLE_REORDERS = 4;
+
+    private final LogicalOperator operator;
+    private final SimpleCondition[] operands;
+    private final boolean[] pinned;
+    private final OperandStatistics[] statistics;
+    private final int reorderInterval;
+    private final int sampleInterval;
+
+    private final AtomicLong evaluations = new AtomicLong();
+    private final AtomicBoolean reordering = new AtomicBoolean(false);
+    // Current evaluation order (indexes into operands)
+    private volatile int[] order;
+    // Number of consecutive reorders that did not change the order
+    private volatile int stableReorders = 0;
+
+    public AdaptiveLogicalCondition(LogicalOperator operator, SimpleCondition...operands) {
+        this(operator, DEFAULT_REORDER_INTERVAL, operands);
+    }
+
+    public AdaptiveLogicalCondition(LogicalOperator operator, int reorderInterval, SimpleCondition...operands) {
+        this(operator, reorderInterval, Math.max(1, reorderInterval / 64), operands);
+    }
+
+    public AdaptiveLogicalCondition(LogicalOperator operator, int reorderInterval, int sampleInterval,
+                                    SimpleCondition...operands) {
+        super();
+        Assert.notNull(operator, "operator cannot be null.");
+        Assert.notNullArray(operands, "operands");
+        Assert.isTrue(operands.length > 0, "operands cannot be empty.");
+        Assert.isTrue(reorderInterval > 0, "reorderInterval must be greater than 0.");
+        Assert.isTrue(sampleInterval > 0, "sampleInterval must be greater than 0.");
+        this.operator = operator;
+        this.operands = operands;
+        this.reorderInterval = reorderInterval;
+        this.sampleInterval = sampleInterval;
+        this.pinned = new boolean[operands.length];
+        this.statistics = new OperandStatistics[operands.length];
+        this.order = new int[operands.length];
+
+        for (int i = 0; i < operands.length; i++) {
+            pinned[i] = isPinned(operands[i]);
+            statistics[i] = new OperandStatistics();
+            order[i] = i;
+        }
+    }
+
+    @Override
+    public boolean isTrue(RuleContext context) throws ConditionExecutionException {
+        int[] current = order;
+        boolean result = false;
+
+        // Order has settled; just evaluate
+        if (isSettled()) {
+            for (int i = 0; i < current.length; i++) {
+                boolean value = operands[current[i]].isTrue(context);
+                result = i == 0 ? value : operator.test(result, value);
+                if (operator.isDecisive(result)) break;
+            }
+            return result;
+        }
+
+        long evaluation = evaluations.incrementAndGet();
+        boolean sample = evaluation % sampleInterval == 0;
+
+        for (int i = 0; i < current.length; i++) {
+            int index = current[i];
+            boolean value;
+
+            if (sample) {
+                long start = System.nanoTime();
+                value = operands[index].isTrue(context);
+                statistics[index].record(System.nanoTime() - start, value);
+            } else {
+                value = operands[index].isTrue(context);
+            }
+
+            result = i == 0 ? value : operator.test(result, value);
+            // Outcome has been decided; no need to evaluate the rest
+            if (operator.isDecisive(result)) break;
+        }
+
+        if (evaluation % reorderInterval == 0) reorder();
+
+        return result;
+    }
+
+    /**
+     * Recomputes the evaluation order based on the statistics gathered so far.
+     */
+    public void reorder() {
+        // XOR does not short-circuit; order does not matter
+        if (operator == LogicalOperator.XOR) return;
+        // Someone else is already on it
+        if (!reordering.compareAndSet(false, true)) return;
+
+        try {
+            double[] ranks = new double[operands.length];
+            for (int i = 0; i < operands.length; i++) ranks[i] = rank(i);
+
+            Integer[] result = new Integer[operands.length];
+            for (int i = 0; i < result.length; i++) result[i] = i;
+
+            int start = 0;
+
+            // Sort each run of unpinned operands; pinned operands stay where they are
+            for (int i = 0; i <= operands.length; i++) {
+                if (i < operands.length && !pinned[i]) continue;
+                if (i - start > 1) Arrays.sort(result, start, i, Comparator.comparingDouble(index -> ranks[index]));
+                start = i + 1;
+            }
+
+            int[] newOrder = Arrays.stream(result).mapToInt(Integer::intValue).toArray();
+            this.stableReorders = Arrays.equals(newOrder, order) ? stableReorders + 1 : 0;
+            this.order = newOrder;
+        } finally {
+            reordering.set(false);
+        }
+    }
+
+    /**
+     * Determines whether the evaluation order has settled (STABLE_REORDERS consecutive reorders did not change it).
+     * A settled condition no longer gathers statistics.
+     *
+     * @return true if the order has settled.
+     */
+    public boolean isSettled() {
+        // XOR is never reordered; nothing to learn
+        return operator == LogicalOperator.XOR || stableReorders >= STABLE_REORDERS;
+    }
+
+    /**
+     * Starts gathering statistics again, for example after the cost of the operands has changed. The gathered
+     * statistics are kept.
+     */
+    public void reset() {
+        this.stableReorders = 0;
+    }
+
+    private double rank(int index) {
+        OperandStatistics stats = statistics[index];
+        long count = stats.getEvaluationCount();
+        // Never evaluated; try it early so that we learn about it
+        if (count == 0) return 0;
+
+        double trueRatio = stats.getTrueRatio();
+        double decisiveRatio = operator == LogicalOperator.AND ? 1 - trueRatio : trueRatio;
+        return stats.getAverageTime() / Math.max(decisiveRatio, 0.000001d);
+    }
+
+    private static boolean isPinned(SimpleCondition condition) {
+        if (condition instanceof PinnedCondition) return true;
+        if (!(condition instanceof Condition)) return false;
+
+        Condition target = (Condition) condition;
+
+        if (target.getMethodDefinition() != null
+                && target.getMethodDefinition().getMethod().isAnnotationPresent(Pinned.class)) return true;
+
+        return target.getTarget() != null && target.getTarget().getClass().isAnnotationPresent(Pinned.class);
+    }
+
+    @Override
+    public LogicalOperator getOperator() {
+        return operator;
+    }
+
+    /**
+     * Operands in the current evaluation order.
+     *
+     * @return operands.
+     */
+    @Override
+    public SimpleCondition[] getOperands() {
+        int[] current = order;
+        SimpleCondition[] result = new SimpleCondition[current.length];
+        for (int i = 0; i < current.length; i++) result[i] = operands[current[i]];
+        return result;
+    }
+
+    /**
+     * Statistics of the operand at the given (original) index.
+     *
+     * @param index original index of the operand.
+     * @return operand statistics.
+     */
+    public OperandStatistics getStatistics(int index) {
+        return statistics[index];
+    }
+
+    public int getReorderInterval() {
+        return reorderInterval;
+    }
+
+    public int getSampleInterval() {
+        return sampleInterval;
+    }
+
+    @Override
+    public String toString() {
+        return "AdaptiveLogicalCondition{" +
+                "operator=" + operator +
+                ", operands=" + Arrays.toString(getOperands()) +
+                '}';
+    }
+
+    /**
+     * Observed evaluation statistics of an operand.
+     */
+    public static class OperandStatistics {
+
+        private final LongAdder evaluationCount = new LongAdder();
+        private final LongAdder trueCount = new LongAdder();
+        private final LongAdder totalTime = new LongAdder();
+
+        private OperandStatistics() {
+            super();
+        }
+
+        private void record(long time, boolean result) {
+            evaluationCount.increment();
+            totalTime.add(time);
+            if (result) trueCount.increment();
+        }
+
+        public long getEvaluationCount() {
+            return evaluationCount.sum();
+        }
+
+        public double getAverageTime() {
+            long count = getEvaluationCount();
+            return count == 0 ? 0 : (double) totalTime.sum() / count;
+        }
+
+        public double getTrueRatio() {
+            long count = getEvaluationCount();
+            return count == 0 ? 0 : (double) trueCount.sum() / count;
+        }
+    }
+}
@@ -46,7 +46,9 @@ import org.algorithmx.rulii.util.reflect.ReflectionUtils;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 import java.util.function.Predicate;
 
 /**
@@ -156,6 +158,98 @@ public class ConditionBuilder extends ExecutableBuilder {
         return with(() -> false).build();
     }
 
+    /**
+     * Creates a Condition that is true if all the given conditions are true. Evaluation stops at the first false
+     * condition; so place the cheaper conditions first.
+     *
+     * @param conditions operands.
+     * @return AND condition.
+     */
+    public static LogicalCondition and(SimpleCondition...conditions) {
+        return logical(LogicalOperator.AND, conditions);
+    }
+
+    /**
+     * Creates a Condition that is true if any of the given conditions are true. Evaluation stops at the first true
+     * condition; so place the cheaper conditions first.
+     *
+     * @param conditions operands.
+     * @return OR condition.
+     */
+    public static LogicalCondition or(SimpleCondition...conditions) {
+        return logical(LogicalOperator.OR, conditions);
+    }
+
+    /**
+     * Creates a Condition that is true if an odd number of the given conditions are true.
+     *
+     * @param conditions operands.
+     * @return XOR condition.
+     */
+    public static LogicalCondition xor(SimpleCondition...conditions) {
+        return logical(LogicalOperator.XOR, conditions);
+    }
+
+    /**
+     * Creates a Condition that negates the given condition.
+     *
+     * @param condition condition to negate.
+     * @return NOT condition.
+     */
+    public static NotCondition not(SimpleCondition condition) {
+        return new DefaultNotCondition(condition);
+    }
+
+    /**
+     * Creates an adaptive version of the given AND/OR condition; its operands are reordered based on their observed
+     * cost and selectivity. See AdaptiveLogicalCondition.
+     *
+     * @param condition logical condition.
+     * @return adaptive logical condition.
+     */
+    public static AdaptiveLogicalCondition adaptive(LogicalCondition condition) {
+        return adaptive(condition, AdaptiveLogicalCondition.DEFAULT_REORDER_INTERVAL);
+    }
+
+    /**
+     * Creates an adaptive version of the given AND/OR condition; its operands are reordered every reorderInterval
+     * evaluations. See AdaptiveLogicalCondition.
+     *
+     * @param condition logical condition.
+     * @param reorderInterval number of evaluations between reorders.
+     * @return adaptive logical condition.
+     */
+    public static AdaptiveLogicalCondition adaptive(LogicalCondition condition, int reorderInterval) {
+        Assert.notNull(condition, "condition cannot be null.");
+        return new AdaptiveLogicalCondition(condition.getOperator(), reorderInterval, condition.getOperands());
+    }
+
+    /**
+     * Pins the given condition; adaptive conditions will not change its position (ex: it has side effects).
+     *
+     * @param condition condition to pin.
+     * @return pinned condition.
+     */
+    public static PinnedCondition pin(SimpleCondition condition) {
+        return new PinnedCondition(condition);
+    }
+
+    private static LogicalCondition logical(LogicalOperator operator, SimpleCondition...conditions) {
+        Assert.notNullArray(conditions, "conditions");
+        List<SimpleCondition> operands = new ArrayList<>(conditions.length);
+
+        for (SimpleCondition condition : conditions) {
+            // Flatten nested conditions with the same operator (ex: and(and(a, b), c) becomes and(a, b, c))
+            if (condition instanceof LogicalCondition && ((LogicalCondition) condition).getOperator() == operator) {
+                operands.addAll(Arrays.asList(((LogicalCondition) condition).getOperands()));
+            } else {
+                operands.add(condition);
+            }
+        }
+
+        return new DefaultLogicalCondition(operator, operands.toArray(new SimpleCondition[operands.size()]));
+    }
+
     public static Condition build(String script, String scriptingLanguage) {
         return with((RuleContext context) -> {
             ScriptProcessor scriptProcessor = ScriptLanguageManager.getScriptProcessor(scriptingLanguage);
@@ -0,0 +1,128 @@
+/*
+ * This software is licensed under the Apache 2 license, quoted below.
+ *
+ * Copyright (c) 1999-2021, Algorithmx Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.algorithmx.rulii.core.condition;
+
+import org.algorithmx.rulii.core.model.ParameterDefinition;
+import org.algorithmx.rulii.lib.spring.util.Assert;
+import org.algorithmx.rulii.util.LambdaUtils;
+
+import java.lang.invoke.SerializedLambda;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Structural identity of a Condition. Two Conditions have the same key if they call the same method on the same
+ * target, or if they are lambdas from the same implementation with equal captured (immutable) values (ex: two script
+ * conditions with the same script text). The parameter names and types must match as well.
+ *
+ * @author Max Arulananthan
+ * @since 1.0
+ */
+public final class ConditionKey {
+
+    private final Object method;
+    private final Object target;
+    private final Object[] capturedArgs;
+    // Names and types of the parameters (definitions can be edited)
+    private final List<Object> parameters;
+
+    private ConditionKey(Object method, Object target, Object[] capturedArgs, List<Object> parameters) {
+        super();
+        this.method = method;
+        this.target = target;
+        this.capturedArgs = capturedArgs;
+        this.parameters = parameters;
+    }
+
+    /**
+     * Creates the key for the given Condition.
+     *
+     * @param condition target condition.
+     * @return key of the condition.
+     */
+    public static ConditionKey create(Condition condition) {
+        Assert.notNull(condition, "condition cannot be null.");
+        SerializedLambda lambda = LambdaUtils.getSafeSerializedLambda(condition.getTarget());
+        List<Object> parameters = new ArrayList<>();
+
+        for (ParameterDefinition parameter : condition.getMethodDefinition().getParameterDefinitions()) {
+            parameters.add(parameter.getName());
+            parameters.add(parameter.getType());
+        }
+
+        if (lambda == null) {
+            return new ConditionKey(condition.getMethodDefinition().getMethod(), condition.getTarget(), null, parameters);
+        }
+
+        Object[] capturedArgs = new Object[lambda.getCapturedArgCount()];
+        for (int i = 0; i < capturedArgs.length; i++) capturedArgs[i] = lambda.getCapturedArg(i);
+
+        return new ConditionKey(lambda.getImplClass() + "." + lambda.getImplMethodName()
+                + lambda.getImplMethodSignature(), null, capturedArgs, parameters);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        ConditionKey other = (ConditionKey) o;
+        if (!method.equals(other.method) || target != other.target) return false;
+        if (!parameters.equals(other.parameters)) return false;
+        if (capturedArgs == null || other.capturedArgs == null) return capturedArgs == other.capturedArgs;
+        if (capturedArgs.length != other.capturedArgs.length) return false;
+
+        for (int i = 0; i < capturedArgs.length; i++) {
+            if (!isSame(capturedArgs[i], other.capturedArgs[i])) return false;
+        }
+
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int result = Objects.hash(method, System.identityHashCode(target), parameters);
+
+        if (capturedArgs != null) {
+            for (Object arg : capturedArgs) {
+                result = 31 * result + (isValue(arg) ? arg.hashCode() : System.identityHashCode(arg));
+            }
+        }
+
+        return result;
+    }
+
+    private static boolean isSame(Object a, Object b) {
+        if (a == b) return true;
+        // Only immutable values are compared by equality; everything else must be the same instance
+        return isValue(a) && a.equals(b);
+    }
+
+    private static boolean isValue(Object value) {
+        return value instanceof String || value instanceof Number || value instanceof Boolean
+                || value instanceof Character || value instanceof Enum || value instanceof Class;
+    }
+
+    @Override
+    public String toString() {
+        return "ConditionKey{" +
+                "method=" + method +
+                '}';
+    }
+}
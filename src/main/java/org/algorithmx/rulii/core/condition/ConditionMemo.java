@@ -0,0 +1,162 @@
+/*
+ * This software is licensed under the Apache 2 license, quoted below.
+ *
+ * Copyright (c) 1999-2021, Algorithmx Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.algorithmx.rulii.core.condition;
+
+import org.algorithmx.rulii.bind.Bindings;
+import org.algorithmx.rulii.bind.match.ParameterMatch;
+import org.algorithmx.rulii.core.context.RuleContext;
+import org.algorithmx.rulii.lib.spring.util.Assert;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Results of shared Conditions for a single execution. A result is only reused if the Bindings structure is unchanged
+ * (nothing rebound) and the values of the Bindings the Condition reads are the same as when it was evaluated.
+ *
+ * Conditions are shared either by wrapping them in a MemoizedCondition or by registering them (see share) for the
+ * duration of the execution, which is how RuleSets share the conditions of their Rules without replacing them.
+ *
+ * Note that changes made inside a value object (rather than through the Binding) are not detected.
+ *
+ * @author Max Arulananthan
+ * @since 1.0
+ */
+public class ConditionMemo {
+
+    private final Map<ConditionKey, Entry> entries = new ConcurrentHashMap<>();
+    // Registered shared Conditions
+    private final Map<Condition, ConditionKey> keys = new ConcurrentHashMap<>();
+
+    public ConditionMemo() {
+        super();
+    }
+
+    /**
+     * Evaluates the given Condition; the result is memoized if the Condition has been registered as shared with the
+     * current memo (see RuleContext.getConditionMemo).
+     *
+     * @param context rule context.
+     * @param condition condition to evaluate.
+     * @return result of the condition.
+     */
+    public static boolean isTrue(RuleContext context, Condition condition) {
+        Assert.notNull(context, "context cannot be null.");
+        ConditionMemo memo = context.getConditionMemo();
+        ConditionKey key = memo != null ? memo.keys.get(condition) : null;
+        return key != null ? memo.isTrue(context, condition, key) : condition.isTrue(context);
+    }
+
+    /**
+     * Registers the given shared Conditions (for the duration of the execution).
+     *
+     * @param conditions shared conditions and their keys.
+     */
+    public void share(Map<Condition, ConditionKey> conditions) {
+        Assert.notNull(conditions, "conditions cannot be null.");
+        keys.putAll(conditions);
+    }
+
+    /**
+     * Evaluates the given Condition, reusing the memoized result (under the given key) if it is still valid.
+     *
+     * @param context rule context.
+     * @param condition condition to evaluate.
+     * @param key condition key.
+     * @return result of the condition.
+     */
+    public boolean isTrue(RuleContext context, Condition condition, ConditionKey key) {
+        long version = context.getBindings().getVersion();
+        // Structure is not tracked; cannot tell whether a memo is still valid
+        if (version == Bindings.UNVERSIONED) return condition.isTrue(context);
+
+        Object[] values = snapshot(context.match(condition.getMethodDefinition()));
+        Boolean result = get(key, version, values);
+
+        if (result != null) return result;
+
+        boolean value = condition.isTrue(context);
+        put(key, version, values, value);
+        return value;
+    }
+
+    /**
+     * Retrieves the memoized result.
+     *
+     * @param key condition key.
+     * @param version current Bindings version.
+     * @param values current values of the Bindings the Condition reads (see snapshot).
+     * @return memoized result; null if there isn't a valid one.
+     */
+    public Boolean get(ConditionKey key, long version, Object[] values) {
+        Entry entry = entries.get(key);
+        if (entry == null || entry.version != version || !isSame(entry.values, values)) return null;
+        return entry.result;
+    }
+
+    public void put(ConditionKey key, long version, Object[] values, boolean result) {
+        entries.put(key, new Entry(version, values, result));
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * Captures the current values of the matched Bindings.
+     *
+     * @param matches parameter matches.
+     * @return current binding values.
+     */
+    public static Object[] snapshot(ParameterMatch[] matches) {
+        if (matches == null) return new Object[0];
+        Object[] result = new Object[matches.length];
+
+        for (int i = 0; i < matches.length; i++) {
+            result[i] = matches[i] != null && matches[i].getBinding() != null ? matches[i].getBinding().getValue() : null;
+        }
+
+        return result;
+    }
+
+    private static boolean isSame(Object[] a, Object[] b) {
+        if (a.length != b.length) return false;
+
+        for (int i = 0; i < a.length; i++) {
+            if (a[i] != b[i] && !Objects.equals(a[i], b[i])) return false;
+        }
+
+        return true;
+    }
+
+    private static class Entry {
+
+        private final long version;
+        private final Object[] values;
+        private final boolean result;
+
+        private Entry(long version, Object[] values, boolean result) {
+            super();
+            this.version = version;
+            this.values = values;
+            this.result = result;
+        }
+    }
+}
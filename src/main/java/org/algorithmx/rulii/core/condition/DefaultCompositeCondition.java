@@ -57,7 +57,9 @@ public class DefaultCompositeCondition implements CompositeCondition {
     @Override
     public boolean isTrue(RuleContext context) throws ConditionExecutionException {
         boolean leftResult = leftOperand.isTrue(context);
-        boolean rightResult = leftOperand.isTrue(context);
+        // Short-circuit; the right side does not change the outcome
+        if (predicate instanceof LogicalOperator && ((LogicalOperator) predicate).isDecisive(leftResult)) return leftResult;
+        boolean rightResult = rightOperand.isTrue(context);
         return predicate.test(leftResult, rightResult);
     }
 }
@@ -59,16 +59,18 @@ public class DefaultCondition implements Condition {
         ParameterMatch[] matches = null;
         Object[] values = null;
         ExecutionEvent<ConditionExecution> event = null;
+        // Only build the event if someone is listening
+        boolean listening = context.getEventProcessor().isListening(EventType.ON_CONDITION);
 
         try {
             matches = context.match(getMethodDefinition());
             values = context.resolve(matches, getMethodDefinition());
             boolean result = isTrue(values);
-            event = new ExecutionEvent(EventType.ON_CONDITION,
+            if (listening) event = new ExecutionEvent(EventType.ON_CONDITION,
                     new ConditionExecution(this, result, getMethodDefinition(), RuleUtils.immutable(matches), values));
             return result;
         } catch (Exception e) {
-            event = new ExecutionEvent(EventType.ON_CONDITION,
+            if (listening) event = new ExecutionEvent(EventType.ON_CONDITION,
                     new ConditionExecution(this, e, getMethodDefinition(), RuleUtils.immutable(matches), values));
             throw new ConditionExecutionException("Unexpected error occurred trying to execute Condition.",
                     e, this, matches, values);
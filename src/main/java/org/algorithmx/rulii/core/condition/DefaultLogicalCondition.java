@@ -0,0 +1,77 @@
+/*
+ * This software is licensed under the Apache 2 license, quoted below.
+ *
+ * Copyright (c) 1999-2021, Algorithmx Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.algorithmx.rulii.core.condition;
+
+import org.algorithmx.rulii.core.context.RuleContext;
+import org.algorithmx.rulii.lib.spring.util.Assert;
+
+import java.util.Arrays;
+
+/**
+ * Default LogicalCondition. Operands are evaluated in order and evaluation stops as soon as the outcome is decided
+ * (ex: first false operand of an AND).
+ *
+ * @author Max Arulananthan
+ * @since 1.0
+ */
+public class DefaultLogicalCondition implements LogicalCondition {
+
+    private final LogicalOperator operator;
+    private final SimpleCondition[] operands;
+
+    public DefaultLogicalCondition(LogicalOperator operator, SimpleCondition...operands) {
+        super();
+        Assert.notNull(operator, "operator cannot be null.");
+        Assert.notNullArray(operands, "operands");
+        Assert.isTrue(operands.length > 0, "operands cannot be empty.");
+        this.operator = operator;
+        this.operands = operands;
+    }
+
+    @Override
+    public boolean isTrue(RuleContext context) throws ConditionExecutionException {
+        boolean result = operands[0].isTrue(context);
+
+        for (int i = 1; i < operands.length; i++) {
+            // Outcome has been decided; no need to evaluate the rest
+            if (operator.isDecisive(result)) return result;
+            result = operator.test(result, operands[i].isTrue(context));
+        }
+
+        return result;
+    }
+
+    @Override
+    public LogicalOperator getOperator() {
+        return operator;
+    }
+
+    @Override
+    public SimpleCondition[] getOperands() {
+        return operands;
+    }
+
+    @Override
+    public String toString() {
+        return "DefaultLogicalCondition{" +
+                "operator=" + operator +
+                ", operands=" + Arrays.toString(operands) +
+                '}';
+    }
+}
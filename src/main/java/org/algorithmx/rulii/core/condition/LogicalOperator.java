@@ -0,0 +1,65 @@
+/*
+ * This software is licensed under the Apache 2 license, quoted below.
+ *
+ * Copyright (c) 1999-2021, Algorithmx Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.algorithmx.rulii.core.condition;
+
+import java.util.function.BiPredicate;
+
+/**
+ * Logical operators used to combine Conditions.
+ *
+ * @author Max Arulananthan
+ * @since 1.0
+ */
+public enum LogicalOperator implements BiPredicate<Boolean, Boolean> {
+
+    // True if all the operands are true; stops at the first false.
+    AND (false),
+
+    // True if any of the operands is true; stops at the first true.
+    OR (true),
+
+    // True if an odd number of operands are true; all operands are evaluated.
+    XOR (null);
+
+    private final Boolean decisiveValue;
+
+    LogicalOperator(Boolean decisiveValue) {
+        this.decisiveValue = decisiveValue;
+    }
+
+    @Override
+    public boolean test(Boolean a, Boolean b) {
+        switch (this) {
+            case AND: return a && b;
+            case OR: return a || b;
+            default: return a ^ b;
+        }
+    }
+
+    /**
+     * Determines whether an operand evaluating to the given value decides the outcome (ie. the remaining operands
+     * do not need to be evaluated).
+     *
+     * @param value operand result.
+     * @return true if the outcome is decided; false otherwise.
+     */
+    public boolean isDecisive(boolean value) {
+        return decisiveValue != null && decisiveValue == value;
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * This software is licensed under the Apache 2 license, quoted below.
+ *
+ * Copyright (c) 1999-2021, Algorithmx Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.algorithmx.rulii.core.condition;
+
+import org.algorithmx.rulii.core.UnrulyException;
+import org.algorithmx.rulii.core.context.RuleContext;
+import org.algorithmx.rulii.core.model.MethodDefinition;
+import org.algorithmx.rulii.lib.spring.util.Assert;
+
+/**
+ * Condition shared by multiple Rules. When a ConditionMemo is active on the RuleContext (ie. during a RuleSet
+ * execution) the result is evaluated once and reused for as long as the Bindings it reads are unchanged.
+ *
+ * @author Max Arulananthan
+ * @since 1.0
+ */
+public class MemoizedCondition implements Condition {
+
+    private final Condition condition;
+    private final ConditionKey key;
+
+    public MemoizedCondition(Condition condition) {
+        this(condition, ConditionKey.create(condition));
+    }
+
+    public MemoizedCondition(Condition condition, ConditionKey key) {
+        super();
+        Assert.notNull(condition, "condition cannot be null.");
+        Assert.notNull(key, "key cannot be null.");
+        this.condition = condition;
+        this.key = key;
+    }
+
+    @Override
+    public boolean isTrue(RuleContext context) throws ConditionExecutionException {
+        Assert.notNull(context, "context cannot be null.");
+        ConditionMemo memo = context.getConditionMemo();
+
+        // Not within an execution; nothing to memoize against
+        return memo != null ? memo.isTrue(context, condition, key) : condition.isTrue(context);
+    }
+
+    @Override
+    public boolean isTrue(Object... params) throws UnrulyException {
+        return condition.isTrue(params);
+    }
+
+    @Override
+    public MethodDefinition getMethodDefinition() {
+        return condition.getMethodDefinition();
+    }
+
+    @Override
+    public Object getTarget() {
+        return condition.getTarget();
+    }
+
+    public Condition getCondition() {
+        return condition;
+    }
+
+    public ConditionKey getKey() {
+        return key;
+    }
+
+    @Override
+    public String toString() {
+        return "MemoizedCondition{" +
+                "condition=" + condition +
+                '}';
+    }
+}
@@ -0,0 +1,55 @@
+/*
+ * This software is licensed under the Apache 2 license, quoted below.
+ *
+ * Copyright (c) 1999-2021, Algorithmx Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.algorithmx.rulii.core.condition;
+
+import org.algorithmx.rulii.core.context.RuleContext;
+import org.algorithmx.rulii.lib.spring.util.Assert;
+
+/**
+ * Wraps a Condition whose position within an adaptive logical condition must not change.
+ *
+ * @author Max Arulananthan
+ * @since 1.0
+ */
+public class PinnedCondition implements SimpleCondition {
+
+    private final SimpleCondition condition;
+
+    public PinnedCondition(SimpleCondition condition) {
+        super();
+        Assert.notNull(condition, "condition cannot be null.");
+        this.condition = condition;
+    }
+
+    public SimpleCondition getCondition() {
+        return condition;
+    }
+
+    @Override
+    public boolean isTrue(RuleContext context) throws ConditionExecutionException {
+        return condition.isTrue(context);
+    }
+
+    @Override
+    public String toString() {
+        return "PinnedCondition{" +
+                "condition=" + condition +
+                '}';
+    }
+}
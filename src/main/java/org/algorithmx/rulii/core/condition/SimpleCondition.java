@@ -68,14 +68,14 @@ public interface SimpleCondition extends Runnable<Boolean> {
     }
 
     default CompositeCondition and(SimpleCondition condition) {
-        return new DefaultCompositeCondition(this, condition, (a, b) -> a && b);
+        return new DefaultCompositeCondition(this, condition, LogicalOperator.AND);
     }
 
     default CompositeCondition or(SimpleCondition condition) {
-        return new DefaultCompositeCondition(this, condition, (a, b) -> a || b);
+        return new DefaultCompositeCondition(this, condition, LogicalOperator.OR);
     }
 
     default CompositeCondition xor(SimpleCondition condition) {
-        return new DefaultCompositeCondition(this, condition, (a, b) -> a ^ b);
+        return new DefaultCompositeCondition(this, condition, LogicalOperator.XOR);
     }
 }
@@ -18,12 +18,16 @@
 
 package org.algorithmx.rulii.core.context;
 
+import org.algorithmx.rulii.bind.Bindings;
 import org.algorithmx.rulii.bind.ScopedBindings;
+import org.algorithmx.rulii.bind.SlotBindings;
 import org.algorithmx.rulii.convert.ConverterRegistry;
 import org.algorithmx.rulii.bind.match.BindingMatchingStrategy;
 import org.algorithmx.rulii.bind.match.ParameterMatch;
 import org.algorithmx.rulii.bind.match.ParameterResolver;
+import org.algorithmx.rulii.core.condition.ConditionMemo;
 import org.algorithmx.rulii.core.model.MethodDefinition;
+import org.algorithmx.rulii.core.model.ParameterDefinition;
 import org.algorithmx.rulii.core.model.RuleExecutionStatus;
 import org.algorithmx.rulii.event.EventProcessor;
 import org.algorithmx.rulii.lib.spring.util.Assert;
@@ -35,6 +39,8 @@ import org.algorithmx.rulii.util.reflect.ObjectFactory;
 import java.time.Clock;
 import java.util.Date;
 import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Responsible for state management during Rule execution. This class provides access to everything that is required
@@ -59,6 +65,12 @@ public class RuleContext {
     private final ScriptProcessor scriptProcessor;
     private final EventProcessor eventProcessor;
     private final Clock clock;
+    // Parameter matches keyed by MethodDefinition (identity); reused as long as the Bindings structure is unchanged
+    private final Map<MethodDefinition, MatchPlan> matchPlans = new ConcurrentHashMap<>();
+    // Results of shared conditions; only active during a RuleSet execution
+    private volatile ConditionMemo conditionMemo;
+    // Scopes released by the previous executions (see reuseScope)
+    private final Map<String, Bindings> spareScopes = new ConcurrentHashMap<>();
 
     public RuleContext(ScopedBindings bindings, Locale locale, BindingMatchingStrategy matchingStrategy,
                        ParameterResolver parameterResolver, MessageResolver messageResolver,
@@ -89,8 +101,51 @@ public class RuleContext {
         this.clock = clock;
     }
 
+    /**
+     * Matches the method parameters to the Bindings. The matches are compiled once per MethodDefinition and reused
+     * until the structure of the Bindings changes (ie. a Binding is bound or a scope is added/removed).
+     *
+     * If the global scope is a SlotBindings and all the parameters were compiled against its schema (see
+     * RuleSetBuilder.schema) the parameters are matched straight to their slots. Note that slots take precedence over
+     * any Bindings with the same name in the other scopes.
+     *
+     * @param definition method meta information.
+     * @return parameter matches.
+     */
     public ParameterMatch[] match(MethodDefinition definition) {
-        return getParameterResolver().match(definition, getBindings(), getMatchingStrategy(), getObjectFactory());
+        long version = getBindings().getVersion();
+        MatchPlan plan = matchPlans.get(definition);
+
+        if (plan != null && plan.version == version && version != Bindings.UNVERSIONED) return plan.matches;
+
+        ParameterMatch[] result = matchSlots(definition);
+
+        if (result == null) {
+            result = getParameterResolver().match(definition, getBindings(), getMatchingStrategy(), getObjectFactory());
+        }
+
+        if (version != Bindings.UNVERSIONED) matchPlans.put(definition, new MatchPlan(version, result));
+        return result;
+    }
+
+    private ParameterMatch[] matchSlots(MethodDefinition definition) {
+        if (!getMatchingStrategy().isNameFirst()) return null;
+
+        Bindings globalScope = getBindings().getGlobalScope();
+        if (!(globalScope instanceof SlotBindings)) return null;
+
+        SlotBindings slotBindings = (SlotBindings) globalScope;
+        ParameterDefinition[] parameters = definition.getParameterDefinitions();
+        ParameterMatch[] result = new ParameterMatch[parameters.length];
+
+        for (int i = 0; i < parameters.length; i++) {
+            int slot = parameters[i].getSlot(slotBindings.getSchema());
+            // Not compiled (or custom matching); do it the long way
+            if (slot < 0 || parameters[i].isMatchSpecified()) return null;
+            result[i] = new ParameterMatch(parameters[i], slotBindings.getBinding(slot));
+        }
+
+        return result;
     }
 
     public Object[] resolve(ParameterMatch[] matches, MethodDefinition definition) {
@@ -186,8 +241,78 @@ public class RuleContext {
         this.executionStatus = RuleExecutionStatus.IN_ACTIVE;
     }
 
+    /**
+     * Starts memoizing shared condition results (unless it has already been started by an enclosing execution).
+     *
+     * @return true if the memo was started by this call (and therefore must be ended by the caller); false otherwise.
+     */
+    public boolean startConditionMemo() {
+        if (conditionMemo != null) return false;
+        this.conditionMemo = new ConditionMemo();
+        return true;
+    }
+
+    /**
+     * Discards all the memoized condition results.
+     */
+    public void endConditionMemo() {
+        this.conditionMemo = null;
+    }
+
+    /**
+     * Current condition memo.
+     *
+     * @return current condition memo; null if not active.
+     */
+    public ConditionMemo getConditionMemo() {
+        return conditionMemo;
+    }
+
+    /**
+     * Takes the scope Bindings previously released under the given name (if any). Adding the same (unchanged)
+     * Bindings back as a scope keeps the Bindings version the same as the last time and therefore the parameter
+     * matches computed during the previous execution remain valid.
+     *
+     * @param name scope name.
+     * @return released scope Bindings; null if there isn't one.
+     */
+    public Bindings reuseScope(String name) {
+        Assert.notNull(name, "name cannot be null.");
+        return spareScopes.remove(name);
+    }
+
+    /**
+     * Keeps the given (removed) scope Bindings so that the next execution can reuse it (see reuseScope).
+     *
+     * @param name scope name.
+     * @param bindings removed scope Bindings.
+     */
+    public void releaseScope(String name, Bindings bindings) {
+        Assert.notNull(name, "name cannot be null.");
+        Assert.notNull(bindings, "bindings cannot be null.");
+        spareScopes.put(name, bindings);
+    }
+
+    /**
+     * Makes the context Active again (ex: after stopExecution) so that it can be reused for another execution.
+     */
+    public void reset() {
+        this.executionStatus = RuleExecutionStatus.ACTIVE;
+    }
+
     @Override
     public String toString() {
         return "RuleContext created at " + creationTime;
     }
+
+    private static class MatchPlan {
+        private final long version;
+        private final ParameterMatch[] matches;
+
+        private MatchPlan(long version, ParameterMatch[] matches) {
+            super();
+            this.version = version;
+            this.matches = matches;
+        }
+    }
 }
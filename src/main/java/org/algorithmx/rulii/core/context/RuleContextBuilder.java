@@ -203,7 +203,7 @@ public class RuleContextBuilder {
      * @return new Rule Context.
      */
     public RuleContext build() {
-        ScopedBindings scopedBindings = ScopedBindings.create();
+        ScopedBindings scopedBindings = ScopedBindings.createIndexed();
 
         RuleContext result  = new RuleContext(scopedBindings, locale, matchingStrategy, parameterResolver, messageResolver,
                 messageFormatter, objectFactory, eventProcessor, registry, scriptProcessor, clock);
@@ -65,16 +65,18 @@ public class DefaultFunction<T> implements Function<T> {
         ParameterMatch[] matches = null;
         Object[] values = null;
         ExecutionEvent<FunctionExecution> event = null;
+        // Only build the event if someone is listening
+        boolean listening = context.getEventProcessor().isListening(EventType.ON_FUNCTION);
 
         try {
             matches = context.match(getMethodDefinition());
             values = context.resolve(matches, getMethodDefinition());
             T result = apply(values);
-            event = new ExecutionEvent(EventType.ON_FUNCTION,
+            if (listening) event = new ExecutionEvent(EventType.ON_FUNCTION,
                     new FunctionExecution(this, result, getMethodDefinition(), RuleUtils.immutable(matches), values));
             return result;
         } catch (Exception e) {
-            event = new ExecutionEvent(EventType.ON_FUNCTION,
+            if (listening) event = new ExecutionEvent(EventType.ON_FUNCTION,
                     new FunctionExecution(this, e, getMethodDefinition(), RuleUtils.immutable(matches), values));
             throw new FunctionExecutionException("Unexpected error occurred trying to execute Function.",
                     e, this, matches, values);
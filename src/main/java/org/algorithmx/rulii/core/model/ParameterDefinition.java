@@ -22,6 +22,7 @@ import org.algorithmx.rulii.annotation.Default;
 import org.algorithmx.rulii.annotation.Description;
 import org.algorithmx.rulii.annotation.Match;
 import org.algorithmx.rulii.convert.Converter;
+import org.algorithmx.rulii.bind.BindingSchema;
 import org.algorithmx.rulii.bind.match.BindingMatchingStrategy;
 import org.algorithmx.rulii.core.UnrulyException;
 import org.algorithmx.rulii.lib.spring.util.Assert;
@@ -57,6 +58,9 @@ public final class ParameterDefinition implements Definition {
     private Type underlyingType;
 
     private Object defaultValue = null;
+    // Slot assigned when compiled against a BindingSchema
+    private BindingSchema slotSchema;
+    private int slot = -1;
 
     private ParameterDefinition(int index, String name, Type type, String description,
                                 String defaultValueText, Class<? extends BindingMatchingStrategy> matchUsing,
@@ -270,6 +274,23 @@ public final class ParameterDefinition implements Definition {
         this.matchUsing = matchUsing;
     }
 
+    /**
+     * Returns the slot assigned to this parameter for the given schema.
+     *
+     * @param schema binding schema.
+     * @return slot; -1 if the parameter has not been compiled against the schema.
+     */
+    public int getSlot(BindingSchema schema) {
+        return schema != null && schema == slotSchema ? slot : -1;
+    }
+
+    public void setSlot(BindingSchema schema, int slot) {
+        Assert.notNull(schema, "schema cannot be null.");
+        Assert.isTrue(slot >= 0 && slot < schema.size(), "invalid slot [" + slot + "]");
+        this.slotSchema = schema;
+        this.slot = slot;
+    }
+
     /**
      * Returns true if this is a Binding.
      *
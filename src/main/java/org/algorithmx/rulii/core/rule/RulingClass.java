@@ -21,7 +21,9 @@ package org.algorithmx.rulii.core.rule;
 import org.algorithmx.rulii.core.UnrulyException;
 import org.algorithmx.rulii.core.action.Action;
 import org.algorithmx.rulii.core.condition.Condition;
+import org.algorithmx.rulii.core.condition.ConditionMemo;
 import org.algorithmx.rulii.core.context.RuleContext;
+import org.algorithmx.rulii.event.EventProcessor;
 import org.algorithmx.rulii.event.EventType;
 import org.algorithmx.rulii.event.ExecutionEvent;
 import org.algorithmx.rulii.event.RuleExecution;
@@ -84,7 +86,7 @@ public class RulingClass<T> implements Rule<T> {
                 + "Create a new RuleContext and try again.");
 
         // Rule Start Event
-        context.getEventProcessor().fireListeners(createEvent(EventType.RULE_START, null));
+        fireEvent(context, EventType.RULE_START, null);
 
         Boolean result = false;
 
@@ -112,7 +114,7 @@ public class RulingClass<T> implements Rule<T> {
             }
         } finally {
             // Rule End Event
-            context.getEventProcessor().fireListeners(createEvent(EventType.RULE_END, result));
+            fireEvent(context, EventType.RULE_END, result);
         }
 
         return new RuleResult(getName(), result ? RuleExecutionStatus.PASS : RuleExecutionStatus.FAIL);
@@ -124,17 +126,17 @@ public class RulingClass<T> implements Rule<T> {
         if (condition == null) return true;
 
         // Fire the event
-        context.getEventProcessor().fireListeners(createEvent(startEventType, condition));
+        fireEvent(context, startEventType, condition);
 
         try {
-            // Check the condition
-            return condition.isTrue(context);
+            // Check the condition (shared conditions are memoized)
+            return ConditionMemo.isTrue(context, condition);
         } catch (Exception e) {
             throw new RuleExecutionException("Unexpected error occurred while trying to execution Condition ["
                     + startEventType.getDescription() + "] on Rule [" + getName() + "].", e, this.getTarget(), startEventType);
         } finally {
             // Fire the end event
-            context.getEventProcessor().fireListeners(createEvent(endEventType, condition));
+            fireEvent(context, endEventType, condition);
         }
     }
 
@@ -144,7 +146,7 @@ public class RulingClass<T> implements Rule<T> {
         if (action == null) return;
 
         // Fire the start event
-        context.getEventProcessor().fireListeners(createEvent(startEventType, action));
+        fireEvent(context, startEventType, action);
 
         try {
             action.run(context);
@@ -153,10 +155,17 @@ public class RulingClass<T> implements Rule<T> {
                     + startEventType.getDescription() + "] on Rule [" + getName() + "].", e, this.getTarget(), startEventType);
         } finally {
             // Fire the end event
-            context.getEventProcessor().fireListeners(createEvent(endEventType, action));
+            fireEvent(context, endEventType, action);
         }
     }
 
+    protected void fireEvent(RuleContext context, EventType eventType, Object executingElement) {
+        EventProcessor eventProcessor = context.getEventProcessor();
+        // Nobody is listening; do not bother creating the event
+        if (!eventProcessor.isListening(eventType)) return;
+        eventProcessor.fireListeners(createEvent(eventType, executingElement));
+    }
+
     protected ExecutionEvent<RuleExecution> createEvent(EventType eventType, Object executingElement) {
         RuleExecution ruleExecution = new RuleExecution( this, executingElement);
         return new ExecutionEvent<>(eventType, ruleExecution);
@@ -0,0 +1,225 @@
+/*
+ * This software is licensed under the Apache 2 license, quoted below.
+ *
+ * Copyright (c) 1999-2021, Algorithmx Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.algorithmx.rulii.core.ruleset;
+
+import org.algorithmx.rulii.annotation.Order;
+import org.algorithmx.rulii.annotation.Salience;
+import org.algorithmx.rulii.bind.Binding;
+import org.algorithmx.rulii.bind.Bindings;
+import org.algorithmx.rulii.core.Identifiable;
+import org.algorithmx.rulii.core.Runnable;
+import org.algorithmx.rulii.core.UnrulyException;
+import org.algorithmx.rulii.core.condition.Condition;
+import org.algorithmx.rulii.core.context.RuleContext;
+import org.algorithmx.rulii.core.rule.Rule;
+import org.algorithmx.rulii.lib.spring.util.Assert;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * RuleSet that runs its items in forward chaining mode. All the items start on the agenda; the agenda always fires the
+ * activation with the lowest @Order, then the highest salience (@Salience or declared), then the lowest index. Once an
+ * item has run, the items whose conditions read any of the Bindings it writes (see RuleSetDependencyGraph for how
+ * reads/writes are derived) are re-activated if their condition inputs have changed since they last ran. Refraction:
+ * an item never runs twice on the same input values.
+ *
+ * Items that can touch anything (nested RuleSets, methods taking the Bindings/RuleContext) run once; when they run all
+ * the other items are checked for changes. Changes are detected by comparing the Binding values (equals), objects
+ * modified in place are not detected.
+ *
+ * The execution fails with a RuleSetExecutionException if more than maxCycles items fire (most likely rules that keep
+ * re-activating each other).
+ *
+ * Keyed Rules (see RuleSetDecisionIndex) and incremental reruns are not supported.
+ *
+ * @author Max Arulananthan
+ * @since 1.0
+ */
+public class ForwardChainingRulingFamily extends RulingFamily {
+
+    public static final int DEFAULT_MAX_CYCLES = 10_000;
+
+    private static final int[] EMPTY = new int[0];
+
+    private final int maxCycles;
+    // rank -> item index and item index -> rank
+    private final int[] itemsByRank;
+    private final int[] ranks;
+    // sorted input names per item; null for items that can read anything
+    private final String[][] inputs;
+    // items to check after an item runs; null means all of them
+    private final int[][] dependents;
+
+    public ForwardChainingRulingFamily(RuleSetDefinition ruleSetDefinition, RuleSet parent,
+                                       Condition preCondition, Condition stopCondition,
+                                       int maxCycles, Map<String, Integer> declaredSalience,
+                                       Map<String, Set<String>> declaredWrites,
+                                       Runnable...ruleSetItems) {
+        super(ruleSetDefinition, parent, preCondition, stopCondition, ruleSetItems);
+        Assert.isTrue(maxCycles > 0, "maxCycles must be > 0");
+
+        if (getDecisionIndex() != null) {
+            throw new UnrulyException("Keyed Rules are not supported on forward chaining RuleSet [" + getName() + "]");
+        }
+
+        this.maxCycles = maxCycles;
+
+        Runnable[] items = getRuleSetItems();
+        Map<String, Set<String>> writes = declaredWrites != null ? declaredWrites : Collections.emptyMap();
+        Map<String, Integer> salience = declaredSalience != null ? declaredSalience : Collections.emptyMap();
+        RuleFootprint[] footprints = new RuleFootprint[items.length];
+        int[] orders = new int[items.length];
+        int[] saliences = new int[items.length];
+
+        for (int i = 0; i < items.length; i++) {
+            footprints[i] = RuleFootprint.create(items[i], writes);
+            orders[i] = footprints[i].getOrder() != null ? footprints[i].getOrder() : Order.LOWEST_PRECEDENCE;
+            saliences[i] = getSalience(items[i], salience);
+        }
+
+        Integer[] sorted = new Integer[items.length];
+        for (int i = 0; i < sorted.length; i++) sorted[i] = i;
+        Arrays.sort(sorted, Comparator.<Integer>comparingInt(i -> orders[i])
+                .thenComparing(Comparator.<Integer>comparingInt(i -> saliences[i]).reversed())
+                .thenComparingInt(i -> i));
+
+        this.itemsByRank = new int[items.length];
+        this.ranks = new int[items.length];
+
+        for (int rank = 0; rank < sorted.length; rank++) {
+            itemsByRank[rank] = sorted[rank];
+            ranks[sorted[rank]] = rank;
+        }
+
+        this.inputs = new String[items.length][];
+        Map<String, List<Integer>> readers = new HashMap<>();
+
+        for (int i = 0; i < items.length; i++) {
+            if (footprints[i].isBarrier()) continue;
+            List<String> names = new ArrayList<>(footprints[i].getConditionReads());
+            Collections.sort(names);
+            inputs[i] = names.toArray(new String[names.size()]);
+            for (String name : names) readers.computeIfAbsent(name, k -> new ArrayList<>()).add(i);
+        }
+
+        this.dependents = new int[items.length][];
+
+        for (int i = 0; i < items.length; i++) {
+            if (footprints[i].isBarrier()) continue;
+            BitSet result = new BitSet(items.length);
+
+            for (String name : footprints[i].getWrites()) {
+                List<Integer> values = readers.get(name);
+                if (values != null) values.forEach(result::set);
+            }
+
+            dependents[i] = result.isEmpty() ? EMPTY : result.stream().toArray();
+        }
+    }
+
+    @Override
+    public RuleSetResult rerun(RuleContext context, RuleSetResult previous) throws UnrulyException {
+        throw new UnrulyException("Incremental rerun is not supported on forward chaining RuleSet [" + getName() + "]");
+    }
+
+    @Override
+    protected void runItems(RuleContext context, RuleSetResult result) {
+        Runnable[] items = getRuleSetItems();
+        Bindings bindings = context.getBindings();
+        // Input values each item last ran with (refraction)
+        Object[][] facts = new Object[items.length][];
+        // Activations by rank; lowest rank fires first
+        BitSet agenda = new BitSet(items.length);
+        agenda.set(0, items.length);
+        int cycles = 0;
+
+        for (int rank = agenda.nextSetBit(0); rank >= 0; rank = agenda.nextSetBit(0)) {
+            agenda.clear(rank);
+            int index = itemsByRank[rank];
+
+            if (++cycles > maxCycles) {
+                throw new RuleSetExecutionException("Forward chaining RuleSet [" + getName() + "] exceeded the max cycles ["
+                        + maxCycles + "]. Perhaps the rules keep activating each other ?", null, this);
+            }
+
+            if (inputs[index] != null) facts[index] = getValues(bindings, inputs[index]);
+
+            // Run the rule/action
+            runItem(context, items[index], index, result);
+
+            // Looks like stopExecution was called on the RuleContext or we need to stop the execution
+            if (isStopRequired(context)) break;
+
+            activate(bindings, dependents[index], facts, agenda);
+        }
+    }
+
+    private void activate(Bindings bindings, int[] candidates, Object[][] facts, BitSet agenda) {
+        if (candidates == null) {
+            for (int i = 0; i < facts.length; i++) activate(bindings, i, facts, agenda);
+            return;
+        }
+
+        for (int candidate : candidates) activate(bindings, candidate, facts, agenda);
+    }
+
+    private void activate(Bindings bindings, int index, Object[][] facts, BitSet agenda) {
+        // Not run yet or can read anything (runs once)
+        if (facts[index] == null || agenda.get(ranks[index])) return;
+        if (!Arrays.equals(facts[index], getValues(bindings, inputs[index]))) agenda.set(ranks[index]);
+    }
+
+    private static Object[] getValues(Bindings bindings, String[] names) {
+        Object[] result = new Object[names.length];
+
+        for (int i = 0; i < names.length; i++) {
+            Binding<Object> binding = bindings.getBinding(names[i]);
+            result[i] = binding != null ? binding.getValue() : null;
+        }
+
+        return result;
+    }
+
+    private static int getSalience(Runnable item, Map<String, Integer> declaredSalience) {
+        if (item instanceof Identifiable) {
+            Integer result = declaredSalience.get(((Identifiable) item).getName());
+            if (result != null) return result;
+        }
+
+        if (item instanceof Rule) {
+            Class<?> ruleClass = ((Rule) item).getRuleDefinition().getRuleClass();
+            Salience result = ruleClass != null ? ruleClass.getAnnotation(Salience.class) : null;
+            if (result != null) return result.value();
+        }
+
+        return 0;
+    }
+
+    public int getMaxCycles() {
+        return maxCycles;
+    }
+}
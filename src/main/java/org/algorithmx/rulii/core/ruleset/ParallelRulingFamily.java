@@ -0,0 +1,228 @@
+/*
+ * This software is licensed under the Apache 2 license, quoted below.
+ *
+ * Copyright (c) 1999-2021, Algorithmx Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.algorithmx.rulii.core.ruleset;
+
+import org.algorithmx.rulii.bind.Bindings;
+import org.algorithmx.rulii.bind.match.BindingMatchingStrategy;
+import org.algorithmx.rulii.core.Runnable;
+import org.algorithmx.rulii.core.UnrulyException;
+import org.algorithmx.rulii.core.condition.Condition;
+import org.algorithmx.rulii.core.context.RuleContext;
+import org.algorithmx.rulii.lib.spring.util.Assert;
+
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * RuleSet that runs independent rules concurrently. The items are arranged into a dependency DAG
+ * (see RuleSetDependencyGraph) and each item is submitted to the ForkJoinPool as soon as all the items it depends on
+ * have completed. Once the stopCondition is met (or stopExecution is called on the RuleContext) no further items are
+ * started; items that are already running are allowed to complete.
+ *
+ * The DAG used for a run accounts for the Bindings the parameters match in the RuleContext (ex: a parameter matched by
+ * type to a Binding with a different name); it is reused for as long as the Bindings do not change. Bindings that are
+ * added while the RuleSet is running are only known by the names they are written under.
+ *
+ * Listeners (ex: ExecutionTracer) registered against the RuleContext will receive events from multiple threads.
+ *
+ * Keyed Rules (see RuleSetDecisionIndex) and incremental reruns are not supported.
+ *
+ * @author Max Arulananthan
+ * @since 1.0
+ */
+public class ParallelRulingFamily extends RulingFamily {
+
+    private final RuleSetDependencyGraph graph;
+    private final Map<String, Set<String>> declaredWrites;
+    private final ForkJoinPool pool;
+    // Graph worked out against the last RuleContext
+    private volatile ContextGraph contextGraph;
+    // Stop Condition checks are serialized
+    private final Object stopLock = new Object();
+
+    public ParallelRulingFamily(RuleSetDefinition ruleSetDefinition, RuleSet parent,
+                                Condition preCondition, Condition stopCondition,
+                                ForkJoinPool pool, Map<String, Set<String>> declaredWrites,
+                                Runnable...ruleSetItems) {
+        super(ruleSetDefinition, parent, preCondition, stopCondition, ruleSetItems);
+        Assert.notNull(pool, "pool cannot be null.");
+        this.pool = pool;
+        this.declaredWrites = declaredWrites;
+        this.graph = new RuleSetDependencyGraph(getRuleSetItems(), declaredWrites);
+
+        if (getDecisionIndex() != null) {
+            throw new UnrulyException("Keyed Rules are not supported on parallel RuleSet [" + getName() + "]");
+        }
+    }
+
+    @Override
+    public RuleSetResult rerun(RuleContext context, RuleSetResult previous) throws UnrulyException {
+        throw new UnrulyException("Incremental rerun is not supported on parallel RuleSet [" + getName() + "]");
+    }
+
+    @Override
+    protected void runItems(RuleContext context, RuleSetResult result) {
+        Runnable[] items = getRuleSetItems();
+        if (items.length == 0) return;
+
+        RuleSetDependencyGraph graph = getGraph(context);
+        Execution execution = new Execution(context, result, items, graph);
+
+        // Kick off all the items that do not depend on anything
+        for (int i = 0; i < items.length; i++) {
+            if (graph.getDependencies(i).length == 0) execution.submit(i);
+        }
+
+        try {
+            ForkJoinPool.managedBlock(execution);
+        } catch (InterruptedException e) {
+            execution.stopped.set(true);
+            Thread.currentThread().interrupt();
+            throw new UnrulyException("Interrupted while waiting for RuleSet [" + getName() + "] to complete.", e);
+        }
+
+        if (execution.error.get() != null) throw execution.error.get();
+    }
+
+    /**
+     * Dependency graph based on the parameter names only.
+     *
+     * @return name based dependency graph.
+     */
+    public RuleSetDependencyGraph getGraph() {
+        return graph;
+    }
+
+    /**
+     * Dependency graph for the Bindings of the given context.
+     *
+     * @param context rule context.
+     * @return dependency graph to use for the run.
+     */
+    public RuleSetDependencyGraph getGraph(RuleContext context) {
+        Bindings bindings = context.getBindings();
+        long version = bindings.getVersion();
+        ContextGraph current = contextGraph;
+
+        if (current != null && current.isFor(bindings, version, context.getMatchingStrategy())) return current.graph;
+
+        RuleSetDependencyGraph result = new RuleSetDependencyGraph(getRuleSetItems(), declaredWrites, context);
+        // Cannot tell whether the Bindings have changed; work it out every time
+        if (version != Bindings.UNVERSIONED) {
+            contextGraph = new ContextGraph(bindings, version, context.getMatchingStrategy(), result);
+        }
+
+        return result;
+    }
+
+    public ForkJoinPool getPool() {
+        return pool;
+    }
+
+    private static class ContextGraph {
+        private final WeakReference<Bindings> bindings;
+        private final long version;
+        private final BindingMatchingStrategy matchingStrategy;
+        private final RuleSetDependencyGraph graph;
+
+        private ContextGraph(Bindings bindings, long version, BindingMatchingStrategy matchingStrategy,
+                             RuleSetDependencyGraph graph) {
+            super();
+            this.bindings = new WeakReference<>(bindings);
+            this.version = version;
+            this.matchingStrategy = matchingStrategy;
+            this.graph = graph;
+        }
+
+        private boolean isFor(Bindings bindings, long version, BindingMatchingStrategy matchingStrategy) {
+            return this.bindings.get() == bindings && this.version == version
+                    && this.matchingStrategy == matchingStrategy;
+        }
+    }
+
+    private class Execution implements ForkJoinPool.ManagedBlocker {
+
+        private final RuleContext context;
+        private final RuleSetResult result;
+        private final Runnable[] items;
+        private final RuleSetDependencyGraph graph;
+        private final AtomicInteger[] pending;
+        private final CountDownLatch latch;
+        private final AtomicBoolean stopped = new AtomicBoolean(false);
+        private final AtomicReference<RuntimeException> error = new AtomicReference<>();
+
+        private Execution(RuleContext context, RuleSetResult result, Runnable[] items, RuleSetDependencyGraph graph) {
+            super();
+            this.context = context;
+            this.result = result;
+            this.items = items;
+            this.graph = graph;
+            this.pending = new AtomicInteger[items.length];
+            this.latch = new CountDownLatch(items.length);
+
+            for (int i = 0; i < items.length; i++) {
+                pending[i] = new AtomicInteger(graph.getDependencies(i).length);
+            }
+        }
+
+        private void submit(int index) {
+            pool.execute(() -> execute(index));
+        }
+
+        private void execute(int index) {
+            try {
+                // Skip the item if we have been asked to stop
+                if (!stopped.get()) {
+                    runItem(context, items[index], index, result);
+
+                    synchronized (stopLock) {
+                        if (!stopped.get() && isStopRequired(context)) stopped.set(true);
+                    }
+                }
+            } catch (RuntimeException e) {
+                error.compareAndSet(null, e);
+                stopped.set(true);
+            } finally {
+                // Release the dependents (they are skipped if we are stopping)
+                for (int dependent : graph.getDependents(index)) {
+                    if (pending[dependent].decrementAndGet() == 0) submit(dependent);
+                }
+
+                latch.countDown();
+            }
+        }
+
+        @Override
+        public boolean block() throws InterruptedException {
+            latch.await();
+            return true;
+        }
+
+        @Override
+        public boolean isReleasable() {
+            return latch.getCount() == 0;
+        }
+    }
+}
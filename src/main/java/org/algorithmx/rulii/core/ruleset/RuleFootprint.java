@@ -0,0 +1,218 @@
+/*
+ * This software is licensed under the Apache 2 license, quoted below.
+ *
+ * Copyright (c) 1999-2021, Algorithmx Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.algorithmx.rulii.core.ruleset;
+
+import org.algorithmx.rulii.annotation.Writes;
+import org.algorithmx.rulii.bind.BindingException;
+import org.algorithmx.rulii.bind.Bindings;
+import org.algorithmx.rulii.bind.match.BindingMatchingStrategy;
+import org.algorithmx.rulii.core.Identifiable;
+import org.algorithmx.rulii.core.Runnable;
+import org.algorithmx.rulii.core.action.Action;
+import org.algorithmx.rulii.core.condition.Condition;
+import org.algorithmx.rulii.core.context.RuleContext;
+import org.algorithmx.rulii.core.model.MethodDefinition;
+import org.algorithmx.rulii.core.model.ParameterDefinition;
+import org.algorithmx.rulii.core.rule.Rule;
+import org.algorithmx.rulii.lib.apache.reflect.TypeUtils;
+import org.algorithmx.rulii.util.TypeReference;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Names of the Bindings a RuleSet item reads and writes. The read set is derived from the parameter names of its
+ * conditions/actions; the write set from Binding parameters, @Writes annotations and any declared writes. Items that
+ * can touch anything (nested RuleSets and methods that take the Bindings/RuleContext) are barriers.
+ *
+ * When created against a RuleContext, the names of the Bindings the parameters currently match (ex: by type) are
+ * included as well.
+ *
+ * @author Max Arulananthan
+ * @since 1.0
+ */
+final class RuleFootprint {
+
+    private final Set<String> reads = new HashSet<>();
+    private final Set<String> conditionReads = new HashSet<>();
+    private final Set<String> writes = new HashSet<>();
+    private final List<MethodDefinition> definitions = new ArrayList<>();
+    private final RuleContext context;
+    private Integer order;
+    private boolean barrier = false;
+
+    private RuleFootprint(RuleContext context) {
+        super();
+        this.context = context;
+    }
+
+    static RuleFootprint create(Runnable item, Map<String, Set<String>> declaredWrites) {
+        return create(item, declaredWrites, null);
+    }
+
+    /**
+     * Creates the footprint of the given item.
+     *
+     * @param item RuleSet item.
+     * @param declaredWrites writes declared on the RuleSet (by item name).
+     * @param context context used to work out which Bindings the parameters match; null to only use the parameter
+     * names.
+     * @return footprint of the item.
+     */
+    static RuleFootprint create(Runnable item, Map<String, Set<String>> declaredWrites, RuleContext context) {
+        RuleFootprint result = new RuleFootprint(context);
+
+        if (item instanceof Identifiable) {
+            Set<String> writes = declaredWrites.get(((Identifiable) item).getName());
+            if (writes != null) result.writes.addAll(writes);
+        }
+
+        if (item instanceof Rule) {
+            Rule rule = (Rule) item;
+            result.order = rule.getRuleDefinition().getOrder();
+            Class<?> ruleClass = rule.getRuleDefinition().getRuleClass();
+            if (ruleClass != null) result.addWrites(ruleClass.getAnnotation(Writes.class));
+            result.add(rule.getPreCondition());
+            result.add(rule.getCondition());
+            result.conditionReads.addAll(result.reads);
+            for (Action action : rule.getActions()) result.add(action);
+            result.add(rule.getOtherwiseAction());
+        } else if (item instanceof Action) {
+            result.add((Action) item);
+            result.conditionReads.addAll(result.reads);
+        } else {
+            // Nested RuleSets (or unknown items) can touch anything
+            result.barrier = true;
+        }
+
+        return result;
+    }
+
+    Set<String> getReads() {
+        return reads;
+    }
+
+    /**
+     * Names of the Bindings that determine whether the item does anything; the (pre)condition parameters of a Rule or
+     * the parameters of an Action.
+     *
+     * @return condition reads.
+     */
+    Set<String> getConditionReads() {
+        return conditionReads;
+    }
+
+    /**
+     * Method definitions of the (pre)conditions/actions of the item.
+     *
+     * @return method definitions.
+     */
+    List<MethodDefinition> getDefinitions() {
+        return definitions;
+    }
+
+    Set<String> getWrites() {
+        return writes;
+    }
+
+    /**
+     * Rule order.
+     *
+     * @return order of the Rule; null if the item is not a Rule.
+     */
+    Integer getOrder() {
+        return order;
+    }
+
+    boolean isBarrier() {
+        return barrier;
+    }
+
+    boolean conflicts(RuleFootprint other) {
+        if (barrier || other.barrier) return true;
+        // Rules with different orders must run in sequence
+        if (order != null && other.order != null && !order.equals(other.order)) return true;
+        return intersects(writes, other.reads) || intersects(writes, other.writes) || intersects(other.writes, reads);
+    }
+
+    private void add(Condition condition) {
+        if (condition != null) add(condition.getMethodDefinition());
+    }
+
+    private void add(Action action) {
+        if (action == null) return;
+        add(action.getMethodDefinition());
+        Method method = action.getMethodDefinition().getMethod();
+        addWrites(method.getAnnotation(Writes.class));
+    }
+
+    private void add(MethodDefinition definition) {
+        if (definition == null) return;
+        definitions.add(definition);
+
+        for (ParameterDefinition parameter : definition.getParameterDefinitions()) {
+            Class<?> type = TypeUtils.getRawType(parameter.getType(), null);
+
+            // Has access to everything
+            if (type != null && (Bindings.class.isAssignableFrom(type) || RuleContext.class.isAssignableFrom(type))) {
+                barrier = true;
+            }
+
+            Set<String> names = getBindingNames(parameter);
+            reads.addAll(names);
+            // Binding parameters can be updated
+            if (parameter.isBindingType()) writes.addAll(names);
+        }
+    }
+
+    private Set<String> getBindingNames(ParameterDefinition parameter) {
+        Set<String> result = new HashSet<>();
+        result.add(parameter.getName());
+        if (context == null) return result;
+
+        BindingMatchingStrategy matcher = parameter.isMatchSpecified()
+                ? context.getObjectFactory().createBindingMatchingStrategy(parameter.getMatchUsing())
+                : context.getMatchingStrategy();
+
+        try {
+            result.addAll(matcher.match(context.getBindings(), parameter.getName(),
+                    TypeReference.with(parameter.getUnderlyingType())).keySet());
+        } catch (BindingException e) {
+            // Will fail when the item is run
+        }
+
+        return result;
+    }
+
+    private void addWrites(Writes annotation) {
+        if (annotation != null) writes.addAll(Arrays.asList(annotation.value()));
+    }
+
+    private static boolean intersects(Set<String> a, Set<String> b) {
+        for (String value : a) {
+            if (b.contains(value)) return true;
+        }
+        return false;
+    }
+}
@@ -47,6 +47,23 @@ public interface RuleSet extends Runnable<RuleSetResult>, Identifiable, Iterable
         return run(RuleContextBuilder.build(bindings));
     }
 
+    /**
+     * Re-runs this RuleSet reusing the previous result; only the items whose inputs have changed since the previous
+     * execution are run again. Implementations that cannot tell run everything.
+     *
+     * @param context rule context.
+     * @param previous result of the previous (re)run of this RuleSet; null to run everything.
+     * @return result of the execution.
+     * @throws RuleSetExecutionException thrown if there are any errors during the execution.
+     */
+    default RuleSetResult rerun(RuleContext context, RuleSetResult previous) throws RuleSetExecutionException {
+        return run(context);
+    }
+
+    default RuleSetResult rerun(Bindings bindings, RuleSetResult previous) throws RuleSetExecutionException {
+        return rerun(RuleContextBuilder.build(bindings != null ? bindings : Bindings.create()), previous);
+    }
+
     RuleSetDefinition getRuleSetDefinition();
 
     /**
@@ -0,0 +1,268 @@
+/*
+ * This software is licensed under the Apache 2 license, quoted below.
+ *
+ * Copyright (c) 1999-2021, Algorithmx Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.algorithmx.rulii.core.ruleset;
+
+import org.algorithmx.rulii.bind.Binding;
+import org.algorithmx.rulii.bind.Bindings;
+import org.algorithmx.rulii.core.context.RuleContext;
+import org.algorithmx.rulii.core.context.RuleContextBuilder;
+import org.algorithmx.rulii.lib.spring.util.Assert;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.Spliterator;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiConsumer;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * Runs a RuleSet over a stream of facts. RuleContexts are pooled and reused across facts (instead of building a new
+ * one per fact); each fact is mapped into its own scope which is removed once the RuleSet has run. When a fact maps
+ * to the same Bindings (names/types) as the previous one, the previous scope is reused with the new values; this keeps
+ * the parameter matches of the rules valid across facts. The input can optionally be split across a ForkJoinPool, in
+ * which case each worker uses its own RuleContext.
+ *
+ * Results are handed to the sink as they are produced (while the fact Bindings are still in scope). The sink is
+ * called from the worker threads when running in parallel; it must be thread-safe in that case.
+ *
+ * @param <T> type of the facts.
+ *
+ * @author Max Arulananthan
+ * @since 1.0
+ */
+public class RuleSetBatchExecutor<T> {
+
+    private static final String FACT_SCOPE = "fact-scope";
+    private static final int DEFAULT_BATCH_SIZE = 1024;
+
+    private final RuleSet ruleSet;
+    private final BiConsumer<T, Bindings> mapper;
+    private final Queue<RuleContext> contexts = new ConcurrentLinkedQueue<>();
+
+    private Supplier<RuleContext> contextFactory = RuleContextBuilder::empty;
+    private BiConsumer<T, RuleSetResult> sink = (fact, result) -> {};
+    private ForkJoinPool pool;
+    private int batchSize = DEFAULT_BATCH_SIZE;
+
+    private RuleSetBatchExecutor(RuleSet ruleSet, BiConsumer<T, Bindings> mapper) {
+        super();
+        Assert.notNull(ruleSet, "ruleSet cannot be null.");
+        Assert.notNull(mapper, "mapper cannot be null.");
+        this.ruleSet = ruleSet;
+        this.mapper = mapper;
+    }
+
+    /**
+     * Creates a new batch executor.
+     *
+     * @param ruleSet RuleSet to run.
+     * @param mapper binds the given fact into the (fact scope) Bindings.
+     * @param <T> type of the facts.
+     * @return new batch executor.
+     */
+    public static <T> RuleSetBatchExecutor<T> with(RuleSet ruleSet, BiConsumer<T, Bindings> mapper) {
+        return new RuleSetBatchExecutor<>(ruleSet, mapper);
+    }
+
+    /**
+     * Factory used to create the (pooled) RuleContexts.
+     *
+     * @param contextFactory RuleContext factory.
+     * @return this for fluency.
+     */
+    public RuleSetBatchExecutor<T> contextFactory(Supplier<RuleContext> contextFactory) {
+        Assert.notNull(contextFactory, "contextFactory cannot be null.");
+        this.contextFactory = contextFactory;
+        this.contexts.clear();
+        return this;
+    }
+
+    /**
+     * Sink the results are streamed into.
+     *
+     * @param sink result sink.
+     * @return this for fluency.
+     */
+    public RuleSetBatchExecutor<T> sink(BiConsumer<T, RuleSetResult> sink) {
+        Assert.notNull(sink, "sink cannot be null.");
+        this.sink = sink;
+        return this;
+    }
+
+    /**
+     * Splits the input across the common ForkJoinPool.
+     *
+     * @return this for fluency.
+     */
+    public RuleSetBatchExecutor<T> parallel() {
+        return parallel(ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Splits the input across the given pool.
+     *
+     * @param pool pool to run on.
+     * @return this for fluency.
+     */
+    public RuleSetBatchExecutor<T> parallel(ForkJoinPool pool) {
+        Assert.notNull(pool, "pool cannot be null.");
+        this.pool = pool;
+        return this;
+    }
+
+    /**
+     * Number of facts below which the input is no longer split (parallel mode only).
+     *
+     * @param batchSize minimum split size.
+     * @return this for fluency.
+     */
+    public RuleSetBatchExecutor<T> batchSize(int batchSize) {
+        Assert.isTrue(batchSize > 0, "batchSize must be greater than 0.");
+        this.batchSize = batchSize;
+        return this;
+    }
+
+    public long execute(Iterable<T> facts) {
+        Assert.notNull(facts, "facts cannot be null.");
+        return execute(facts.spliterator());
+    }
+
+    public long execute(Stream<T> facts) {
+        Assert.notNull(facts, "facts cannot be null.");
+        return execute(facts.spliterator());
+    }
+
+    /**
+     * Runs the RuleSet against each of the facts.
+     *
+     * @param facts input facts.
+     * @return number of facts processed.
+     */
+    public long execute(Spliterator<T> facts) {
+        Assert.notNull(facts, "facts cannot be null.");
+        LongAdder count = new LongAdder();
+
+        if (pool == null) {
+            process(facts, count);
+        } else {
+            pool.invoke(new BatchTask(facts, count));
+        }
+
+        return count.sum();
+    }
+
+    public RuleSet getRuleSet() {
+        return ruleSet;
+    }
+
+    public boolean isParallel() {
+        return pool != null;
+    }
+
+    private void process(Spliterator<T> facts, LongAdder count) {
+        RuleContext context = contexts.poll();
+        if (context == null) context = contextFactory.get();
+
+        try {
+            RuleContext current = context;
+            facts.forEachRemaining(fact -> {
+                run(current, fact);
+                count.increment();
+            });
+        } finally {
+            // Back into the pool for reuse
+            contexts.offer(context);
+        }
+    }
+
+    private void run(RuleContext context, T fact) {
+        Bindings mapped = Bindings.create();
+        mapper.accept(fact, mapped);
+
+        // Same layout as the previous fact; reuse its scope so that the parameter matches remain valid
+        Bindings factScope = reuse(context.reuseScope(FACT_SCOPE), mapped);
+        long version = factScope.getVersion();
+        context.getBindings().addScope(FACT_SCOPE, factScope);
+
+        try {
+            // The fact Bindings are still available to the sink
+            sink.accept(fact, ruleSet.run(context));
+        } finally {
+            context.getBindings().removeScope(factScope);
+            // Nothing was bound during the run
+            if (factScope.getVersion() == version) context.releaseScope(FACT_SCOPE, factScope);
+            context.reset();
+        }
+    }
+
+    private static Bindings reuse(Bindings previous, Bindings mapped) {
+        if (previous == null || previous.size() != mapped.size()) return mapped;
+
+        for (Binding<?> binding : mapped) {
+            Binding<?> target = previous.getBinding(binding.getName());
+
+            if (target == null || target.getClass() != binding.getClass() || !target.getType().equals(binding.getType())
+                    || target.isPrimary() != binding.isPrimary() || !target.isEditable() || !binding.isEditable()) {
+                return mapped;
+            }
+        }
+
+        for (Binding<?> binding : mapped) {
+            previous.<Object>getBinding(binding.getName()).setValue(binding.getValue());
+        }
+
+        return previous;
+    }
+
+    private class BatchTask extends RecursiveAction {
+
+        private final Spliterator<T> facts;
+        private final LongAdder count;
+
+        private BatchTask(Spliterator<T> facts, LongAdder count) {
+            super();
+            this.facts = facts;
+            this.count = count;
+        }
+
+        @Override
+        protected void compute() {
+            List<BatchTask> tasks = new ArrayList<>();
+            Spliterator<T> split;
+
+            // Keep splitting until we are down to the batch size
+            while (facts.estimateSize() > batchSize && (split = facts.trySplit()) != null) {
+                BatchTask task = new BatchTask(split, count);
+                task.fork();
+                tasks.add(task);
+            }
+
+            process(facts, count);
+
+            for (BatchTask task : tasks) {
+                task.join();
+            }
+        }
+    }
+}
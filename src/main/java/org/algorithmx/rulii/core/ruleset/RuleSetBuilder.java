@@ -18,21 +18,31 @@
 
 package org.algorithmx.rulii.core.ruleset;
 
+import org.algorithmx.rulii.bind.BindingSchema;
 import org.algorithmx.rulii.config.RuliiSystem;
 import org.algorithmx.rulii.core.Runnable;
+import org.algorithmx.rulii.core.UnrulyException;
 import org.algorithmx.rulii.core.action.Action;
 import org.algorithmx.rulii.core.condition.Condition;
 import org.algorithmx.rulii.core.model.Definition;
+import org.algorithmx.rulii.core.model.MethodDefinition;
+import org.algorithmx.rulii.core.model.ParameterDefinition;
 import org.algorithmx.rulii.core.rule.Rule;
 import org.algorithmx.rulii.lib.spring.util.Assert;
 import org.algorithmx.rulii.util.RuleUtils;
 import org.algorithmx.rulii.util.reflect.ObjectFactory;
+import org.algorithmx.rulii.util.reflect.TypeAssignability;
 
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
 
 public class RuleSetBuilder {
 
@@ -44,6 +54,13 @@ public class RuleSetBuilder {
     private Condition preCondition;
     private Condition stopCondition;
 
+    private ForkJoinPool pool;
+    private final Map<String, Set<String>> declaredWrites = new HashMap<>();
+    private final Map<String, Map<String, Object>> declaredKeys = new HashMap<>();
+    private Integer maxCycles;
+    private BindingSchema schema;
+    private final Map<String, Integer> declaredSalience = new HashMap<>();
+
     protected RuleSetBuilder() {
         super();
     }
@@ -232,6 +249,111 @@ public class RuleSetBuilder {
         return this;
     }
 
+    /**
+     * Runs independent rules concurrently (on the common ForkJoinPool). See ParallelRulingFamily. Cannot be combined
+     * with keyed rules; the resulting RuleSet does not support rerun.
+     *
+     * @return this for fluency.
+     */
+    public RuleSetBuilder parallel() {
+        return parallel(ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Runs independent rules concurrently using the given pool. See ParallelRulingFamily.
+     *
+     * @param pool pool to run the rules on.
+     * @return this for fluency.
+     */
+    public RuleSetBuilder parallel(ForkJoinPool pool) {
+        Assert.notNull(pool, "pool cannot be null.");
+        this.pool = pool;
+        return this;
+    }
+
+    /**
+     * Declares the Bindings the given rule/action writes to (in addition to its Binding parameters and @Writes).
+     * Only used in parallel mode to determine which rules can run at the same time.
+     *
+     * @param name name of the rule/action.
+     * @param bindingNames names of the Bindings it writes to.
+     * @return this for fluency.
+     */
+    public RuleSetBuilder writes(String name, String...bindingNames) {
+        Assert.notNull(name, "name cannot be null.");
+        Assert.notNullArray(bindingNames, "bindingNames");
+        declaredWrites.computeIfAbsent(name, k -> new HashSet<>()).addAll(Arrays.asList(bindingNames));
+        return this;
+    }
+
+    /**
+     * Compiles the rules against the given schema; parameters that match a declared Binding (by name and type) are
+     * assigned its slot and are read straight out of the SlotBindings (see RuleContext.match). The RuleSet must be run
+     * with the SlotBindings of the same schema (otherwise it falls back to regular matching).
+     *
+     * @param schema binding schema.
+     * @return this for fluency.
+     */
+    public RuleSetBuilder schema(BindingSchema schema) {
+        Assert.notNull(schema, "schema cannot be null.");
+        this.schema = schema;
+        return this;
+    }
+
+    /**
+     * Runs the rules in forward chaining mode with the default max cycles. See ForwardChainingRulingFamily. Cannot
+     * be combined with keyed rules; the resulting RuleSet does not support rerun.
+     *
+     * @return this for fluency.
+     */
+    public RuleSetBuilder forwardChaining() {
+        return forwardChaining(ForwardChainingRulingFamily.DEFAULT_MAX_CYCLES);
+    }
+
+    /**
+     * Runs the rules in forward chaining mode; rules are re-activated when the Bindings they read change. See
+     * ForwardChainingRulingFamily.
+     *
+     * @param maxCycles maximum number of rules that can fire in a single execution.
+     * @return this for fluency.
+     */
+    public RuleSetBuilder forwardChaining(int maxCycles) {
+        Assert.isTrue(maxCycles > 0, "maxCycles must be > 0");
+        this.maxCycles = maxCycles;
+        return this;
+    }
+
+    /**
+     * Declares the salience of the given rule (overrides @Salience). Only used in forward chaining mode to pick
+     * between activated rules with the same order; highest salience fires first.
+     *
+     * @param name name of the rule.
+     * @param salience salience of the rule.
+     * @return this for fluency.
+     */
+    public RuleSetBuilder salience(String name, int salience) {
+        Assert.notNull(name, "name cannot be null.");
+        declaredSalience.put(name, salience);
+        return this;
+    }
+
+    /**
+     * Declares an equality key for the given rule (in addition to any @Key parameters); the condition of the rule must
+     * not be able to pass unless the Binding equals the given value. Keyed rules (without an otherwise action) are
+     * looked up through a hash index instead of being evaluated one by one.
+     *
+     * @param ruleName name of the rule.
+     * @param bindingName name of the Binding.
+     * @param value expected value of the Binding.
+     * @return this for fluency.
+     */
+    public RuleSetBuilder key(String ruleName, String bindingName, Object value) {
+        Assert.notNull(ruleName, "ruleName cannot be null.");
+        Assert.notNull(bindingName, "bindingName cannot be null.");
+        declaredKeys.computeIfAbsent(ruleName, k -> new HashMap<>()).put(bindingName, value);
+        return this;
+    }
+
     public RuleSetDefinition buildRuleSetDefinition() {
         List<Definition> definitions = new ArrayList<>(getRuleSetItems().size());
 
@@ -259,9 +381,76 @@ public class RuleSetBuilder {
     }
 
     public RuleSet build() {
+        if (schema != null) compile(schema);
+
+        Runnable[] items = getRuleSetItems().toArray(new Runnable[getRuleSetItems().size()]);
+
+        if (isParallel() && isForwardChaining()) {
+            throw new UnrulyException("RuleSet [" + getName() + "] cannot be both parallel and forward chaining.");
+        }
+
+        if (isParallel() && RuleSetDecisionIndex.create(items, declaredKeys) != null) {
+            throw new UnrulyException("RuleSet [" + getName() + "] cannot be parallel and have keyed rules.");
+        }
+
+        if (isForwardChaining() && RuleSetDecisionIndex.create(items, declaredKeys) != null) {
+            throw new UnrulyException("RuleSet [" + getName() + "] cannot be forward chaining and have keyed rules.");
+        }
+
+        if (isForwardChaining()) {
+            return new ForwardChainingRulingFamily(buildRuleSetDefinition(), getParent(),
+                    getPreCondition(), getStopCondition(), maxCycles, declaredSalience, declaredWrites, items);
+        }
+
+        if (isParallel()) {
+            return new ParallelRulingFamily(buildRuleSetDefinition(), getParent(),
+                    getPreCondition(), getStopCondition(), pool, declaredWrites, items);
+        }
+
         return new RulingFamily(buildRuleSetDefinition(), getParent(),
-                getPreCondition(), getStopCondition(),
-                getRuleSetItems().toArray(new Runnable[getRuleSetItems().size()]));
+                getPreCondition(), getStopCondition(), declaredKeys, items);
+    }
+
+    /**
+     * Assigns the schema slots to the parameters of all the rules/actions (nested RuleSets are left alone).
+     *
+     * @param schema binding schema.
+     */
+    protected void compile(BindingSchema schema) {
+        compile(schema, getPreCondition());
+        compile(schema, getStopCondition());
+
+        for (Runnable item : getRuleSetItems()) {
+            if (item instanceof Rule) {
+                Rule rule = (Rule) item;
+                compile(schema, rule.getPreCondition());
+                compile(schema, rule.getCondition());
+                for (Action action : rule.getActions()) compile(schema, action);
+                compile(schema, rule.getOtherwiseAction());
+            } else if (item instanceof Action) {
+                compile(schema, (Action) item);
+            }
+        }
+    }
+
+    private static void compile(BindingSchema schema, Condition condition) {
+        if (condition != null) compile(schema, condition.getMethodDefinition());
+    }
+
+    private static void compile(BindingSchema schema, Action action) {
+        if (action != null) compile(schema, action.getMethodDefinition());
+    }
+
+    private static void compile(BindingSchema schema, MethodDefinition definition) {
+        if (definition == null) return;
+
+        for (ParameterDefinition parameter : definition.getParameterDefinitions()) {
+            int slot = schema.getSlot(parameter.getName());
+            // Only when the declared Binding is acceptable as is
+            if (slot >= 0 && TypeAssignability.isAssignable(schema.getType(slot), parameter.getUnderlyingType())) {
+                parameter.setSlot(schema, slot);
+            }
+        }
     }
 
     public String getName() {
@@ -284,6 +473,14 @@ public class RuleSetBuilder {
         return stopCondition;
     }
 
+    public boolean isParallel() {
+        return pool != null;
+    }
+
+    public boolean isForwardChaining() {
+        return maxCycles != null;
+    }
+
     @Override
     public String toString() {
         return "RuleSetBuilder{" +
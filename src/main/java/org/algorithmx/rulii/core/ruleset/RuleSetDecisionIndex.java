@@ -0,0 +1,345 @@
+/*
+ * This software is licensed under the Apache 2 license, quoted below.
+ *
+ * Copyright (c) 1999-2021, Algorithmx Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.algorithmx.rulii.core.ruleset;
+
+import org.algorithmx.rulii.annotation.Key;
+import org.algorithmx.rulii.bind.Binding;
+import org.algorithmx.rulii.bind.Bindings;
+import org.algorithmx.rulii.config.RuliiSystem;
+import org.algorithmx.rulii.convert.Converter;
+import org.algorithmx.rulii.convert.ConverterRegistry;
+import org.algorithmx.rulii.core.Runnable;
+import org.algorithmx.rulii.core.UnrulyException;
+import org.algorithmx.rulii.core.condition.Condition;
+import org.algorithmx.rulii.core.model.ParameterDefinition;
+import org.algorithmx.rulii.core.rule.Rule;
+import org.algorithmx.rulii.lib.spring.util.Assert;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Hash index from Binding values to the Rules of a RuleSet that can possibly pass. A Rule is keyed if it declares
+ * equality constraints on Bindings, either through @Key on its condition parameters or through
+ * RuleSetBuilder.key(...). Keyed Rules are grouped by the names of the Bindings they are keyed on; at execution time
+ * each group does a single lookup with the current Binding values. Rules without keys (and Actions/nested RuleSets)
+ * are always selected.
+ *
+ * The index is purely an optimization; the keys must be implied by the condition of the Rule (ie: the condition cannot
+ * pass unless the Bindings equal the keys). A Rule that is not selected is treated as if its condition failed, hence
+ * only Rules without an otherwise Action are indexed. Callers are expected to select again when the key Bindings
+ * change (see KeyState). Binding values are converted to the key type (using the ConverterRegistry) the same way the
+ * ParameterResolver does; when a key Binding is missing, null or cannot be converted the Rules keyed on it are
+ * selected (ie: evaluated normally). The index assumes Bindings are matched by name first; parameters with their own
+ * matching strategy are not indexed.
+ *
+ * @author Max Arulananthan
+ * @since 1.0
+ */
+public class RuleSetDecisionIndex {
+
+    private final int size;
+    private final BitSet unkeyed;
+    private final KeyGroup[] groups;
+    private final String[] keyNames;
+
+    private RuleSetDecisionIndex(int size, BitSet unkeyed, KeyGroup[] groups, String[] keyNames) {
+        super();
+        this.size = size;
+        this.unkeyed = unkeyed;
+        this.groups = groups;
+        this.keyNames = keyNames;
+    }
+
+    /**
+     * Builds the index for the given RuleSet items.
+     *
+     * @param items RuleSet items.
+     * @param declaredKeys keys declared outside of the Rules (Rule name -&gt; Binding name -&gt; value).
+     * @return the index; null if none of the items are keyed.
+     */
+    public static RuleSetDecisionIndex create(Runnable[] items, Map<String, Map<String, Object>> declaredKeys) {
+        Assert.notNull(items, "items cannot be null.");
+        Assert.notNull(declaredKeys, "declaredKeys cannot be null.");
+
+        BitSet unkeyed = new BitSet(items.length);
+        // Keyed on the (sorted) binding names
+        Map<List<String>, Map<List<Object>, BitSet>> groups = new LinkedHashMap<>();
+        Set<String> keyNames = new LinkedHashSet<>();
+
+        for (int i = 0; i < items.length; i++) {
+            Map<String, Object> keys = getKeys(items[i], declaredKeys);
+
+            if (keys.isEmpty()) {
+                unkeyed.set(i);
+                continue;
+            }
+
+            keyNames.addAll(keys.keySet());
+            List<String> names = Collections.unmodifiableList(new ArrayList<>(keys.keySet()));
+            List<Object> values = Collections.unmodifiableList(new ArrayList<>(keys.values()));
+            groups.computeIfAbsent(names, k -> new HashMap<>())
+                    .computeIfAbsent(values, k -> new BitSet(items.length))
+                    .set(i);
+        }
+
+        if (groups.isEmpty()) return null;
+
+        KeyGroup[] result = new KeyGroup[groups.size()];
+        int index = 0;
+
+        for (Map.Entry<List<String>, Map<List<Object>, BitSet>> entry : groups.entrySet()) {
+            result[index++] = new KeyGroup(entry.getKey().toArray(new String[entry.getKey().size()]), entry.getValue());
+        }
+
+        return new RuleSetDecisionIndex(items.length, unkeyed, result, keyNames.toArray(new String[keyNames.size()]));
+    }
+
+    /**
+     * Selects the items that need to run given the current Binding values; unkeyed items and the keyed items whose
+     * keys match (or cannot be ruled out).
+     *
+     * @param bindings current Bindings.
+     * @param registry registry used to convert the Binding values to the key types.
+     * @return indexes of the selected items.
+     */
+    public BitSet select(Bindings bindings, ConverterRegistry registry) {
+        Assert.notNull(registry, "registry cannot be null.");
+        BitSet result = (BitSet) unkeyed.clone();
+
+        for (KeyGroup group : groups) {
+            BitSet candidates = group.lookup(bindings, registry);
+            if (candidates != null) result.or(candidates);
+        }
+
+        return result;
+    }
+
+    /**
+     * Captures the key Bindings (and their versions) the selection is based on.
+     *
+     * @param bindings current Bindings.
+     * @return state of the key Bindings.
+     */
+    public KeyState capture(Bindings bindings) {
+        Binding<?>[] matched = new Binding<?>[keyNames.length];
+        long[] versions = new long[keyNames.length];
+
+        for (int i = 0; i < keyNames.length; i++) {
+            matched[i] = bindings.getBinding(keyNames[i]);
+            versions[i] = matched[i] != null ? matched[i].getVersion() : 0L;
+        }
+
+        return new KeyState(keyNames, matched, versions);
+    }
+
+    /**
+     * Determines whether the item at the given index is keyed.
+     *
+     * @param index item index.
+     * @return true if the item is only selected when its keys match; false otherwise.
+     */
+    public boolean isKeyed(int index) {
+        return index >= 0 && index < size && !unkeyed.get(index);
+    }
+
+    private static Map<String, Object> getKeys(Runnable item, Map<String, Map<String, Object>> declaredKeys) {
+        // Sorted so that the same names end up in the same group
+        Map<String, Object> result = new TreeMap<>();
+        if (!(item instanceof Rule)) return result;
+
+        Rule rule = (Rule) item;
+        // Skipping the Rule would skip its otherwise Action as well
+        if (rule.getOtherwiseAction() != null) return result;
+
+        addKeys(result, rule.getPreCondition());
+        addKeys(result, rule.getCondition());
+
+        Map<String, Object> keys = declaredKeys.get(rule.getName());
+
+        if (keys != null) {
+            for (Map.Entry<String, Object> entry : keys.entrySet()) {
+                Object existing = result.get(entry.getKey());
+                if (result.containsKey(entry.getKey()) && !equals(existing, entry.getValue())) {
+                    throw new UnrulyException("Conflicting keys [" + existing + ", " + entry.getValue()
+                            + "] for Binding [" + entry.getKey() + "] on Rule [" + rule.getName() + "]");
+                }
+                result.put(entry.getKey(), entry.getValue());
+            }
+        }
+
+        return result;
+    }
+
+    private static void addKeys(Map<String, Object> keys, Condition condition) {
+        if (condition == null || condition.getMethodDefinition() == null) return;
+
+        for (ParameterDefinition parameter : condition.getMethodDefinition().getParameterDefinitions()) {
+            Key key = getKeyAnnotation(parameter);
+            // Cannot tell which Binding a custom matching strategy picks
+            if (key == null || parameter.isMatchSpecified()) continue;
+
+            Type type = parameter.isBindingType() ? parameter.getUnderlyingType() : parameter.getType();
+            Object value = convert(key.value(), type);
+            Object existing = keys.get(parameter.getName());
+
+            if (keys.containsKey(parameter.getName()) && !equals(existing, value)) {
+                throw new UnrulyException("Conflicting keys [" + existing + ", " + value + "] for Binding ["
+                        + parameter.getName() + "] on Condition [" + condition.getMethodDefinition().getMethod() + "]");
+            }
+
+            keys.put(parameter.getName(), value);
+        }
+    }
+
+    private static Key getKeyAnnotation(ParameterDefinition parameter) {
+        if (parameter.getAnnotations() == null) return null;
+
+        for (Annotation annotation : parameter.getAnnotations()) {
+            if (annotation instanceof Key) return (Key) annotation;
+        }
+
+        return null;
+    }
+
+    private static Object convert(String text, Type type) {
+        if (String.class.equals(type) || Object.class.equals(type)) return text;
+
+        Converter<String, ?> converter = RuliiSystem.getInstance().getConfiguration().getConverterRegistry()
+                .find(String.class, type);
+
+        if (converter == null) {
+            throw new UnrulyException("No converter found to convert key [" + text + "] to type [" + type + "]");
+        }
+
+        return converter.convert(text, type);
+    }
+
+    private static boolean equals(Object a, Object b) {
+        return a == null ? b == null : a.equals(b);
+    }
+
+    /**
+     * State of the key Bindings at the time of a selection.
+     */
+    public static final class KeyState {
+
+        private final String[] names;
+        private final Binding<?>[] bindings;
+        private final long[] versions;
+
+        private KeyState(String[] names, Binding<?>[] bindings, long[] versions) {
+            super();
+            this.names = names;
+            this.bindings = bindings;
+            this.versions = versions;
+        }
+
+        /**
+         * Determines whether none of the key Bindings have been bound, removed or changed since the capture.
+         *
+         * @param current current Bindings.
+         * @return true if a selection made at capture time still holds; false otherwise.
+         */
+        public boolean isCurrent(Bindings current) {
+            for (int i = 0; i < names.length; i++) {
+                Binding<?> binding = current.getBinding(names[i]);
+                if (binding != bindings[i]) return false;
+                if (binding != null && (binding.getVersion() != versions[i] || versions[i] == Bindings.UNVERSIONED)) {
+                    return false;
+                }
+            }
+
+            return true;
+        }
+    }
+
+    private static class KeyGroup {
+        private final String[] names;
+        private final Map<List<Object>, BitSet> candidates;
+        // Type of the keys per name; null if the keys are of different types (or null)
+        private final Class<?>[] types;
+        // Every item in the group
+        private final BitSet all = new BitSet();
+
+        private KeyGroup(String[] names, Map<List<Object>, BitSet> candidates) {
+            super();
+            this.names = names;
+            this.candidates = candidates;
+            this.types = new Class<?>[names.length];
+
+            boolean first = true;
+
+            for (Map.Entry<List<Object>, BitSet> entry : candidates.entrySet()) {
+                all.or(entry.getValue());
+
+                for (int i = 0; i < names.length; i++) {
+                    Object key = entry.getKey().get(i);
+                    Class<?> type = key != null ? key.getClass() : null;
+                    types[i] = first || types[i] == type ? type : null;
+                }
+
+                first = false;
+            }
+        }
+
+        private BitSet lookup(Bindings bindings, ConverterRegistry registry) {
+            Object[] values = new Object[names.length];
+
+            for (int i = 0; i < names.length; i++) {
+                Binding<Object> binding = bindings.getBinding(names[i]);
+                Object value = binding != null ? binding.getValue() : null;
+                // Could be matched some other way (by type, default value etc); evaluate normally
+                if (value == null || types[i] == null) return all;
+
+                if (!types[i].isInstance(value)) {
+                    value = convert(value, types[i], registry);
+                    if (value == null) return all;
+                }
+
+                values[i] = value;
+            }
+
+            return candidates.get(Arrays.asList(values));
+        }
+
+        @SuppressWarnings("unchecked")
+        private static Object convert(Object value, Class<?> type, ConverterRegistry registry) {
+            Converter<Object, ?> converter = (Converter<Object, ?>) registry.find(value.getClass(), type);
+            if (converter == null) return null;
+
+            try {
+                return converter.convert(value, type);
+            } catch (RuntimeException e) {
+                return null;
+            }
+        }
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ * This software is licensed under the Apache 2 license, quoted below.
+ *
+ * Copyright (c) 1999-2021, Algorithmx Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.algorithmx.rulii.core.ruleset;
+
+import org.algorithmx.rulii.core.Runnable;
+import org.algorithmx.rulii.core.context.RuleContext;
+import org.algorithmx.rulii.lib.spring.util.Assert;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Dependency DAG between the items of a RuleSet. Each item's read set is derived from the parameter names of its
+ * conditions/actions; its write set from Binding parameters, @Writes annotations and any declared writes. Item j
+ * depends on an earlier item i if one writes a binding the other reads/writes, if they are Rules with different orders or if
+ * either is a barrier (nested RuleSets and methods that take the Bindings/RuleContext can touch anything).
+ *
+ * The graph built without a RuleContext only goes by the parameter names. The one built against a RuleContext also
+ * accounts for the Bindings the parameters match in that context (ex: matched by type).
+ *
+ * @author Max Arulananthan
+ * @since 1.0
+ */
+public class RuleSetDependencyGraph {
+
+    private final int[][] dependencies;
+    private final int[][] dependents;
+
+    public RuleSetDependencyGraph(Runnable[] items, Map<String, Set<String>> declaredWrites) {
+        this(items, declaredWrites, null);
+    }
+
+    public RuleSetDependencyGraph(Runnable[] items, Map<String, Set<String>> declaredWrites, RuleContext context) {
+        super();
+        Assert.notNull(items, "items cannot be null.");
+        RuleFootprint[] footprints = new RuleFootprint[items.length];
+
+        for (int i = 0; i < items.length; i++) {
+            footprints[i] = RuleFootprint.create(items[i],
+                    declaredWrites != null ? declaredWrites : Collections.emptyMap(), context);
+        }
+
+        List<List<Integer>> dependencyList = new ArrayList<>(items.length);
+        List<List<Integer>> dependentList = new ArrayList<>(items.length);
+
+        for (int i = 0; i < items.length; i++) {
+            dependencyList.add(new ArrayList<>());
+            dependentList.add(new ArrayList<>());
+        }
+
+        for (int j = 0; j < items.length; j++) {
+            for (int i = 0; i < j; i++) {
+                if (!footprints[i].conflicts(footprints[j])) continue;
+                dependencyList.get(j).add(i);
+                dependentList.get(i).add(j);
+            }
+        }
+
+        this.dependencies = toArray(dependencyList);
+        this.dependents = toArray(dependentList);
+    }
+
+    /**
+     * Number of items in the graph.
+     *
+     * @return item count.
+     */
+    public int size() {
+        return dependencies.length;
+    }
+
+    /**
+     * Indexes of the items that must complete before the given item can run.
+     *
+     * @param index item index.
+     * @return indexes of the dependencies.
+     */
+    public int[] getDependencies(int index) {
+        return dependencies[index];
+    }
+
+    /**
+     * Indexes of the items that depend on the given item.
+     *
+     * @param index item index.
+     * @return indexes of the dependents.
+     */
+    public int[] getDependents(int index) {
+        return dependents[index];
+    }
+
+    private static int[][] toArray(List<List<Integer>> values) {
+        int[][] result = new int[values.size()][];
+
+        for (int i = 0; i < result.length; i++) {
+            result[i] = values.get(i).stream().mapToInt(Integer::intValue).toArray();
+        }
+
+        return result;
+    }
+}
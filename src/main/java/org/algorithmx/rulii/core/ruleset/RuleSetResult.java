@@ -38,6 +38,7 @@ public class RuleSetResult implements Iterable<RuleResult>, RuleResultExtractor
     private final List<RuleResult> results = new LinkedList<>();
     private final Bindings bindings;
     private boolean preConditionCheck = false;
+    private RuleSetTrace trace;
 
     public RuleSetResult(Bindings bindings) {
         super();
@@ -193,6 +194,14 @@ public class RuleSetResult implements Iterable<RuleResult>, RuleResultExtractor
         this.preConditionCheck = preConditionCheck;
     }
 
+    RuleSetTrace getTrace() {
+        return trace;
+    }
+
+    void setTrace(RuleSetTrace trace) {
+        this.trace = trace;
+    }
+
     @Override
     public String toString() {
         return "RuleResultSet{" +
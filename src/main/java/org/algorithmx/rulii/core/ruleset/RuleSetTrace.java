@@ -0,0 +1,151 @@
+/*
+ * This software is licensed under the Apache 2 license, quoted below.
+ *
+ * Copyright (c) 1999-2021, Algorithmx Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.algorithmx.rulii.core.ruleset;
+
+import org.algorithmx.rulii.bind.Binding;
+import org.algorithmx.rulii.bind.Bindings;
+import org.algorithmx.rulii.bind.match.ParameterMatch;
+import org.algorithmx.rulii.core.context.RuleContext;
+import org.algorithmx.rulii.core.model.MethodDefinition;
+
+/**
+ * Records, per RuleSet item, the Bindings matched to its parameters (and their versions) along with its execution
+ * result. Used to re-run only the items whose inputs have changed (see RuleSet.rerun).
+ *
+ * @author Max Arulananthan
+ * @since 1.0
+ */
+final class RuleSetTrace {
+
+    private final RuleSet owner;
+    private final Entry[] entries;
+    private RuleSetTrace previous;
+
+    RuleSetTrace(RuleSet owner, int size, RuleSetTrace previous) {
+        super();
+        this.owner = owner;
+        this.entries = new Entry[size];
+        // Traces of other RuleSets are of no use
+        this.previous = previous != null && previous.owner == owner && previous.size() == size ? previous : null;
+    }
+
+    /**
+     * Trace of the previous execution; only available during the execution.
+     *
+     * @return previous trace; null if there is none.
+     */
+    RuleSetTrace getPrevious() {
+        return previous;
+    }
+
+    void clearPrevious() {
+        this.previous = null;
+    }
+
+    int size() {
+        return entries.length;
+    }
+
+    Entry get(int index) {
+        return entries[index];
+    }
+
+    void set(int index, Entry entry) {
+        entries[index] = entry;
+    }
+
+    /**
+     * Captures the Bindings currently matched to the parameters of the given methods along with their versions.
+     *
+     * @param context rule context.
+     * @param definitions methods of the item.
+     * @param executionResult result of the item.
+     * @return new entry.
+     */
+    static Entry capture(RuleContext context, MethodDefinition[] definitions, Object executionResult) {
+        Binding<?>[][] matched = new Binding<?>[definitions.length][];
+        long[][] versions = new long[definitions.length][];
+
+        for (int i = 0; i < definitions.length; i++) {
+            ParameterMatch[] matches = context.match(definitions[i]);
+            matched[i] = new Binding<?>[matches.length];
+            versions[i] = new long[matches.length];
+
+            for (int j = 0; j < matches.length; j++) {
+                Binding<?> binding = matches[j] != null ? matches[j].getBinding() : null;
+                matched[i][j] = binding;
+                versions[i][j] = binding != null ? binding.getVersion() : 0L;
+            }
+        }
+
+        return new Entry(definitions, matched, versions, executionResult);
+    }
+
+    static final class Entry {
+        private final MethodDefinition[] definitions;
+        private final Binding<?>[][] bindings;
+        private final long[][] versions;
+        private final Object executionResult;
+
+        private Entry(MethodDefinition[] definitions, Binding<?>[][] bindings, long[][] versions,
+                      Object executionResult) {
+            super();
+            this.definitions = definitions;
+            this.bindings = bindings;
+            this.versions = versions;
+            this.executionResult = executionResult;
+        }
+
+        /**
+         * Determines whether the parameters still match the same Bindings and none of them have changed since this
+         * entry was captured.
+         *
+         * @param context rule context.
+         * @return true if the inputs are unchanged; false otherwise.
+         */
+        boolean isCurrent(RuleContext context) {
+            for (int i = 0; i < definitions.length; i++) {
+                ParameterMatch[] matches;
+
+                try {
+                    matches = context.match(definitions[i]);
+                } catch (RuntimeException e) {
+                    // Let the item run (and report the problem)
+                    return false;
+                }
+
+                if (matches.length != bindings[i].length) return false;
+
+                for (int j = 0; j < matches.length; j++) {
+                    Binding<?> binding = matches[j] != null ? matches[j].getBinding() : null;
+                    // Matched to a different Binding (ie: bound by type or replaced)
+                    if (binding != bindings[i][j]) return false;
+                    if (binding == null) continue;
+                    if (versions[i][j] == Bindings.UNVERSIONED || binding.getVersion() != versions[i][j]) return false;
+                }
+            }
+
+            return true;
+        }
+
+        Object getExecutionResult() {
+            return executionResult;
+        }
+    }
+}
@@ -23,9 +23,14 @@ import org.algorithmx.rulii.core.Identifiable;
 import org.algorithmx.rulii.core.Runnable;
 import org.algorithmx.rulii.core.UnrulyException;
 import org.algorithmx.rulii.core.condition.Condition;
+import org.algorithmx.rulii.core.condition.ConditionKey;
 import org.algorithmx.rulii.core.context.RuleContext;
+import org.algorithmx.rulii.core.model.MethodDefinition;
+import org.algorithmx.rulii.core.rule.Rule;
+import org.algorithmx.rulii.core.rule.RuleExecutionStatus;
 import org.algorithmx.rulii.core.rule.RuleResult;
 import org.algorithmx.rulii.core.rule.RuleResultExtractor;
+import org.algorithmx.rulii.event.EventProcessor;
 import org.algorithmx.rulii.event.EventType;
 import org.algorithmx.rulii.event.ExecutionEvent;
 import org.algorithmx.rulii.event.RuleSetExecution;
@@ -33,7 +38,10 @@ import org.algorithmx.rulii.lib.spring.util.Assert;
 import org.algorithmx.rulii.util.RuleUtils;
 
 import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
 import java.util.Iterator;
+import java.util.Map;
 
 /**
  * Default implementation of the RuleSet.
@@ -43,16 +51,31 @@ import java.util.Iterator;
  */
 public class RulingFamily implements RuleSet {
 
+    private static final String RULE_SET_RESULT = "ruleSetResult";
+
     private final RuleSetDefinition ruleSetDefinition;
     private final Runnable[] ruleSetItems;
     private final Runnable[] combinedRuleSetItems;
     private final RuleSet parent;
     private final Condition preCondition;
     private final Condition stopCondition;
+    private final String scopeName;
+    private final RuleSetDecisionIndex decisionIndex;
+    // (Pre)conditions used by more than one Rule
+    private final Map<Condition, ConditionKey> sharedConditions;
+    // Method definitions per item (built on the first rerun); null entries always run
+    private volatile MethodDefinition[][] inputs;
 
     public RulingFamily(RuleSetDefinition ruleSetDefinition, RuleSet parent,
                         Condition preCondition, Condition stopCondition,
                         Runnable...ruleSetItems) {
+        this(ruleSetDefinition, parent, preCondition, stopCondition, Collections.emptyMap(), ruleSetItems);
+    }
+
+    public RulingFamily(RuleSetDefinition ruleSetDefinition, RuleSet parent,
+                        Condition preCondition, Condition stopCondition,
+                        Map<String, Map<String, Object>> declaredKeys,
+                        Runnable...ruleSetItems) {
         super();
         Assert.notNull(ruleSetDefinition, "ruleSetDefinition cannot be null");
         this.ruleSetDefinition = ruleSetDefinition;
@@ -61,20 +84,60 @@ public class RulingFamily implements RuleSet {
         this.combinedRuleSetItems = combine(ruleSetItems, parent);
         this.preCondition = preCondition;
         this.stopCondition = stopCondition;
+        this.scopeName = ruleSetDefinition.getName() + "-scope";
         Assert.notNullArray(ruleSetItems, "ruleSetItems");
+        this.decisionIndex = RuleSetDecisionIndex.create(combinedRuleSetItems, declaredKeys);
+        this.sharedConditions = SharedConditions.find(combinedRuleSetItems);
     }
 
     @Override
     public RuleSetResult run(RuleContext context) throws UnrulyException {
+        return execute(context, null);
+    }
+
+    /**
+     * Re-runs this RuleSet; only the items whose inputs (Bindings matched to their parameters) have changed
+     * since the previous execution are run again, the others contribute their previous result. Items that can touch
+     * anything (nested RuleSets, methods taking the Bindings/RuleContext) always run.
+     *
+     * @param context rule context.
+     * @param previous result of the previous (re)run of this RuleSet; null to run everything.
+     * @return result of the execution.
+     * @throws UnrulyException thrown if there are any errors during the execution.
+     */
+    @Override
+    public RuleSetResult rerun(RuleContext context, RuleSetResult previous) throws UnrulyException {
+        return execute(context, new RuleSetTrace(this, size(), previous != null ? previous.getTrace() : null));
+    }
+
+    private RuleSetResult execute(RuleContext context, RuleSetTrace trace) {
         Assert.notNull(context, "context cannot be null");
 
         if (!context.isActive()) throw new UnrulyException("RuleContext is not Active. Perhaps it was stopped earlier ? "
                 + "Create a new RuleContext and try again.");
 
+        // Shared conditions are memoized for the duration of the execution
+        boolean memoOwner = context.startConditionMemo();
+        if (!sharedConditions.isEmpty()) context.getConditionMemo().share(sharedConditions);
+
+        try {
+            return runInternal(context, trace);
+        } finally {
+            if (memoOwner) context.endConditionMemo();
+            if (trace != null) trace.clearPrevious();
+        }
+    }
+
+    protected RuleSetResult runInternal(RuleContext context) {
+        return runInternal(context, null);
+    }
+
+    private RuleSetResult runInternal(RuleContext context, RuleSetTrace trace) {
         // RuleSet Start Event
-        context.getEventProcessor().fireListeners(createEvent(EventType.RULE_SET_START, null));
+        fireEvent(context, EventType.RULE_SET_START, null);
 
         RuleSetResult result = new RuleSetResult(context.getBindings());
+        result.setTrace(trace);
 
         // Run the PreCondition if there is one.
         boolean preConditionCheck = processCondition(context, getPreCondition(), EventType.RULE_SET_PRE_CONDITION_START,
@@ -87,61 +150,175 @@ public class RulingFamily implements RuleSet {
         // Create a new Scope for the RuleSet to use
         Bindings ruleSetScope = createRuleSetScope(context, result);
         try {
-            int index = 0;
-
-            // Execute the rules/actions in order; STOP if the stopCondition is met.
-            for (Runnable runnable : getRuleSetItems()) {
-                try {
-                    // Run the rule/action
-                    Object executionResult = runnable.run(context);
-
-                    if (executionResult instanceof RuleResult) {
-                        ((RuleResult) executionResult).setParentName(this.getName());
-                    }
-
-                    // Add the results if avail
-                    if (runnable instanceof RuleResultExtractor) {
-                        RuleResult[] results = ((RuleResultExtractor) executionResult).extract();
-                        if (results != null) result.addAll();
-                    }
-
-                    index++;
-                } catch (Exception e) {
-                    throw new RuleSetExecutionException("Unexpected error occurred trying to execute "
-                            + runnable.getClass().getSimpleName()
-                            + "[" + (runnable instanceof Identifiable
-                                    ? ((Identifiable) runnable).getName()
-                                    : runnable.toString())
-                                + "] at Index [" + index + "/" + size() + "] on RuleSet [" + getName() + "]", e, this);
-                }
-
-                // Looks like stopExecution was called on the RuleContext
-                if (!context.isActive()) {
-                    break;
-                }
-
-                // Check to see if we need to stop the execution?
-                if (getStopCondition() != null && processCondition(context, getStopCondition(),
-                        EventType.RULE_SET_STOP_CONDITION_START, EventType.RULE_SET_STOP_CONDITION_END)) {
-                    break;
-                }
-            }
+            runItems(context, result);
         } finally {
             removeRuleSetScope(context, ruleSetScope);
             // RuleSet End Event
-            context.getEventProcessor().fireListeners(createEvent(EventType.RULE_SET_END, null));
+            fireEvent(context, EventType.RULE_SET_END, null);
+        }
+
+        return result;
+    }
+
+    /**
+     * Executes the rules/actions in order; STOPs if the stopCondition is met. If the RuleSet has keyed Rules only the
+     * ones whose keys match the current Bindings are executed (see RuleSetDecisionIndex).
+     *
+     * @param context rule context.
+     * @param result results of the RuleSet execution.
+     */
+    protected void runItems(RuleContext context, RuleSetResult result) {
+        Runnable[] items = getRuleSetItems();
+
+        if (result.getTrace() != null) {
+            runTracedItems(context, items, result.getTrace(), result);
+            return;
+        }
+
+        // Keys are Binding names; only usable when Bindings are matched by name first
+        if (decisionIndex != null && context.getMatchingStrategy().isNameFirst()) {
+            runSelectedItems(context, items, result);
+            return;
+        }
+
+        for (int index = 0; index < items.length; index++) {
+            // Run the rule/action
+            runItem(context, items[index], index, result);
+
+            // Looks like stopExecution was called on the RuleContext or we need to stop the execution
+            if (isStopRequired(context)) break;
+        }
+    }
+
+    private void runSelectedItems(RuleContext context, Runnable[] items, RuleSetResult result) {
+        Bindings bindings = context.getBindings();
+        RuleSetDecisionIndex.KeyState keys = decisionIndex.capture(bindings);
+        BitSet selected = decisionIndex.select(bindings, context.getRegistry());
+
+        for (int index = 0; index < items.length; index++) {
+            if (!selected.get(index)) {
+                // Keys do not match; same outcome as the condition failing (indexed Rules have no otherwise Action)
+                RuleResult skipped = new RuleResult(((Rule) items[index]).getName(), RuleExecutionStatus.FAIL);
+                skipped.setParentName(getName());
+                addResult(items[index], skipped, result);
+                continue;
+            }
+
+            // Run the rule/action
+            runItem(context, items[index], index, result);
+
+            // Looks like stopExecution was called on the RuleContext or we need to stop the execution
+            if (isStopRequired(context)) break;
+
+            // The item changed (or bound) a key Binding; select again
+            if (!keys.isCurrent(bindings)) {
+                keys = decisionIndex.capture(bindings);
+                selected = decisionIndex.select(bindings, context.getRegistry());
+            }
+        }
+    }
+
+    private void runTracedItems(RuleContext context, Runnable[] items, RuleSetTrace trace, RuleSetResult result) {
+        MethodDefinition[][] inputs = getInputs();
+        RuleSetTrace previous = trace.getPrevious();
+
+        for (int index = 0; index < items.length; index++) {
+            RuleSetTrace.Entry entry = previous != null ? previous.get(index) : null;
+
+            if (entry != null && entry.isCurrent(context)) {
+                // Nothing it depends on has changed; reuse the previous result
+                trace.set(index, entry);
+                addResult(items[index], entry.getExecutionResult(), result);
+            } else {
+                Object executionResult = runItem(context, items[index], index, result);
+                // Captured after the run so that the item's own writes do not count as changes
+                if (inputs[index] != null) trace.set(index, RuleSetTrace.capture(context, inputs[index], executionResult));
+            }
+
+            // Looks like stopExecution was called on the RuleContext or we need to stop the execution
+            if (isStopRequired(context)) break;
+        }
+    }
+
+    private MethodDefinition[][] getInputs() {
+        MethodDefinition[][] result = inputs;
+        if (result != null) return result;
+
+        Runnable[] items = getRuleSetItems();
+        result = new MethodDefinition[items.length][];
+
+        for (int i = 0; i < items.length; i++) {
+            RuleFootprint footprint = RuleFootprint.create(items[i], Collections.emptyMap());
+            // Can read anything; always run
+            if (footprint.isBarrier()) continue;
+            result[i] = footprint.getDefinitions().toArray(new MethodDefinition[footprint.getDefinitions().size()]);
         }
 
+        this.inputs = result;
         return result;
     }
 
+    /**
+     * Executes a single rule/action of this RuleSet.
+     *
+     * @param context rule context.
+     * @param runnable rule/action to run.
+     * @param index index of the item within the RuleSet.
+     * @param result results of the RuleSet execution.
+     * @return result of the rule/action.
+     */
+    protected Object runItem(RuleContext context, Runnable runnable, int index, RuleSetResult result) {
+        try {
+            // Run the rule/action
+            Object executionResult = runnable.run(context);
+
+            if (executionResult instanceof RuleResult) {
+                ((RuleResult) executionResult).setParentName(this.getName());
+            }
+
+            addResult(runnable, executionResult, result);
+            return executionResult;
+        } catch (Exception e) {
+            throw new RuleSetExecutionException("Unexpected error occurred trying to execute "
+                    + runnable.getClass().getSimpleName()
+                    + "[" + (runnable instanceof Identifiable
+                            ? ((Identifiable) runnable).getName()
+                            : runnable.toString())
+                        + "] at Index [" + index + "/" + size() + "] on RuleSet [" + getName() + "]", e, this);
+        }
+    }
+
+    protected void addResult(Runnable runnable, Object executionResult, RuleSetResult result) {
+        // Add the results if avail
+        if (runnable instanceof RuleResultExtractor) {
+            RuleResult[] results = ((RuleResultExtractor) executionResult).extract();
+            if (results != null) result.addAll();
+        }
+    }
+
+    /**
+     * Determines whether the execution of the remaining items must stop. That is the case if stopExecution was called
+     * on the RuleContext or the stopCondition is met.
+     *
+     * @param context rule context.
+     * @return true if the execution must stop; false otherwise.
+     */
+    protected boolean isStopRequired(RuleContext context) {
+        // Looks like stopExecution was called on the RuleContext
+        if (!context.isActive()) return true;
+
+        // Check to see if we need to stop the execution?
+        return getStopCondition() != null && processCondition(context, getStopCondition(),
+                EventType.RULE_SET_STOP_CONDITION_START, EventType.RULE_SET_STOP_CONDITION_END);
+    }
+
     protected boolean processCondition(RuleContext context, Condition condition, EventType startEventType, EventType endEventType) {
 
         // Check Condition exists
         if (condition == null) return true;
 
         // Fire the event
-        context.getEventProcessor().fireListeners(createEvent(startEventType, condition));
+        fireEvent(context, startEventType, condition);
 
         try {
             // Check the condition
@@ -151,23 +328,44 @@ public class RulingFamily implements RuleSet {
                     + startEventType.getDescription() + "] on RuleSet [" + getName() + "].", e, this);
         } finally {
             // Fire the end event
-            context.getEventProcessor().fireListeners(createEvent(endEventType, condition));
+            fireEvent(context, endEventType, condition);
         }
     }
 
+    protected void fireEvent(RuleContext context, EventType eventType, Object executingElement) {
+        EventProcessor eventProcessor = context.getEventProcessor();
+        // Nobody is listening; do not bother creating the event
+        if (!eventProcessor.isListening(eventType)) return;
+        eventProcessor.fireListeners(createEvent(eventType, executingElement));
+    }
+
     protected ExecutionEvent<RuleSetExecution> createEvent(EventType eventType, Object executingElement) {
         RuleSetExecution ruleExecution = new RuleSetExecution( this, executingElement);
         return new ExecutionEvent<>(eventType, ruleExecution);
     }
 
     protected Bindings createRuleSetScope(RuleContext context, RuleSetResult ruleResultSet) {
-        Bindings result = context.getBindings().addScope(getName() + "-scope");
-        context.getBindings().bind("ruleSetResult", RuleSetResult.class, ruleResultSet);
+        // Same scope as the last run; keeps the parameter matches valid
+        Bindings result = context.reuseScope(scopeName);
+
+        if (result != null) {
+            result.setValue(RULE_SET_RESULT, ruleResultSet);
+        } else {
+            result = Bindings.create().bind(RULE_SET_RESULT, RuleSetResult.class, ruleResultSet);
+        }
+
+        context.getBindings().addScope(scopeName, result);
         return result;
     }
 
     protected void removeRuleSetScope(RuleContext context, Bindings target) {
         context.getBindings().removeScope(target);
+
+        // Nothing else was bound in the scope; it can be reused by the next run
+        if (target.size() == 1) {
+            target.setValue(RULE_SET_RESULT, null);
+            context.releaseScope(scopeName, target);
+        }
     }
 
     @Override
@@ -237,6 +435,15 @@ public class RulingFamily implements RuleSet {
         return combinedRuleSetItems;
     }
 
+    /**
+     * Index of the keyed Rules.
+     *
+     * @return decision index; null if none of the Rules are keyed.
+     */
+    public RuleSetDecisionIndex getDecisionIndex() {
+        return decisionIndex;
+    }
+
     private static Runnable[] combine(Runnable[] ruleSetItems, RuleSet parent) {
         if (parent == null || parent.getRuleSetItems().length == 0) return ruleSetItems;
         Runnable[] result = new Runnable[parent.getRuleSetItems().length + ruleSetItems.length];
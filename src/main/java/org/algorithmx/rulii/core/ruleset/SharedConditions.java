@@ -0,0 +1,98 @@
+/*
+ * This software is licensed under the Apache 2 license, quoted below.
+ *
+ * Copyright (c) 1999-2021, Algorithmx Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.algorithmx.rulii.core.ruleset;
+
+import org.algorithmx.rulii.annotation.Pinned;
+import org.algorithmx.rulii.bind.Bindings;
+import org.algorithmx.rulii.core.Runnable;
+import org.algorithmx.rulii.core.condition.Condition;
+import org.algorithmx.rulii.core.condition.ConditionKey;
+import org.algorithmx.rulii.core.condition.MemoizedCondition;
+import org.algorithmx.rulii.core.context.RuleContext;
+import org.algorithmx.rulii.core.model.ParameterDefinition;
+import org.algorithmx.rulii.core.rule.Rule;
+import org.algorithmx.rulii.core.rule.RulingClass;
+import org.algorithmx.rulii.lib.apache.reflect.TypeUtils;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * Finds the structurally identical (pre)conditions that are used by more than one Rule of a RuleSet. Their results are
+ * memoized (see ConditionMemo) so that they are only evaluated once per execution; the Rules themselves are left as
+ * is. Pinned conditions (@Pinned) are assumed to have side effects and are left alone.
+ *
+ * @author Max Arulananthan
+ * @since 1.0
+ */
+final class SharedConditions {
+
+    private SharedConditions() {
+        super();
+    }
+
+    /**
+     * Finds the shared conditions.
+     *
+     * @param items rule set items.
+     * @return shared conditions (by identity) and their keys; empty if nothing is shared.
+     */
+    static Map<Condition, ConditionKey> find(Runnable[] items) {
+        Map<Condition, ConditionKey> keys = new IdentityHashMap<>();
+        Map<ConditionKey, Integer> counts = new HashMap<>();
+
+        for (Runnable item : items) {
+            // Only RulingClasses go through the memo
+            if (!(item instanceof RulingClass)) continue;
+            Rule rule = (Rule) item;
+            add(keys, counts, rule.getPreCondition());
+            add(keys, counts, rule.getCondition());
+        }
+
+        keys.values().removeIf(key -> counts.get(key) < 2);
+        return keys.isEmpty() ? Collections.emptyMap() : Collections.unmodifiableMap(keys);
+    }
+
+    private static void add(Map<Condition, ConditionKey> keys, Map<ConditionKey, Integer> counts, Condition condition) {
+        if (condition == null) return;
+        // Same Condition used by more than one Rule
+        ConditionKey key = keys.containsKey(condition) ? keys.get(condition) : getShareableKey(condition);
+        if (key == null) return;
+        keys.put(condition, key);
+        counts.merge(key, 1, Integer::sum);
+    }
+
+    private static ConditionKey getShareableKey(Condition condition) {
+        if (condition instanceof MemoizedCondition) return null;
+        if (condition.getMethodDefinition() == null) return null;
+        if (condition.getMethodDefinition().getMethod().isAnnotationPresent(Pinned.class)) return null;
+        if (condition.getTarget() != null && condition.getTarget().getClass().isAnnotationPresent(Pinned.class)) return null;
+
+        for (ParameterDefinition parameter : condition.getMethodDefinition().getParameterDefinitions()) {
+            Class<?> type = TypeUtils.getRawType(parameter.getType(), null);
+            // Reads through the Bindings/RuleContext cannot be captured by the memo
+            if (type != null && (Bindings.class.isAssignableFrom(type) || RuleContext.class.isAssignableFrom(type))) {
+                return null;
+            }
+        }
+
+        return ConditionKey.create(condition);
+    }
+}
@@ -22,6 +22,7 @@ import org.algorithmx.rulii.bind.match.ParameterMatch;
 import org.algorithmx.rulii.core.action.Action;
 import org.algorithmx.rulii.core.model.MethodDefinition;
 import org.algorithmx.rulii.lib.spring.util.Assert;
+import org.algorithmx.rulii.util.RuleUtils;
 
 public class ActionExecution {
 
@@ -47,6 +48,16 @@ public class ActionExecution {
         this.values = values;
     }
 
+    /**
+     * Copy of this execution that no longer changes along with the Bindings (ie: when the event is delivered later).
+     *
+     * @return detached copy.
+     */
+    public ActionExecution snapshot() {
+        return new ActionExecution(action, error, methodDefinition,
+                RuleUtils.detached(parameterMatches), values != null ? values.clone() : null);
+    }
+
     public Action getAction() {
         return action;
     }
@@ -0,0 +1,302 @@
+/*
+ * This software is licensed under the Apache 2 license, quoted below.
+ *
+ * Copyright (c) 1999-2021, Algorithmx Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.algorithmx.rulii.event;
+
+import org.algorithmx.rulii.lib.spring.util.Assert;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.LockSupport;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * EventProcessor that hands events off to a background thread. Rule threads only publish the event into a bounded,
+ * preallocated ring buffer; a single consumer thread drains the buffer and delivers the events (in publish order) to
+ * the registered listeners (ex: ExecutionTracer/ExecutionCollector). What happens when the buffer is full is decided
+ * by the BackpressurePolicy.
+ *
+ * Event payloads (parameter matches and values) are snapshotted when published as the consumer reads them later. The
+ * consumer parks while the buffer is empty and is woken up by the producers.
+ *
+ * @author Max Arulananthan
+ * @since 1.0
+ */
+public class AsyncEventProcessor implements EventProcessor, AutoCloseable {
+
+    private static final Logger LOGGER = Logger.getLogger(AsyncEventProcessor.class.getName());
+    private static final long IDLE_WAIT = TimeUnit.MICROSECONDS.toNanos(100);
+
+    private final EventProcessor delegate;
+    private final BackpressurePolicy policy;
+    private final int sampleRate;
+    private final int highWaterMark;
+
+    // Ring buffer (bounded MPSC queue)
+    private final ExecutionEvent<?>[] buffer;
+    private final AtomicLongArray sequences;
+    private final int mask;
+    private final AtomicLong tail = new AtomicLong();
+    private volatile long head = 0;
+    // Events handed to the listeners (single writer; the consumer)
+    private volatile long delivered = 0;
+
+    private final AtomicLong dropped = new AtomicLong();
+    private final AtomicLong sampleCounter = new AtomicLong();
+    private final Thread consumer;
+    private volatile boolean consumerWaiting = false;
+    // Producers currently between the running check and the publish
+    private final AtomicInteger publishers = new AtomicInteger();
+    private volatile boolean running = true;
+
+    public AsyncEventProcessor(int capacity, BackpressurePolicy policy) {
+        this(EventProcessor.create(), capacity, policy, 10);
+    }
+
+    public AsyncEventProcessor(EventProcessor delegate, int capacity, BackpressurePolicy policy, int sampleRate) {
+        super();
+        Assert.notNull(delegate, "delegate cannot be null.");
+        Assert.notNull(policy, "policy cannot be null.");
+        Assert.isTrue(capacity > 1, "capacity must be greater than 1.");
+        Assert.isTrue(sampleRate > 0, "sampleRate must be greater than 0.");
+        this.delegate = delegate;
+        this.policy = policy;
+        this.sampleRate = sampleRate;
+
+        int size = Integer.highestOneBit(capacity - 1) << 1;
+        this.buffer = new ExecutionEvent<?>[size];
+        this.sequences = new AtomicLongArray(size);
+        for (int i = 0; i < size; i++) sequences.set(i, i);
+        this.mask = size - 1;
+        this.highWaterMark = size - (size >> 2);
+
+        this.consumer = new Thread(this::consume, "rulii-event-processor");
+        this.consumer.setDaemon(true);
+        this.consumer.start();
+    }
+
+    @Override
+    public boolean isEventsEnabled() {
+        return delegate.isEventsEnabled();
+    }
+
+    @Override
+    public void setEventsEnabled(boolean eventsEnabled) {
+        delegate.setEventsEnabled(eventsEnabled);
+    }
+
+    @Override
+    public void addEventListener(ExecutionListener listener) {
+        delegate.addEventListener(listener);
+    }
+
+    @Override
+    public void addEventListener(ExecutionListener listener, EventType... eventTypes) {
+        delegate.addEventListener(listener, eventTypes);
+    }
+
+    @Override
+    public void removeEventListener(ExecutionListener listener) {
+        delegate.removeEventListener(listener);
+    }
+
+    @Override
+    public boolean isListening(EventType eventType) {
+        return running && delegate.isListening(eventType);
+    }
+
+    @Override
+    public <T> void fireListeners(ExecutionEvent<T> event) {
+        Assert.notNull(event, "event cannot be null.");
+        if (!delegate.isListening(event.getEventType())) return;
+
+        publishers.incrementAndGet();
+
+        try {
+            // Closed; the consumer may already be gone
+            if (!running) {
+                dropped.incrementAndGet();
+                return;
+            }
+
+            if (policy == BackpressurePolicy.SAMPLE && size() >= highWaterMark
+                    && sampleCounter.incrementAndGet() % sampleRate != 0) {
+                dropped.incrementAndGet();
+                return;
+            }
+
+            ExecutionEvent<?> snapshot = snapshot(event);
+
+            while (!offer(snapshot)) {
+                if (policy != BackpressurePolicy.BLOCK || !running) {
+                    dropped.incrementAndGet();
+                    return;
+                }
+                // Wait for the consumer to catch up
+                LockSupport.parkNanos(IDLE_WAIT);
+            }
+
+            if (consumerWaiting) LockSupport.unpark(consumer);
+        } finally {
+            publishers.decrementAndGet();
+        }
+    }
+
+    /**
+     * Waits until all the events published so far have been delivered to the listeners.
+     *
+     * @param timeout maximum time to wait.
+     * @param unit time unit of the timeout.
+     * @return true if everything was delivered; false if the timeout elapsed.
+     */
+    public boolean flush(long timeout, TimeUnit unit) {
+        long target = tail.get();
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+
+        while (delivered < target) {
+            if (System.nanoTime() > deadline) return false;
+            LockSupport.parkNanos(IDLE_WAIT);
+        }
+
+        return true;
+    }
+
+    /**
+     * Stops accepting events, delivers whatever is left in the buffer and stops the consumer thread.
+     */
+    @Override
+    public void close() {
+        running = false;
+        LockSupport.unpark(consumer);
+
+        try {
+            consumer.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Number of events that were not delivered due to the BackpressurePolicy.
+     *
+     * @return dropped event count.
+     */
+    public long getDroppedCount() {
+        return dropped.get();
+    }
+
+    public BackpressurePolicy getPolicy() {
+        return policy;
+    }
+
+    public int getCapacity() {
+        return buffer.length;
+    }
+
+    private int size() {
+        return (int) (tail.get() - head);
+    }
+
+    private boolean offer(ExecutionEvent<?> event) {
+        while (true) {
+            long position = tail.get();
+            int index = (int) (position & mask);
+            long difference = sequences.get(index) - position;
+
+            if (difference < 0) return false;
+
+            if (difference == 0 && tail.compareAndSet(position, position + 1)) {
+                buffer[index] = event;
+                // Publish the slot to the consumer (full fence; pairs with the consumerWaiting check)
+                sequences.set(index, position + 1);
+                return true;
+            }
+        }
+    }
+
+    private ExecutionEvent<?> poll() {
+        long position = head;
+        int index = (int) (position & mask);
+
+        // Slot not published yet
+        if (sequences.get(index) != position + 1) return null;
+
+        ExecutionEvent<?> result = buffer[index];
+        buffer[index] = null;
+        // Release the slot back to the producers
+        sequences.lazySet(index, position + buffer.length);
+        head = position + 1;
+        return result;
+    }
+
+    private boolean isPublished() {
+        long position = head;
+        return sequences.get((int) (position & mask)) == position + 1;
+    }
+
+    private void consume() {
+        while (true) {
+            ExecutionEvent<?> event = poll();
+
+            if (event == null) {
+                if (!running) {
+                    // Done; nobody can publish anymore and nothing is left to deliver
+                    if (publishers.get() == 0 && head == tail.get()) return;
+                    // A producer is in the middle of publishing
+                    Thread.yield();
+                    continue;
+                }
+
+                consumerWaiting = true;
+                // Re-check after announcing so a publish in between is not missed
+                if (running && !isPublished()) LockSupport.park(this);
+                consumerWaiting = false;
+                continue;
+            }
+
+            try {
+                delegate.fireListeners(event);
+            } catch (RuntimeException e) {
+                // Listener errors must not kill the consumer
+                LOGGER.log(Level.WARNING, "Listener failed to process event [" + event.getEventType() + "]", e);
+            }
+
+            delivered = delivered + 1;
+        }
+    }
+
+    private static ExecutionEvent<?> snapshot(ExecutionEvent<?> event) {
+        Object data = event.getData();
+        Object result;
+
+        if (data instanceof ConditionExecution) {
+            result = ((ConditionExecution) data).snapshot();
+        } else if (data instanceof ActionExecution) {
+            result = ((ActionExecution) data).snapshot();
+        } else if (data instanceof FunctionExecution) {
+            result = ((FunctionExecution<?>) data).snapshot();
+        } else {
+            return event;
+        }
+
+        return new ExecutionEvent<>(event.getEventType(), result, event.getTime());
+    }
+}
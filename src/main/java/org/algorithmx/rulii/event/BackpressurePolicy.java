@@ -0,0 +1,37 @@
+/*
+ * This software is licensed under the Apache 2 license, quoted below.
+ *
+ * Copyright (c) 1999-2021, Algorithmx Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.algorithmx.rulii.event;
+
+/**
+ * What an AsyncEventProcessor does when its buffer cannot keep up with the rule threads.
+ *
+ * @author Max Arulananthan
+ * @since 1.0
+ */
+public enum BackpressurePolicy {
+
+    // Events are discarded when the buffer is full.
+    DROP,
+
+    // The rule thread waits until there is room in the buffer.
+    BLOCK,
+
+    // Once the buffer is past its high water mark only every n-th event is kept; events are dropped when it is full.
+    SAMPLE
+}
@@ -21,12 +21,30 @@ package org.algorithmx.rulii.event;
 import org.algorithmx.rulii.lib.spring.util.Assert;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
+/**
+ * Default EventProcessor. Listener registration is copy-on-write; every change rebuilds an immutable EventType to
+ * listener[] table which is published through a volatile field. Firing an event is therefore lock-free
+ * (a volatile read and an array loop), which keeps threads that share a processor from contending.
+ *
+ * @author Max Arulananthan
+ * @since 1.0
+ */
 public class DefaultEventProcessor implements EventProcessor {
 
-    private final List<ExecutionListener> listeners = new ArrayList<>();
-    private boolean eventsEnabled = true;
+    private static final ExecutionListener[] NO_LISTENERS = new ExecutionListener[0];
+
+    // Guarded by this; only used to rebuild the dispatch table
+    private final List<Registration> registrations = new ArrayList<>();
+    private volatile DispatchTable dispatchTable = new DispatchTable(Collections.emptyList());
+    private volatile boolean eventsEnabled = true;
 
     public DefaultEventProcessor() {
         super();
@@ -41,21 +59,81 @@ public class DefaultEventProcessor implements EventProcessor {
     }
 
     public synchronized void addEventListener(ExecutionListener listener) {
-        this.listeners.add(listener);
+        addEventListener(listener, EventType.values());
+    }
+
+    public synchronized void addEventListener(ExecutionListener listener, EventType...eventTypes) {
+        Assert.notNull(listener, "listener cannot be null.");
+        Assert.notNull(eventTypes, "eventTypes cannot be null.");
+        this.registrations.add(new Registration(listener, eventTypes));
+        this.dispatchTable = new DispatchTable(registrations);
     }
 
     public synchronized void removeEventListener(ExecutionListener listener) {
-        this.listeners.remove(listener);
+        this.registrations.removeIf(registration -> registration.listener.equals(listener));
+        this.dispatchTable = new DispatchTable(registrations);
+    }
+
+    @Override
+    public boolean isListening(EventType eventType) {
+        return eventsEnabled && (dispatchTable.mask & eventType.getMask()) != 0;
     }
 
-    public synchronized <T> void fireListeners(ExecutionEvent<T> event) {
+    public <T> void fireListeners(ExecutionEvent<T> event) {
         Assert.notNull(event, "event cannot be null.");
         // Events turned off
         if (!isEventsEnabled()) return;
-        // Fire all the listeners
-        for (ExecutionListener listener : listeners) {
+        // Fire all the listeners interested in this type of event
+        for (ExecutionListener listener : dispatchTable.get(event.getEventType())) {
             listener.onEvent(event);
         }
     }
 
+    private static class Registration {
+
+        private final ExecutionListener listener;
+        private final Set<EventType> eventTypes;
+
+        private Registration(ExecutionListener listener, EventType...eventTypes) {
+            super();
+            this.listener = listener;
+            this.eventTypes = eventTypes.length == 0
+                    ? EnumSet.noneOf(EventType.class)
+                    : EnumSet.copyOf(Arrays.asList(eventTypes));
+        }
+    }
+
+    private static class DispatchTable {
+
+        private final Map<EventType, ExecutionListener[]> listeners = new EnumMap<>(EventType.class);
+        // Union of the EventTypes that have at least one listener
+        private final long mask;
+
+        private DispatchTable(List<Registration> registrations) {
+            super();
+            long mask = 0;
+
+            for (EventType eventType : EventType.values()) {
+                List<ExecutionListener> result = new ArrayList<>();
+
+                for (Registration registration : registrations) {
+                    if (registration.eventTypes.contains(eventType) && registration.listener.isInterested(eventType)) {
+                        result.add(registration.listener);
+                    }
+                }
+
+                if (result.isEmpty()) continue;
+
+                listeners.put(eventType, result.toArray(new ExecutionListener[result.size()]));
+                mask |= eventType.getMask();
+            }
+
+            this.mask = mask;
+        }
+
+        private ExecutionListener[] get(EventType eventType) {
+            ExecutionListener[] result = listeners.get(eventType);
+            return result != null ? result : NO_LISTENERS;
+        }
+    }
 }
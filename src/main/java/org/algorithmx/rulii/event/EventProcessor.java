@@ -24,13 +24,45 @@ public interface EventProcessor {
         return new DefaultEventProcessor();
     }
 
+    static AsyncEventProcessor createAsync(int capacity, BackpressurePolicy policy) {
+        return new AsyncEventProcessor(capacity, policy);
+    }
+
     boolean isEventsEnabled();
 
     void setEventsEnabled(boolean eventsEnabled);
 
     void addEventListener(ExecutionListener listener);
 
+    /**
+     * Registers a listener that only receives events of the given types (in addition to the listener's own
+     * isInterested check).
+     *
+     * The default implementation wraps the listener so that it only forwards the given types and registers the
+     * wrapper through {@link #addEventListener(ExecutionListener)}; implementations that can filter (and remove) by
+     * type themselves should override this.
+     *
+     * @param listener listener to add.
+     * @param eventTypes event types the listener subscribes to.
+     */
+    default void addEventListener(ExecutionListener listener, EventType...eventTypes) {
+        addEventListener(new EventTypeListener(listener, eventTypes));
+    }
+
     void removeEventListener(ExecutionListener listener);
 
+    /**
+     * Cheap check to determine whether an event of the given type would be delivered to anyone. Callers should use
+     * this to avoid building the event (and its payload) when nobody is listening.
+     *
+     * Implementations that cannot tell cheaply should return true (the default).
+     *
+     * @param eventType type of event.
+     * @return true if events are enabled and at least one listener is interested in the given type; false otherwise.
+     */
+    default boolean isListening(EventType eventType) {
+        return true;
+    }
+
     <T> void fireListeners(ExecutionEvent<T> event);
 }
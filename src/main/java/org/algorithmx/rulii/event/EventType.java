@@ -43,6 +43,7 @@ public enum EventType {
     RULE_SET_STOP_CONDITION_END("RuleSet Stop Condition");
 
     private String description;
+    private final long mask = 1L << ordinal();
 
     EventType() {
         this("");
@@ -55,4 +56,13 @@ public enum EventType {
     public String getDescription() {
         return description;
     }
+
+    /**
+     * Bit used to represent this EventType within an event mask.
+     *
+     * @return single bit mask for this EventType.
+     */
+    public long getMask() {
+        return mask;
+    }
 }
@@ -0,0 +1,56 @@
+/*
+ * This software is licensed under the Apache 2 license, quoted below.
+ *
+ * Copyright (c) 1999-2021, Algorithmx Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.algorithmx.rulii.event;
+
+import org.algorithmx.rulii.lib.spring.util.Assert;
+
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * ExecutionListener that only forwards events of the given types to the underlying listener.
+ *
+ * @author Max Arulananthan
+ * @since 1.0
+ */
+final class EventTypeListener implements ExecutionListener {
+
+    private final ExecutionListener delegate;
+    private final Set<EventType> eventTypes;
+
+    EventTypeListener(ExecutionListener delegate, EventType...eventTypes) {
+        super();
+        Assert.notNull(delegate, "delegate cannot be null.");
+        Assert.notNull(eventTypes, "eventTypes cannot be null.");
+        this.delegate = delegate;
+        this.eventTypes = eventTypes.length == 0
+                ? EnumSet.noneOf(EventType.class)
+                : EnumSet.copyOf(Arrays.asList(eventTypes));
+    }
+
+    @Override
+    public <T> void onEvent(ExecutionEvent<T> event) {
+        if (event != null && eventTypes.contains(event.getEventType())) delegate.onEvent(event);
+    }
+
+    @Override
+    public boolean isInterested(EventType eventType) {
+        return eventTypes.contains(eventType) && delegate.isInterested(eventType);
+    }
+}
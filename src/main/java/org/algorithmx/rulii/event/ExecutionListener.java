@@ -21,4 +21,15 @@ package org.algorithmx.rulii.event;
 public interface ExecutionListener {
 
     <T> void onEvent(ExecutionEvent<T> event);
+
+    /**
+     * Determines whether this listener wants to receive events of the given type. Listeners that only care about
+     * a subset of events should override this so that the events they ignore are never built.
+     *
+     * @param eventType type of event.
+     * @return true if the listener wants events of the given type; false otherwise.
+     */
+    default boolean isInterested(EventType eventType) {
+        return true;
+    }
 }
@@ -22,6 +22,7 @@ import org.algorithmx.rulii.bind.match.ParameterMatch;
 import org.algorithmx.rulii.core.function.Function;
 import org.algorithmx.rulii.core.model.MethodDefinition;
 import org.algorithmx.rulii.lib.spring.util.Assert;
+import org.algorithmx.rulii.util.RuleUtils;
 
 import java.util.Arrays;
 
@@ -56,6 +57,16 @@ public class FunctionExecution<T> {
         this.values = values;
     }
 
+    /**
+     * Copy of this execution that no longer changes along with the Bindings (ie: when the event is delivered later).
+     *
+     * @return detached copy.
+     */
+    public FunctionExecution<T> snapshot() {
+        return new FunctionExecution<>(function, result, error, methodDefinition,
+                RuleUtils.detached(parameterMatches), values != null ? values.clone() : null);
+    }
+
     public Function<T> getFunction() {
         return function;
     }
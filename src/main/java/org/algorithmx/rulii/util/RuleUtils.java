@@ -18,6 +18,8 @@
 
 package org.algorithmx.rulii.util;
 
+import org.algorithmx.rulii.bind.Binding;
+import org.algorithmx.rulii.bind.BindingBuilder;
 import org.algorithmx.rulii.bind.match.ParameterMatch;
 import org.algorithmx.rulii.core.model.MethodDefinition;
 import org.algorithmx.rulii.core.rule.Rule;
@@ -208,4 +210,28 @@ public final class RuleUtils {
 
         return result;
     }
+
+    /**
+     * Copies the matches; the matched Bindings are replaced with read-only copies holding their current values.
+     *
+     * @param matches parameter matches (can be null).
+     * @return detached copies; null if matches is null.
+     */
+    public static ParameterMatch[] detached(ParameterMatch[] matches) {
+        if (matches == null) return null;
+
+        ParameterMatch[] result = new ParameterMatch[matches.length];
+
+        for (int i = 0; i < matches.length; i++) {
+            ParameterMatch match = matches[i];
+            Binding<Object> binding = match.getBinding();
+            Binding<Object> copy = binding != null
+                    ? BindingBuilder.with(binding.getName()).type(binding.getType()).value(binding.getValue())
+                        .editable(false).build()
+                    : null;
+            result[i] = new ParameterMatch(match.getDefinition(), copy);
+        }
+
+        return result;
+    }
 }
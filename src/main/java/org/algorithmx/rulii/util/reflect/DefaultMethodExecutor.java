@@ -32,10 +32,23 @@ public class DefaultMethodExecutor implements MethodExecutor {
         Assert.notNull(method, "method cannot be null.");
         this.method = method;
         ReflectionUtils.makeAccessible(method);
+        this.delegate = createDelegate(method);
+    }
+
+    private static MethodExecutor createDelegate(Method method) {
+        // Generated invokers are the fastest option; only available for publicly accessible methods
+        if (GeneratedMethodExecutor.isSupported(method)) {
+            try {
+                return new GeneratedMethodExecutor(method);
+            } catch (Exception | LinkageError e) {
+                // Fall back to the MethodHandle
+            }
+        }
+
         try {
-            this.delegate = new MethodHandleMethodExecutor(method);
+            return new MethodHandleMethodExecutor(method);
         } catch (Exception e) {
-            this.delegate = new ReflectiveMethodExecutor(method);
+            return new ReflectiveMethodExecutor(method);
         }
     }
 
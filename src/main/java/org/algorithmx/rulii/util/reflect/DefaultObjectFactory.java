@@ -22,21 +22,34 @@ import org.algorithmx.rulii.bind.match.BindingMatchingStrategy;
 import org.algorithmx.rulii.core.UnrulyException;
 import org.algorithmx.rulii.lib.spring.util.Assert;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
 import java.lang.reflect.Method;
-import java.util.Map;
-import java.util.WeakHashMap;
+import java.lang.reflect.Modifier;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
- * Default Object Factory implementation. Objects are created via reflection using the default ctor.
+ * Default Object Factory implementation. Objects are created using the default ctor.
+ *
+ * The ctor (as a MethodHandle), the post constructor and the cached (singleton) instance are kept per class in a
+ * ClassValue; lookups are lock free and are released along with the class.
  *
  * @author Max Arulananthan
  * @since 1.0
  */
 public class DefaultObjectFactory implements ObjectFactory {
 
-    // Post Ctor cache by class.
-    private static final Map<Class<?>, Method> postConstructorCache = new WeakHashMap<>();
-    private static final Map<Class<?>, Object> objectCache          = new WeakHashMap<>();
+    private static final MethodType CONSTRUCTOR_TYPE    = MethodType.methodType(Object.class);
+    private static final MethodType POST_CONSTRUCT_TYPE = MethodType.methodType(void.class, Object.class);
+
+    private static final ClassValue<TypeInfo> TYPES = new ClassValue<TypeInfo>() {
+        @Override
+        protected TypeInfo computeValue(Class<?> type) {
+            return new TypeInfo(type);
+        }
+    };
 
     private final boolean useCache;
 
@@ -83,30 +96,21 @@ public class DefaultObjectFactory implements ObjectFactory {
     public <T> T create(Class<T> type, boolean isUseCache) {
         Assert.notNull(type, "type cannot be null.");
 
-        if (isUseCache && objectCache.containsKey(type)) return (T) objectCache.get(type);
+        TypeInfo info = TYPES.get(type);
+
+        if (isUseCache) {
+            Object cached = info.instance.get();
+            if (cached != null) return (T) cached;
+        }
 
         // Create the object
         T result = createInternal(type);
 
-        Method postConstructor;
+        // Call the Post Constructor (if one exists)
+        info.postConstruct(result);
 
-        // Check if we cached the post constructor
-        if (postConstructorCache.containsKey(type)) {
-            postConstructor = postConstructorCache.get(type);
-        } else {
-            // Find the post constructor if one exists.
-            postConstructor = ReflectionUtils.getPostConstructMethods(type);
-            // Cache the post constructor
-            postConstructorCache.put(type, postConstructor);
-        }
-
-        if (postConstructor != null) {
-            // Call the Post Constructor
-            ReflectionUtils.invokePostConstruct(postConstructor, result);
-        }
-
-        // Cache it
-        if (isUseCache) objectCache.put(type, result);
+        // Cache it; first one wins
+        if (isUseCache && !info.instance.compareAndSet(null, result)) return (T) info.instance.get();
 
         return result;
     }
@@ -116,10 +120,79 @@ public class DefaultObjectFactory implements ObjectFactory {
     }
 
     protected <T> T createInternal(Class<T> type) throws UnrulyException {
-        try {
-            return type.newInstance();
-        } catch (InstantiationException | IllegalAccessException e) {
-            throw new UnrulyException("Unable to instantiate type [" + type + "]. Does it have a default ctor ?", e);
+        return (T) TYPES.get(type).newInstance();
+    }
+
+    private static final class TypeInfo {
+
+        private final Class<?> type;
+        private final MethodHandle constructor;
+        private final Throwable constructorError;
+        private final Method postConstructor;
+        private final MethodHandle postConstructHandle;
+        private final AtomicReference<Object> instance = new AtomicReference<>();
+
+        private TypeInfo(Class<?> type) {
+            super();
+            this.type = type;
+
+            MethodHandle handle = null;
+            Throwable error = null;
+
+            try {
+                handle = findConstructor(type);
+            } catch (NoSuchMethodException | IllegalAccessException | SecurityException e) {
+                error = e;
+            }
+
+            this.constructor = handle;
+            this.constructorError = error;
+            this.postConstructor = ReflectionUtils.getPostConstructMethods(type);
+            this.postConstructHandle = postConstructor != null ? findPostConstructor(postConstructor) : null;
+        }
+
+        private static MethodHandle findConstructor(Class<?> type) throws NoSuchMethodException, IllegalAccessException {
+            if (type.isInterface() || type.isArray() || type.isPrimitive() || Modifier.isAbstract(type.getModifiers())) {
+                throw new NoSuchMethodException(type + " cannot be instantiated.");
+            }
+
+            Constructor<?> ctor = type.getDeclaredConstructor();
+            return MethodHandles.lookup().unreflectConstructor(ctor).asType(CONSTRUCTOR_TYPE);
+        }
+
+        private static MethodHandle findPostConstructor(Method method) {
+            try {
+                method.setAccessible(true);
+                return MethodHandles.lookup().unreflect(method).asType(POST_CONSTRUCT_TYPE);
+            } catch (IllegalAccessException | SecurityException e) {
+                throw new IllegalArgumentException("Error occurred trying to call @PostConstruct [" + method + "]", e);
+            }
+        }
+
+        private Object newInstance() {
+            if (constructor == null) {
+                throw new UnrulyException("Unable to instantiate type [" + type + "]. Does it have a default ctor ?",
+                        constructorError);
+            }
+
+            try {
+                return (Object) constructor.invokeExact();
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new UnrulyException("Unable to instantiate type [" + type + "]", e);
+            }
+        }
+
+        private void postConstruct(Object target) {
+            if (postConstructHandle == null) return;
+
+            try {
+                postConstructHandle.invokeExact(target);
+            } catch (Throwable e) {
+                throw new IllegalArgumentException("Error occurred trying to call @PostConstruct ["
+                        + postConstructor + "]", e);
+            }
         }
     }
 }
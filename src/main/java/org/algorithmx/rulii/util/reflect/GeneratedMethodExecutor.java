@@ -0,0 +1,264 @@
+/*
+ * This software is licensed under the Apache 2 license, quoted below.
+ *
+ * Copyright (c) 1999-2021, Algorithmx Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.algorithmx.rulii.util.reflect;
+
+import org.algorithmx.rulii.core.UnrulyException;
+import org.algorithmx.rulii.lib.apache.ClassUtils;
+import org.algorithmx.rulii.lib.asm.ClassWriter;
+import org.algorithmx.rulii.lib.asm.MethodVisitor;
+import org.algorithmx.rulii.lib.asm.Opcodes;
+import org.algorithmx.rulii.lib.asm.Type;
+import org.algorithmx.rulii.lib.spring.util.Assert;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * MethodExecutor that generates a small invoker class per Method. The invoker calls the target method directly
+ * (invokevirtual/invokeinterface/invokestatic) which lets the JIT inline the call. Only publicly accessible methods
+ * (public method on a public class with public parameter/return types) are supported.
+ *
+ * @author Max Arulananthan
+ * @since 1.0
+ */
+public class GeneratedMethodExecutor implements MethodExecutor {
+
+    private static final String INVOKER_NAME_PREFIX = GeneratedMethodExecutor.class.getPackage().getName()
+            + ".GeneratedInvoker$";
+    private static final String INVOKE_DESCRIPTOR = "(Ljava/lang/Object;[Ljava/lang/Object;)Ljava/lang/Object;";
+    private static final AtomicLong COUNTER = new AtomicLong();
+
+    // Invokers are tied to the lifecycle of the declaring class
+    private static final ClassValue<InvokerFactory> FACTORIES = new ClassValue<InvokerFactory>() {
+        @Override
+        protected InvokerFactory computeValue(Class<?> type) {
+            return new InvokerFactory(type.getClassLoader());
+        }
+    };
+
+    private final Method method;
+    private final Invoker invoker;
+
+    public GeneratedMethodExecutor(Method method) {
+        super();
+        Assert.notNull(method, "method cannot be null.");
+
+        if (!isSupported(method)) {
+            throw new UnrulyException("Method [" + method + "] is not publicly accessible; cannot generate an invoker.");
+        }
+
+        this.method = method;
+        this.invoker = FACTORIES.get(method.getDeclaringClass()).getInvoker(method);
+    }
+
+    /**
+     * Determines whether an invoker can be generated for the given method.
+     *
+     * @param method target method.
+     * @return true if the method, its class and all its parameter/return types are public; false otherwise.
+     */
+    public static boolean isSupported(Method method) {
+        if (method == null) return false;
+        if (!Modifier.isPublic(method.getModifiers()) || !isPublic(method.getDeclaringClass())) return false;
+        if (!isPublic(method.getReturnType())) return false;
+
+        for (Class<?> parameterType : method.getParameterTypes()) {
+            if (!isPublic(parameterType)) return false;
+        }
+
+        return true;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T execute(Object target, Object... userArgs) {
+        if (method.getParameterCount() != (userArgs == null ? 0 : userArgs.length)) {
+            throw new UnrulyException("Invalid number of args passed to Method call [" + getMethod()
+                    + "] required [" + method.getParameterCount() + "]");
+        }
+
+        try {
+            // Execute the method with the given parameters
+            return (T) invoker.invoke(target, userArgs);
+        } catch (Throwable e) {
+            // Something went wrong with the execution
+            throw new UnrulyException("Unexpected error trying to execute [" + getMethod()
+                    + "] with arguments " + Arrays.toString(userArgs), e);
+        }
+    }
+
+    @Override
+    public final Method getMethod() {
+        return method;
+    }
+
+    @Override
+    public String toString() {
+        return "GeneratedMethodExecutor{" +
+                "method=" + method +
+                ", invoker=" + invoker.getClass().getName() +
+                '}';
+    }
+
+    private static boolean isPublic(Class<?> type) {
+        Class<?> result = type;
+        while (result.isArray()) result = result.getComponentType();
+        return result.isPrimitive() || Modifier.isPublic(result.getModifiers());
+    }
+
+    /**
+     * Contract implemented by all generated invokers.
+     */
+    public interface Invoker {
+
+        /**
+         * Invokes the underlying method.
+         *
+         * @param target target object (ignored for static methods).
+         * @param args method arguments.
+         * @return result of the method (boxed); null for void methods.
+         * @throws Throwable any error thrown by the method.
+         */
+        Object invoke(Object target, Object[] args) throws Throwable;
+    }
+
+    private static final class InvokerFactory {
+
+        private final InvokerClassLoader classLoader;
+        private final Map<Method, Invoker> invokers = new ConcurrentHashMap<>();
+
+        private InvokerFactory(ClassLoader parent) {
+            super();
+            this.classLoader = new InvokerClassLoader(parent);
+        }
+
+        private Invoker getInvoker(Method method) {
+            return invokers.computeIfAbsent(method, this::createInvoker);
+        }
+
+        private Invoker createInvoker(Method method) {
+            String className = INVOKER_NAME_PREFIX + COUNTER.incrementAndGet();
+
+            try {
+                Class<?> invokerClass = classLoader.define(className, generate(className.replace('.', '/'), method));
+                return (Invoker) invokerClass.newInstance();
+            } catch (InstantiationException | IllegalAccessException e) {
+                throw new UnrulyException("Unable to generate invoker for [" + method + "]", e);
+            }
+        }
+    }
+
+    private static final class InvokerClassLoader extends ClassLoader {
+
+        private InvokerClassLoader(ClassLoader parent) {
+            super(parent);
+        }
+
+        @Override
+        protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+            // The parent may not see (or may have its own copy of) the Invoker contract
+            if (Invoker.class.getName().equals(name)) return Invoker.class;
+            return super.loadClass(name, resolve);
+        }
+
+        private Class<?> define(String name, byte[] code) {
+            return defineClass(name, code, 0, code.length);
+        }
+    }
+
+    private static byte[] generate(String internalName, Method method) {
+        ClassWriter writer = new ClassWriter(ClassWriter.COMPUTE_MAXS);
+        writer.visit(Opcodes.V1_8, Opcodes.ACC_PUBLIC | Opcodes.ACC_FINAL | Opcodes.ACC_SUPER | Opcodes.ACC_SYNTHETIC,
+                internalName, null, "java/lang/Object", new String[] {Type.getInternalName(Invoker.class)});
+
+        MethodVisitor ctor = writer.visitMethod(Opcodes.ACC_PUBLIC, "<init>", "()V", null, null);
+        ctor.visitCode();
+        ctor.visitVarInsn(Opcodes.ALOAD, 0);
+        ctor.visitMethodInsn(Opcodes.INVOKESPECIAL, "java/lang/Object", "<init>", "()V", false);
+        ctor.visitInsn(Opcodes.RETURN);
+        ctor.visitMaxs(0, 0);
+        ctor.visitEnd();
+
+        Class<?> owner = method.getDeclaringClass();
+        String ownerName = Type.getInternalName(owner);
+        boolean staticMethod = Modifier.isStatic(method.getModifiers());
+
+        MethodVisitor invoke = writer.visitMethod(Opcodes.ACC_PUBLIC, "invoke", INVOKE_DESCRIPTOR, null,
+                new String[] {"java/lang/Throwable"});
+        invoke.visitCode();
+
+        if (!staticMethod) {
+            invoke.visitVarInsn(Opcodes.ALOAD, 1);
+            invoke.visitTypeInsn(Opcodes.CHECKCAST, ownerName);
+        }
+
+        Class<?>[] parameterTypes = method.getParameterTypes();
+
+        for (int i = 0; i < parameterTypes.length; i++) {
+            invoke.visitVarInsn(Opcodes.ALOAD, 2);
+            invoke.visitLdcInsn(i);
+            invoke.visitInsn(Opcodes.AALOAD);
+            unbox(invoke, parameterTypes[i]);
+        }
+
+        int opcode = staticMethod
+                ? Opcodes.INVOKESTATIC
+                : owner.isInterface() ? Opcodes.INVOKEINTERFACE : Opcodes.INVOKEVIRTUAL;
+        invoke.visitMethodInsn(opcode, ownerName, method.getName(), Type.getMethodDescriptor(method), owner.isInterface());
+        box(invoke, method.getReturnType());
+        invoke.visitInsn(Opcodes.ARETURN);
+        invoke.visitMaxs(0, 0);
+        invoke.visitEnd();
+
+        writer.visitEnd();
+        return writer.toByteArray();
+    }
+
+    private static void unbox(MethodVisitor visitor, Class<?> type) {
+        if (!type.isPrimitive()) {
+            if (!Object.class.equals(type)) visitor.visitTypeInsn(Opcodes.CHECKCAST, Type.getInternalName(type));
+            return;
+        }
+
+        // Numbers go through java.lang.Number so that widening (ie: Integer -> long) works
+        String wrapperName = boolean.class.equals(type) || char.class.equals(type)
+                ? Type.getInternalName(ClassUtils.primitiveToWrapper(type))
+                : "java/lang/Number";
+        visitor.visitTypeInsn(Opcodes.CHECKCAST, wrapperName);
+        visitor.visitMethodInsn(Opcodes.INVOKEVIRTUAL, wrapperName, type.getName() + "Value",
+                "()" + Type.getDescriptor(type), false);
+    }
+
+    private static void box(MethodVisitor visitor, Class<?> type) {
+        if (void.class.equals(type)) {
+            visitor.visitInsn(Opcodes.ACONST_NULL);
+            return;
+        }
+
+        if (!type.isPrimitive()) return;
+
+        String wrapperName = Type.getInternalName(ClassUtils.primitiveToWrapper(type));
+        visitor.visitMethodInsn(Opcodes.INVOKESTATIC, wrapperName, "valueOf",
+                "(" + Type.getDescriptor(type) + ")L" + wrapperName + ";", false);
+    }
+}
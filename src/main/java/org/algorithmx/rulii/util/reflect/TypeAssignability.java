@@ -0,0 +1,175 @@
+/*
+ * This software is licensed under the Apache 2 license, quoted below.
+ *
+ * Copyright (c) 1999-2021, Algorithmx Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.algorithmx.rulii.util.reflect;
+
+import org.algorithmx.rulii.lib.apache.reflect.TypeUtils;
+
+import java.lang.reflect.Executable;
+import java.lang.reflect.GenericArrayType;
+import java.lang.reflect.GenericDeclaration;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.lang.reflect.TypeVariable;
+import java.lang.reflect.WildcardType;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Memoizing front to TypeUtils.isAssignable. Generic (non Class) checks are expensive and are repeated over and over
+ * for the same pair of Types, so the answers are cached.
+ *
+ * The cache hangs off the most specific Class (by ClassLoader) that appears in either Type, via a ClassValue. Every
+ * other Class referenced by a cached entry is therefore visible from that owner's ClassLoader, so a cached entry never
+ * keeps a ClassLoader alive that would otherwise be collected. Pairs whose Classes come from unrelated ClassLoaders
+ * are not cached at all.
+ *
+ * @author Max Arulananthan
+ * @since 1.0
+ */
+public final class TypeAssignability {
+
+    /**
+     * Maximum number of cached pairs per owner Class. The owner's cache is dropped when it is full.
+     */
+    public static final int MAX_ENTRIES_PER_OWNER = 1024;
+
+    private static final ClassValue<OwnerCache> CACHES = new ClassValue<OwnerCache>() {
+        @Override
+        protected OwnerCache computeValue(Class<?> type) {
+            return new OwnerCache();
+        }
+    };
+
+    private TypeAssignability() {
+        super();
+    }
+
+    /**
+     * Cached equivalent of TypeUtils.isAssignable(type, toType).
+     *
+     * @param type the subject type to be assigned to the target type.
+     * @param toType the target type.
+     * @return true if type is assignable to toType.
+     */
+    public static boolean isAssignable(Type type, Type toType) {
+        // Class to Class checks are cheap; not worth a lookup
+        if (type == null || toType == null || (type instanceof Class && toType instanceof Class)) {
+            return TypeUtils.isAssignable(type, toType);
+        }
+
+        Class<?> owner = findOwner(toType, findOwner(type, Object.class));
+        // Unrelated ClassLoaders; caching could pin one of them
+        if (owner == null) return TypeUtils.isAssignable(type, toType);
+
+        return CACHES.get(owner).isAssignable(type, toType);
+    }
+
+    /**
+     * Finds the Class with the most specific ClassLoader out of the current owner and all the Classes referenced
+     * by the given Type.
+     *
+     * @param type type to walk.
+     * @param current current owner (null if none can be found).
+     * @return new owner; null if the ClassLoaders are unrelated.
+     */
+    private static Class<?> findOwner(Type type, Class<?> current) {
+        if (current == null || type == null) return current;
+
+        if (type instanceof Class) return merge(current, (Class<?>) type);
+
+        if (type instanceof ParameterizedType) {
+            ParameterizedType parameterizedType = (ParameterizedType) type;
+            Class<?> result = findOwner(parameterizedType.getRawType(), current);
+            result = findOwner(parameterizedType.getOwnerType(), result);
+
+            for (Type argument : parameterizedType.getActualTypeArguments()) {
+                result = findOwner(argument, result);
+            }
+
+            return result;
+        }
+
+        if (type instanceof WildcardType) {
+            WildcardType wildcardType = (WildcardType) type;
+            Class<?> result = current;
+            for (Type bound : wildcardType.getUpperBounds()) result = findOwner(bound, result);
+            for (Type bound : wildcardType.getLowerBounds()) result = findOwner(bound, result);
+            return result;
+        }
+
+        if (type instanceof GenericArrayType) {
+            return findOwner(((GenericArrayType) type).getGenericComponentType(), current);
+        }
+
+        if (type instanceof TypeVariable) {
+            // Bounds may be recursive (T extends Comparable<T>); anything they reference is visible to the declarer
+            GenericDeclaration declaration = ((TypeVariable<?>) type).getGenericDeclaration();
+            if (declaration instanceof Class) return merge(current, (Class<?>) declaration);
+            if (declaration instanceof Executable) return merge(current, ((Executable) declaration).getDeclaringClass());
+        }
+
+        // Unknown Type implementation
+        return null;
+    }
+
+    private static Class<?> merge(Class<?> current, Class<?> candidate) {
+        ClassLoader currentLoader = current.getClassLoader();
+        ClassLoader candidateLoader = candidate.getClassLoader();
+
+        if (currentLoader == candidateLoader || isAncestor(candidateLoader, currentLoader)) return current;
+        if (isAncestor(currentLoader, candidateLoader)) return candidate;
+        return null;
+    }
+
+    private static boolean isAncestor(ClassLoader ancestor, ClassLoader loader) {
+        // Bootstrap loader
+        if (ancestor == null) return true;
+
+        for (ClassLoader result = loader; result != null; result = result.getParent()) {
+            if (result == ancestor) return true;
+        }
+
+        return false;
+    }
+
+    private static final class OwnerCache {
+
+        // toType -> (type -> assignable)
+        private final Map<Type, Map<Type, Boolean>> entries = new ConcurrentHashMap<>();
+        private final AtomicInteger size = new AtomicInteger();
+
+        private boolean isAssignable(Type type, Type toType) {
+            Map<Type, Boolean> matches = entries.get(toType);
+            Boolean result = matches != null ? matches.get(type) : null;
+
+            if (result != null) return result;
+
+            result = TypeUtils.isAssignable(type, toType);
+
+            if (size.incrementAndGet() > MAX_ENTRIES_PER_OWNER) {
+                entries.clear();
+                size.set(0);
+            }
+
+            entries.computeIfAbsent(toType, key -> new ConcurrentHashMap<>()).put(type, result);
+            return result;
+        }
+    }
+}
@@ -18,8 +18,8 @@
 
 package org.algorithmx.rulii.validation.beans;
 
+import org.algorithmx.rulii.bind.BeanBindings;
 import org.algorithmx.rulii.bind.Bindings;
-import org.algorithmx.rulii.bind.load.FieldBindingLoader;
 import org.algorithmx.rulii.core.context.RuleContext;
 import org.algorithmx.rulii.core.ruleset.RuleSet;
 import org.algorithmx.rulii.lib.spring.core.annotation.AnnotationUtils;
@@ -147,9 +147,8 @@ public class BeanGraphValidator extends ObjectVisitorTemplate {
     }
 
     protected Bindings buildBeanBindings(Object bean) {
-        Bindings result = Bindings.create();
-        result.bindUsing(new FieldBindingLoader<>(), bean);
-        return result;
+        // Live view; fields are only read if a rule asks for them
+        return BeanBindings.create(bean);
     }
 
     protected BeanValidationRules getBeanValidationRules(Class<?> beanClass) {
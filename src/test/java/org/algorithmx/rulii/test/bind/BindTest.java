@@ -22,10 +22,17 @@ import org.algorithmx.rulii.bind.Binding;
 import org.algorithmx.rulii.bind.BindingAlreadyExistsException;
 import org.algorithmx.rulii.bind.BindingBuilder;
 import org.algorithmx.rulii.bind.Bindings;
+import org.algorithmx.rulii.bind.DoubleBinding;
+import org.algorithmx.rulii.bind.IntBinding;
+import org.algorithmx.rulii.bind.InvalidBindingException;
+import org.algorithmx.rulii.bind.LongBinding;
+import org.algorithmx.rulii.bind.ScopedBindings;
 import org.algorithmx.rulii.util.TypeReference;
 import org.junit.Assert;
 import org.junit.Test;
 
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
 import java.math.BigDecimal;
 import java.util.ArrayList;
 import java.util.List;
@@ -173,5 +180,114 @@ public class BindTest {
         Assert.assertTrue(bindings1.contains("a", int.class));
         Assert.assertTrue(bindings1.contains("c", double.class));
     }
-}
 
+    @Test
+    public void testBindingVersion() {
+        Bindings bindings = Bindings.create().bind("a", Integer.class, 1).bind("b", Integer.class, 1);
+        Binding<Integer> a = bindings.getBinding("a");
+        long version = a.getVersion();
+
+        a.setValue(1);
+        Assert.assertTrue(a.getVersion() > version);
+        // Unique across Bindings
+        Assert.assertNotEquals(a.getVersion(), bindings.getBinding("b").getVersion());
+        Assert.assertEquals(a.getVersion(), bindings.asImmutableBindings().getBinding("a").getVersion());
+    }
+
+    @Test
+    public void testTypeIndex() {
+        Bindings bindings = Bindings.create().bind("a", Integer.class, 1).bind("b", String.class, "x");
+        Map<String, Binding<Integer>> matches = bindings.getBindings(Integer.class);
+        Assert.assertEquals(1, matches.size());
+        // Nothing bound since; served from the index
+        Assert.assertSame(matches, bindings.getBindings(Integer.class));
+
+        bindings.bind("c", Integer.class, 2);
+        matches = bindings.getBindings(Integer.class);
+        Assert.assertEquals(2, matches.size());
+        Assert.assertTrue(matches.containsKey("c"));
+    }
+
+    @Test
+    public void testUnversionedBindings() {
+        Bindings target = Bindings.create();
+        // External implementation that does not track its structure
+        Bindings external = (Bindings) Proxy.newProxyInstance(getClass().getClassLoader(),
+                new Class<?>[] {Bindings.class}, (proxy, method, args) -> {
+                    if (method.getName().equals("getVersion")) return Bindings.UNVERSIONED;
+                    try {
+                        return method.invoke(target, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getCause();
+                    }
+                });
+
+        ScopedBindings bindings = ScopedBindings.createIndexed();
+        bindings.addScope("external", external);
+        Assert.assertEquals(Bindings.UNVERSIONED, bindings.getVersion());
+        Assert.assertEquals(0, bindings.getBindings(Integer.class).size());
+
+        target.bind("a", Integer.class, 1);
+        Assert.assertNotNull(bindings.getBinding("a"));
+        Assert.assertEquals(1, bindings.getBindings(Integer.class).size());
+    }
+
+    @Test
+    public void testPrimitiveBindings() {
+        Bindings bindings = Bindings.create()
+                .bind("count", int.class, 1)
+                .bind("total", long.class)
+                .bind("rate", double.class, 2.0d);
+
+        IntBinding count = (IntBinding) (Binding) bindings.getBinding("count");
+        long version = count.getVersion();
+        count.setInt(count.getInt() + 1);
+        Assert.assertEquals(2, count.getInt());
+        Assert.assertEquals(Integer.valueOf(2), bindings.getValue("count"));
+        Assert.assertTrue(count.getVersion() > version);
+
+        LongBinding total = (LongBinding) (Binding) bindings.getBinding("total");
+        Assert.assertEquals(0L, total.getLong());
+        bindings.setValue("total", 10L);
+        Assert.assertEquals(10L, total.getLong());
+
+        DoubleBinding rate = (DoubleBinding) (Binding) bindings.getBinding("rate");
+        Assert.assertEquals(2.0d, rate.getDouble(), 0.0d);
+        Assert.assertEquals(int.class, count.getType());
+    }
+
+    @Test(expected = InvalidBindingException.class)
+    public void testPrimitiveBindingNull() {
+        Bindings bindings = Bindings.create().bind("count", int.class, 1);
+        bindings.setValue("count", null);
+    }
+
+    @Test
+    public void testPrimitiveBindingWidening() {
+        Bindings bindings = Bindings.create()
+                .bind("count", int.class, 1)
+                .bind("total", long.class)
+                .bind("rate", double.class, 2.0d);
+
+        bindings.setValue("rate", 5);
+        Assert.assertEquals(5.0d, bindings.<Double>getValue("rate"), 0.0d);
+        bindings.setValue("count", (short) 3);
+        Assert.assertEquals(Integer.valueOf(3), bindings.getValue("count"));
+        bindings.setValue("count", 'a');
+        Assert.assertEquals(Integer.valueOf('a'), bindings.getValue("count"));
+        bindings.setValue("total", 7);
+        Assert.assertEquals(Long.valueOf(7), bindings.getValue("total"));
+    }
+
+    @Test(expected = InvalidBindingException.class)
+    public void testPrimitiveBindingWrongType() {
+        Bindings bindings = Bindings.create().bind("rate", double.class, 2.0d);
+        bindings.setValue("rate", "5");
+    }
+
+    @Test(expected = InvalidBindingException.class)
+    public void testPrimitiveBindingNarrowing() {
+        Bindings bindings = Bindings.create().bind("count", int.class, 1);
+        bindings.setValue("count", 5L);
+    }
+}
@@ -0,0 +1,125 @@
+/*
+ * This software is licensed under the Apache 2 license, quoted below.
+ *
+ * Copyright (c) 1999-2021, Algorithmx Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.algorithmx.rulii.test.bind;
+
+import org.algorithmx.rulii.bind.Binding;
+import org.algorithmx.rulii.bind.BindingAlreadyExistsException;
+import org.algorithmx.rulii.bind.InvalidBindingException;
+import org.algorithmx.rulii.bind.PersistentBindings;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Tests for the PersistentBindings.
+ *
+ * @author Max Arulananthan
+ * @since 1.0
+ */
+public class PersistentBindingsTest {
+
+    public PersistentBindingsTest() {
+        super();
+    }
+
+    @Test
+    public void testBind() {
+        PersistentBindings bindings = PersistentBindings.create();
+
+        for (int i = 0; i < 10_000; i++) {
+            bindings.bind("x" + i, Integer.class, i);
+        }
+
+        // Same hashCode
+        bindings.bind("Aa", "a").bind("BB", "b");
+
+        Assert.assertEquals(10_002, bindings.size());
+        Assert.assertEquals(10_002, bindings.asMap().size());
+        Assert.assertEquals(Integer.valueOf(9_999), bindings.getValue("x9999"));
+        Assert.assertEquals("a", bindings.getValue("Aa"));
+        Assert.assertEquals("b", bindings.getValue("BB"));
+        Assert.assertNull(bindings.getBinding("y"));
+        Assert.assertEquals(10_000, bindings.getBindings(Integer.class).size());
+
+        bindings.setValue("BB", "c");
+        Assert.assertEquals("c", bindings.getValue("BB"));
+        Assert.assertEquals("a", bindings.getValue("Aa"));
+    }
+
+    @Test(expected = BindingAlreadyExistsException.class)
+    public void testBindTwice() {
+        PersistentBindings.create().bind("x", 1).bind("x", 2);
+    }
+
+    @Test
+    public void testSnapshot() {
+        PersistentBindings bindings = PersistentBindings.create().bind("x", Integer.class, 1);
+        Binding<Integer> x = bindings.getBinding("x");
+        long version = x.getVersion();
+
+        PersistentBindings snapshot = bindings.snapshot();
+        PersistentBindings derived = bindings.derive();
+
+        x.setValue(2);
+        derived.setValue("x", 3);
+        derived.bind("y", 10);
+
+        Assert.assertTrue(x.getVersion() > version);
+        Assert.assertEquals(Integer.valueOf(2), bindings.getValue("x"));
+        Assert.assertEquals(Integer.valueOf(1), snapshot.getValue("x"));
+        Assert.assertEquals(Integer.valueOf(3), derived.getValue("x"));
+        Assert.assertFalse(bindings.contains("y"));
+        Assert.assertFalse(snapshot.getBinding("x").isEditable());
+
+        try {
+            snapshot.setValue("x", 5);
+            Assert.fail("snapshot cannot be changed");
+        } catch (InvalidBindingException e) {
+            // expected
+        }
+    }
+
+    @Test
+    public void testConcurrentBind() throws Exception {
+        PersistentBindings bindings = PersistentBindings.create();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+
+            for (int t = 0; t < 4; t++) {
+                int thread = t;
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < 1_000; i++) bindings.bind("t" + thread + "_" + i, i);
+                }));
+            }
+
+            for (Future<?> future : futures) future.get();
+        } finally {
+            executor.shutdown();
+        }
+
+        Assert.assertEquals(4_000, bindings.size());
+        Assert.assertEquals(4_000, bindings.asMap().size());
+    }
+}
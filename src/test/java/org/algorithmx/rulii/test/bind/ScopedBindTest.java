@@ -22,7 +22,9 @@ import org.algorithmx.rulii.bind.Binding;
 import org.algorithmx.rulii.bind.BindingAlreadyExistsException;
 import org.algorithmx.rulii.bind.BindingBuilder;
 import org.algorithmx.rulii.bind.Bindings;
+import org.algorithmx.rulii.bind.BindingsAlreadyExistsException;
 import org.algorithmx.rulii.bind.DefaultScopedBindings;
+import org.algorithmx.rulii.bind.IndexedScopedBindings;
 import org.algorithmx.rulii.bind.InvalidBindingException;
 import org.algorithmx.rulii.bind.NoSuchBindingException;
 import org.algorithmx.rulii.bind.ScopedBindings;
@@ -31,6 +33,7 @@ import org.algorithmx.rulii.util.TypeReference;
 import org.junit.Assert;
 import org.junit.Test;
 
+import java.lang.reflect.Proxy;
 import java.math.BigDecimal;
 import java.util.ArrayList;
 import java.util.Collection;
@@ -470,4 +473,76 @@ public class ScopedBindTest {
         ScopedBindings bindings = ScopedBindings.create().asImmutableBindings();
         bindings.bind("test", Integer.class);
     }
+
+    @Test
+    public void indexedScopeTest() {
+        ScopedBindings bindings = ScopedBindings.createIndexed();
+        Assert.assertTrue(bindings instanceof IndexedScopedBindings);
+        bindings.bind("a", Integer.class, 1);
+
+        Bindings scope1 = bindings.addScope("scope1");
+        bindings.bind("a", String.class, "shadow");
+        Assert.assertEquals("shadow", bindings.getValue("a"));
+        // Top most does not match the type
+        Assert.assertEquals(1, (int) bindings.getBinding("a", Integer.class).getValue());
+
+        // Added directly to a lower scope; still visible
+        bindings.getRootScope().bind("b", Integer.class, 2);
+        Assert.assertEquals(2, (int) bindings.getValue("b", Integer.class));
+        // Does not override a higher scope
+        scope1.bind("c", Integer.class, 3);
+        bindings.getRootScope().bind("c", Integer.class, 4);
+        Assert.assertEquals(3, (int) bindings.getValue("c", Integer.class));
+
+        long version = bindings.getVersion();
+        Bindings scope2 = Bindings.create().bind("d", Integer.class, 5);
+        bindings.addScope("scope2", scope2);
+        Assert.assertTrue(bindings.getVersion() > version);
+        Assert.assertEquals(5, (int) bindings.getValue("d", Integer.class));
+        Assert.assertSame(scope2, bindings.getScope("scope2"));
+        Assert.assertEquals("scope2", bindings.getScopeName(scope2));
+
+        try {
+            bindings.addScope("scope1");
+            Assert.fail("Duplicate scope");
+        } catch (BindingsAlreadyExistsException e) {
+            // expected
+        }
+
+        version = bindings.getVersion();
+        bindings.removeScope(scope1);
+        Assert.assertTrue(bindings.getVersion() > version);
+        Assert.assertEquals(1, bindings.getScopeSize());
+        Assert.assertEquals(1, (int) bindings.getValue("a", Integer.class));
+        Assert.assertEquals(4, (int) bindings.getValue("c", Integer.class));
+        Assert.assertNull(bindings.getBinding("d"));
+        Assert.assertNull(bindings.getScope("scope2"));
+    }
+
+    @Test
+    public void indexedUnversionedScopeTest() {
+        ScopedBindings bindings = ScopedBindings.createIndexed();
+        bindings.bind("a", Integer.class, 1);
+
+        // Does not track its changes
+        Bindings target = Bindings.create();
+        Bindings unversioned = (Bindings) Proxy.newProxyInstance(getClass().getClassLoader(),
+                new Class<?>[] {Bindings.class}, (proxy, method, args) -> "getVersion".equals(method.getName())
+                        ? Bindings.UNVERSIONED : method.invoke(target, args));
+        bindings.addScope("unversioned", unversioned);
+        Assert.assertEquals(Bindings.UNVERSIONED, bindings.getVersion());
+
+        // Added behind our back
+        target.bind("a", String.class, "shadow");
+        target.bind("b", Integer.class, 2);
+        Assert.assertEquals("shadow", bindings.getValue("a"));
+        Assert.assertEquals(1, (int) bindings.getBinding("a", Integer.class).getValue());
+        Assert.assertEquals(2, (int) bindings.getValue("b", Integer.class));
+        Assert.assertNull(bindings.getBinding("c"));
+
+        bindings.removeScope("unversioned");
+        Assert.assertEquals(1, (int) bindings.getValue("a", Integer.class));
+        Assert.assertNull(bindings.getBinding("b"));
+        Assert.assertNotEquals(Bindings.UNVERSIONED, bindings.getVersion());
+    }
 }
@@ -0,0 +1,127 @@
+/*
+ * This software is licensed under the Apache 2 license, quoted below.
+ *
+ * Copyright (c) 1999-2021, Algorithmx Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.algorithmx.rulii.test.bind;
+
+import org.algorithmx.rulii.bind.Binding;
+import org.algorithmx.rulii.bind.BindingAlreadyExistsException;
+import org.algorithmx.rulii.bind.BindingSchema;
+import org.algorithmx.rulii.bind.InvalidBindingException;
+import org.algorithmx.rulii.bind.SlotBindings;
+import org.algorithmx.rulii.bind.match.ParameterMatch;
+import org.algorithmx.rulii.core.action.ActionBuilder;
+import org.algorithmx.rulii.core.condition.ConditionBuilder;
+import org.algorithmx.rulii.core.context.RuleContext;
+import org.algorithmx.rulii.core.context.RuleContextBuilder;
+import org.algorithmx.rulii.core.rule.Rule;
+import org.algorithmx.rulii.core.rule.RuleBuilder;
+import org.algorithmx.rulii.core.ruleset.RuleSet;
+import org.algorithmx.rulii.core.ruleset.RuleSetBuilder;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Tests for the SlotBindings.
+ *
+ * @author Max Arulananthan
+ * @since 1.0
+ */
+public class SlotBindingsTest {
+
+    public SlotBindingsTest() {
+        super();
+    }
+
+    @Test
+    public void testSlots() {
+        BindingSchema schema = BindingSchema.builder()
+                .declare("a", Integer.class)
+                .declare("b", int.class)
+                .build();
+        SlotBindings bindings = schema.createBindings();
+
+        Assert.assertEquals(2, bindings.size());
+        Assert.assertEquals(1, schema.getSlot("b"));
+        Assert.assertEquals(-1, schema.getSlot("c"));
+        Assert.assertNull(bindings.getValue("a"));
+        Assert.assertEquals(0, (int) bindings.getValue("b", Integer.class));
+
+        Binding<Integer> a = bindings.getBinding("a");
+        long version = a.getVersion();
+        bindings.setValue("a", 10);
+        Assert.assertEquals(10, (int) bindings.getValue(0));
+        Assert.assertTrue(a.getVersion() > version);
+
+        // Dynamic
+        bindings.bind("c", String.class, "hello");
+        Assert.assertEquals("hello", bindings.getValue("c"));
+        Assert.assertEquals(3, bindings.size());
+        Assert.assertEquals(3, bindings.asMap().size());
+    }
+
+    @Test(expected = BindingAlreadyExistsException.class)
+    public void testDeclaredAlreadyExists() {
+        BindingSchema.builder().declare("a", Integer.class).build().createBindings().bind("a", Integer.class, 1);
+    }
+
+    @Test(expected = InvalidBindingException.class)
+    public void testInvalidValue() {
+        BindingSchema.builder().declare("a", Integer.class).build().createBindings().setValue("a", "hello");
+    }
+
+    @Test
+    public void testCompiledRuleSet() {
+        BindingSchema schema = BindingSchema.builder()
+                .declare("score", Integer.class)
+                .declare("total", Integer.class)
+                .build();
+
+        Rule rule = RuleBuilder
+                .name("Rule1")
+                .given(ConditionBuilder.build((Integer score, String label) -> score > 10 && label != null))
+                .then(ActionBuilder.build((Binding<Integer> total, Integer score) -> total.setValue(total.getValue() + score)))
+                .build();
+
+        RuleSet rules = RuleSetBuilder
+                .with("RuleSet1")
+                .rule(rule)
+                .schema(schema)
+                .build();
+
+        Assert.assertEquals(0, rule.getCondition().getMethodDefinition().getParameterDefinitions()[0].getSlot(schema));
+        // Not part of the schema
+        Assert.assertEquals(-1, rule.getCondition().getMethodDefinition().getParameterDefinitions()[1].getSlot(schema));
+        Assert.assertEquals(1, rule.getActions()[0].getMethodDefinition().getParameterDefinitions()[0].getSlot(schema));
+
+        // Matched straight to the slots
+        SlotBindings slotBindings = schema.createBindings();
+        RuleContext context = RuleContextBuilder.build(slotBindings);
+        ParameterMatch[] matches = context.match(rule.getActions()[0].getMethodDefinition());
+        Assert.assertSame(slotBindings.getBinding(1), matches[0].getBinding());
+        Assert.assertSame(slotBindings.getBinding(0), matches[1].getBinding());
+
+        for (int i = 0; i < 3; i++) {
+            SlotBindings bindings = schema.createBindings();
+            bindings.setValue(0, 20);
+            bindings.setValue(1, i);
+            bindings.bind("label", String.class, "x");
+            rules.run(bindings);
+            Assert.assertEquals(20 + i, (int) bindings.getValue(1));
+        }
+    }
+}
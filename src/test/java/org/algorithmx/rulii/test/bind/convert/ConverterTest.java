@@ -20,20 +20,31 @@ package org.algorithmx.rulii.test.bind.convert;
 
 import org.algorithmx.rulii.convert.ConversionException;
 import org.algorithmx.rulii.convert.Converter;
+import org.algorithmx.rulii.convert.ConverterChain;
 import org.algorithmx.rulii.convert.ConverterRegistry;
+import org.algorithmx.rulii.convert.ConverterTemplate;
+import org.algorithmx.rulii.convert.text.NumberParser;
+import org.algorithmx.rulii.convert.text.TextToLocalDateConverter;
+import org.algorithmx.rulii.convert.text.TextToLocalDateTimeConverter;
 import org.junit.Assert;
 import org.junit.Test;
 
+import java.lang.reflect.Type;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.net.MalformedURLException;
 import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.text.ParseException;
 import java.text.SimpleDateFormat;
+import java.time.DateTimeException;
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.Date;
+import java.util.function.Supplier;
 
 /**
  * Converter tests.
@@ -218,4 +229,138 @@ public class ConverterTest {
     private enum DAYS {
         MONDAY, TUESDAY, WEDNESDAY, THURSDAY, FRIDAY, SATURDAY, SUNDAY;
     }
+
+    @Test
+    public void converterChainTest() {
+        ConverterRegistry registry = ConverterRegistry.create();
+        // Miss is cached until a new Converter is registered
+        Assert.assertNull(registry.find(String.class, Duration.class));
+
+        registry.register(new LongToDurationConverter());
+        Converter<String, Duration> converter = registry.find(String.class, Duration.class);
+        Assert.assertTrue(converter instanceof ConverterChain);
+        Assert.assertSame(converter, registry.find(String.class, Duration.class));
+        Assert.assertEquals(Duration.ofMillis(1500), converter.convert("1500", Duration.class));
+        Assert.assertNull(registry.find(String.class, Thread.class));
+    }
+
+    private static class LongToDurationConverter extends ConverterTemplate<Long, Duration> {
+
+        public LongToDurationConverter() {
+            super();
+        }
+
+        @Override
+        public Duration convert(Long value, Type toType) {
+            return value != null ? Duration.ofMillis(value) : null;
+        }
+    }
+
+    @Test
+    public void numberParserTest() {
+        String[] values = {"0", "-0", "+7", "017", "0x1F", "#1F", "-2147483648", "2147483648", "9223372036854775807",
+                "12.50", "-0.0", ".5", "5.", "1e3", "123456789.123456789", " 1", "0.1", "3.4028235", "16777217"};
+
+        for (String value : values) {
+            StringBuilder text = new StringBuilder(value);
+            assertSameResult(() -> Integer.decode(value), () -> NumberParser.parseInt(text));
+            assertSameResult(() -> Long.decode(value), () -> NumberParser.parseLong(text));
+            assertSameResult(() -> Short.valueOf(value), () -> NumberParser.parseShort(text));
+            assertSameResult(() -> Byte.valueOf(value), () -> NumberParser.parseByte(text));
+            assertSameResult(() -> Double.valueOf(value), () -> NumberParser.parseDouble(text));
+            assertSameResult(() -> Float.valueOf(value), () -> NumberParser.parseFloat(text));
+            assertSameResult(() -> new BigDecimal(value), () -> NumberParser.parseBigDecimal(text));
+        }
+
+        char[] chars = "x,12345,y".toCharArray();
+        Assert.assertEquals(12345, NumberParser.parseInt(NumberParser.wrap(chars, 2, 5)));
+        ByteBuffer bytes = ByteBuffer.wrap("-98.25".getBytes(StandardCharsets.US_ASCII));
+        Assert.assertEquals(new BigDecimal("-98.25"), NumberParser.parseBigDecimal(NumberParser.ascii(bytes)));
+        Assert.assertEquals(Long.valueOf(42), ConverterRegistry.create().find(StringBuilder.class, Long.class)
+                .convert(new StringBuilder("42"), Long.class));
+    }
+
+    @Test
+    public void temporalParserTest() throws ParseException {
+        String[] dates = {"2021-03-07", "2020-02-29", "2021-02-29", "2021-13-01", "21-03-07", "2021-3-7", "+12021-03-07"};
+
+        for (String value : dates) {
+            LocalDate expected = parseOrNull(() -> LocalDate.parse(value));
+            Assert.assertEquals(expected, convertOrNull(new TextToLocalDateConverter(), value, LocalDate.class));
+        }
+
+        String[] dateTimes = {"2021-03-07T10:15", "2021-03-07T10:15:30", "2021-03-07T10:15:30.5",
+                "2021-03-07T10:15:30.123456789", "2021-03-07T24:15:30", "2021-03-07T10:15:30.", "2021-03-07 10:15"};
+
+        for (String value : dateTimes) {
+            LocalDateTime expected = parseOrNull(() -> LocalDateTime.parse(value));
+            Assert.assertEquals(expected, convertOrNull(new TextToLocalDateTimeConverter(), value, LocalDateTime.class));
+        }
+
+        // Configured formats; the matching format is remembered per input shape
+        TextToLocalDateConverter converter = new TextToLocalDateConverter(DateTimeFormatter.ofPattern("dd/MM/yyyy"),
+                DateTimeFormatter.ofPattern("yyyyMMdd"));
+        Assert.assertEquals(LocalDate.of(2021, 3, 7), converter.convert("07/03/2021", LocalDate.class));
+        Assert.assertEquals(LocalDate.of(2021, 3, 8), converter.convert("08/03/2021", LocalDate.class));
+        Assert.assertEquals(LocalDate.of(2021, 3, 9), converter.convert("20210309", LocalDate.class));
+        Assert.assertNull(convertOrNull(converter, "2021-03-07", LocalDate.class));
+
+        Converter<String, Date> dateConverter = ConverterRegistry.create().find(String.class, Date.class);
+        SimpleDateFormat zoned = new SimpleDateFormat("yyyy-MM-dd'T'HH:mm:ssZ");
+        Assert.assertEquals(zoned.parse("2021-03-07T10:15:30-0500"),
+                dateConverter.convert("2021-03-07T10:15:30-0500", Date.class));
+        Assert.assertEquals(zoned.parse("2021-03-07T10:15:30+0100"),
+                dateConverter.convert("2021-03-07T10:15:30+0100", Date.class));
+        // Fraction is truncated; the offset is still honoured
+        Assert.assertEquals(zoned.parse("2020-01-05T10:00:00-0500"),
+                dateConverter.convert("2020-01-05T10:00:00.123-0500", Date.class));
+        // Unsupported offsets are rejected (not dropped)
+        Assert.assertNull(convertOrNull(dateConverter, "2020-01-05T10:00:00+05:00", Date.class));
+
+        // Invalid dates are rejected by both the ISO fast path and the formats
+        Assert.assertNull(convertOrNull(dateConverter, "2020-02-30", Date.class));
+        Assert.assertNull(convertOrNull(dateConverter, "2020-2-30", Date.class));
+        Assert.assertNull(convertOrNull(dateConverter, "2020-2-30T10:00:00", Date.class));
+        Assert.assertEquals(new SimpleDateFormat("yyyy-MM-dd").parse("2020-02-29"),
+                dateConverter.convert("2020-2-29", Date.class));
+        // Valid date but out of the range of a Date
+        Assert.assertNull(convertOrNull(dateConverter, "300000000-01-01", Date.class));
+    }
+
+    private static <T, R> R convertOrNull(Converter<T, R> converter, T value, Type type) {
+        try {
+            return converter.convert(value, type);
+        } catch (ConversionException e) {
+            return null;
+        }
+    }
+
+    private static <T> T parseOrNull(Supplier<T> supplier) {
+        try {
+            return supplier.get();
+        } catch (DateTimeException e) {
+            return null;
+        }
+    }
+
+    private static void assertSameResult(Supplier<Object> expected,
+                                         Supplier<Object> actual) {
+        Object expectedResult;
+
+        try {
+            expectedResult = expected.get();
+        } catch (NumberFormatException e) {
+            expectedResult = NumberFormatException.class;
+        }
+
+        Object actualResult;
+
+        try {
+            actualResult = actual.get();
+        } catch (NumberFormatException e) {
+            actualResult = NumberFormatException.class;
+        }
+
+        Assert.assertEquals(expectedResult, actualResult);
+    }
 }
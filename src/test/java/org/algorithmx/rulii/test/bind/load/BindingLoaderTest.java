@@ -18,7 +18,10 @@
 
 package org.algorithmx.rulii.test.bind.load;
 
+import org.algorithmx.rulii.bind.BeanBindings;
 import org.algorithmx.rulii.bind.Bindings;
+import org.algorithmx.rulii.bind.MapBindings;
+import org.algorithmx.rulii.bind.ScopedBindings;
 import org.algorithmx.rulii.bind.load.FieldBindingLoader;
 import org.algorithmx.rulii.bind.load.MapBindingLoader;
 import org.algorithmx.rulii.bind.load.PropertyBindingLoader;
@@ -81,6 +84,76 @@ public class BindingLoaderTest {
         Assert.assertTrue(bindings.getValue("salary").equals(new BigDecimal("100000000")));
     }
 
+    @Test
+    public void beanViewTest() {
+        Athlete jordan = new Athlete("Michael", "Jordan", 23, new BigDecimal("100000000"));
+        Bindings bindings = BeanBindings.create(jordan);
+        Assert.assertTrue(bindings.getValue("firstName").equals("Michael"));
+        Assert.assertTrue(bindings.getValue("age").equals(23));
+        Assert.assertTrue(bindings.getValue("salary").equals(new BigDecimal("100000000")));
+        Assert.assertEquals(int.class, bindings.getBinding("age").getType());
+
+        // Live view in both directions
+        jordan.setLastName("J");
+        Assert.assertTrue(bindings.getValue("lastName").equals("J"));
+        long version = bindings.getBinding("age").getVersion();
+        bindings.setValue("age", 45);
+        Assert.assertEquals(45, jordan.getAge());
+        Assert.assertTrue(bindings.getBinding("age").getVersion() > version);
+
+        bindings.bind("x", 10);
+        Assert.assertEquals(5, bindings.size());
+        Assert.assertTrue(bindings.getValue("x").equals(10));
+    }
+
+    @Test
+    public void mapViewTest() {
+        Map<String, Object> map = new HashMap<>();
+        map.put("firstName", "Michael");
+        map.put("age", 23);
+
+        MapBindings bindings = MapBindings.create(map);
+        Assert.assertTrue(bindings.getValue("firstName").equals("Michael"));
+        Assert.assertEquals(Integer.class, bindings.getBinding("age").getType());
+        Assert.assertNull(bindings.getBinding("lastName"));
+
+        long version = bindings.getVersion();
+        bindings.put("lastName", "Jordan");
+        Assert.assertTrue(bindings.getValue("lastName").equals("Jordan"));
+        Assert.assertNotEquals(version, bindings.getVersion());
+
+        bindings.setValue("age", 45);
+        Assert.assertEquals(45, map.get("age"));
+        Assert.assertEquals(3, bindings.getBindings(Object.class).size());
+    }
+
+    @Test
+    public void mapViewVersionTest() {
+        Map<String, Object> map = new HashMap<>();
+        map.put("Aa", 1);
+
+        MapBindings bindings = MapBindings.create(map);
+        ScopedBindings scoped = ScopedBindings.createIndexed();
+        scoped.addScope("map", bindings);
+        Assert.assertEquals(1, scoped.getBinding("Aa").getValue());
+
+        // Remove one, add one; same size (and same key hash)
+        long version = bindings.getVersion();
+        bindings.remove("Aa");
+        bindings.put("BB", 2L);
+        Assert.assertTrue(bindings.getVersion() > version);
+        Assert.assertNull(scoped.getBinding("Aa"));
+        Assert.assertEquals(2L, scoped.getBinding("BB").getValue());
+        Assert.assertEquals(0, scoped.getBindings(Integer.class).size());
+        Assert.assertEquals(1, scoped.getBindings(Long.class).size());
+
+        // Removing never takes the version backwards
+        version = bindings.getVersion();
+        Assert.assertTrue(bindings.remove("BB"));
+        Assert.assertFalse(bindings.remove("BB"));
+        Assert.assertEquals(version + 1, bindings.getVersion());
+    }
+
     public static class Person {
         private String firstName;
         private String lastName;
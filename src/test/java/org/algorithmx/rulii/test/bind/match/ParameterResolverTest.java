@@ -443,6 +443,39 @@ public class ParameterResolverTest {
         Assert.assertTrue(values[3].equals(321l));
     }
 
+    @Test
+    public void precomputedStrategyTest() {
+        ParameterResolver resolver = ParameterResolver.create();
+        ConverterRegistry registry = ConverterRegistry.create();
+        MethodDefinition[] definitions = MethodDefinition.load(TestClass.class, method -> method.getName().equals("testMethod6"));
+
+        Bindings bindings = Bindings.create()
+                .bind(a -> "Hello")
+                .bind("b", "12345")
+                .bind(x -> new ArrayList<>());
+
+        ParameterMatch[] matches = resolver.match(definitions[0], bindings,
+                BindingMatchingStrategyType.MATCH_BY_NAME.getStrategy(), ObjectFactory.create());
+        resolver.resolve(matches, definitions[0], bindings,
+                BindingMatchingStrategyType.MATCH_BY_NAME.getStrategy(), registry);
+
+        // Same matches; strategies are reused but the values are current
+        bindings.setValue("a", "World");
+        bindings.setValue("b", "54321");
+        Object[] values = resolver.resolve(matches, definitions[0], bindings,
+                BindingMatchingStrategyType.MATCH_BY_NAME.getStrategy(), registry);
+
+        Assert.assertEquals("World", values[0]);
+        Assert.assertEquals(54321, values[1]);
+        Assert.assertSame(bindings.getBinding("x"), values[2]);
+        Assert.assertEquals(321L, values[3]);
+
+        bindings.setValue("b", null);
+        values = resolver.resolve(matches, definitions[0], bindings,
+                BindingMatchingStrategyType.MATCH_BY_NAME.getStrategy(), registry);
+        Assert.assertNull(values[1]);
+    }
+
     private static class TestClass {
 
         public boolean testMethod1(String a, Set<Integer> b, Binding<List<Integer>> c, Map<?, Long> d) {
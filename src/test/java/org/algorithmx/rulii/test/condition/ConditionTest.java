@@ -18,8 +18,16 @@
 
 package org.algorithmx.rulii.test.condition;
 
+import org.algorithmx.rulii.bind.Bindings;
+import org.algorithmx.rulii.core.condition.AdaptiveLogicalCondition;
 import org.algorithmx.rulii.core.condition.Condition;
 import org.algorithmx.rulii.core.condition.ConditionBuilder;
+import org.algorithmx.rulii.core.condition.LogicalCondition;
+import org.algorithmx.rulii.core.condition.LogicalOperator;
+import org.algorithmx.rulii.core.condition.PinnedCondition;
+import org.algorithmx.rulii.core.condition.SimpleCondition;
+import org.algorithmx.rulii.core.context.RuleContext;
+import org.algorithmx.rulii.core.context.RuleContextBuilder;
 import org.algorithmx.rulii.core.function.TriFunction;
 import org.algorithmx.rulii.util.TypeReference;
 import org.junit.Assert;
@@ -31,6 +39,7 @@ import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Tests related to the ConditionBuilder.
@@ -199,4 +208,115 @@ public class ConditionTest {
                 .getType().equals(new TypeReference<Map<String, Integer>>(){}.getType()));
         Assert.assertTrue(condition.isTrue("aa", 12, new HashMap<>()));
     }
+
+    @Test
+    public void testLogicalConditions() {
+        AtomicInteger counter = new AtomicInteger();
+        Condition expensive = ConditionBuilder
+                .with((Integer a) -> counter.incrementAndGet() > 0)
+                .build();
+        Condition isPositive = ConditionBuilder
+                .with((Integer a) -> a > 0)
+                .build();
+        RuleContext context = RuleContextBuilder.build(Bindings.create().bind("a", int.class, -1));
+
+        // Short-circuits on the first false
+        Assert.assertFalse(ConditionBuilder.and(isPositive, expensive).isTrue(context));
+        // Short-circuits on the first true
+        Assert.assertTrue(ConditionBuilder.or(ConditionBuilder.not(isPositive), expensive).isTrue(context));
+        Assert.assertFalse(((SimpleCondition) isPositive).and(expensive).isTrue(context));
+        Assert.assertEquals(0, counter.get());
+
+        Assert.assertTrue(ConditionBuilder.or(isPositive, expensive).isTrue(context));
+        Assert.assertEquals(1, counter.get());
+        // Odd number of true operands
+        Assert.assertTrue(ConditionBuilder.xor(expensive, expensive, expensive).isTrue(context));
+        Assert.assertFalse(ConditionBuilder.xor(isPositive, expensive, expensive).isTrue(context));
+        Assert.assertEquals(6, counter.get());
+        // Previously the left operand was evaluated twice
+        Assert.assertTrue(expensive.xor(isPositive).isTrue(context));
+        Assert.assertEquals(7, counter.get());
+    }
+
+    @Test
+    public void testLogicalConditionFlattening() {
+        Condition a = ConditionBuilder.TRUE();
+        Condition b = ConditionBuilder.FALSE();
+        Condition c = ConditionBuilder.TRUE();
+
+        LogicalCondition condition = ConditionBuilder.and(ConditionBuilder.and(a, b), c);
+        Assert.assertEquals(LogicalOperator.AND, condition.getOperator());
+        Assert.assertEquals(3, condition.getOperands().length);
+        Assert.assertFalse(condition.isTrue(RuleContextBuilder.empty()));
+
+        LogicalCondition mixed = ConditionBuilder.or(ConditionBuilder.and(a, b), c);
+        Assert.assertEquals(2, mixed.getOperands().length);
+        Assert.assertTrue(mixed.isTrue(RuleContextBuilder.empty()));
+    }
+
+    @Test
+    public void testAdaptiveCondition() {
+        Condition slow = ConditionBuilder
+                .with((Integer a) -> spin(a))
+                .build();
+        Condition isPositive = ConditionBuilder
+                .with((Integer a) -> a > 0)
+                .build();
+        RuleContext context = RuleContextBuilder.build(Bindings.create().bind("a", int.class, -1));
+
+        AdaptiveLogicalCondition condition = ConditionBuilder.adaptive(ConditionBuilder.and(slow, isPositive), 10);
+        for (int i = 0; i < 10; i++) Assert.assertFalse(condition.isTrue(context));
+
+        // Cheap (and always false) operand moves to the front
+        Assert.assertSame(isPositive, condition.getOperands()[0]);
+        Assert.assertEquals(10, condition.getStatistics(1).getEvaluationCount());
+        Assert.assertTrue(condition.getStatistics(0).getTrueRatio() == 1.0d);
+
+        for (int i = 0; i < 10; i++) Assert.assertFalse(condition.isTrue(context));
+        // Slow operand is no longer evaluated
+        Assert.assertEquals(10, condition.getStatistics(0).getEvaluationCount());
+
+        // Pinned operands stay put
+        AdaptiveLogicalCondition pinned = ConditionBuilder.adaptive(
+                ConditionBuilder.and(ConditionBuilder.pin(slow), isPositive), 10);
+        for (int i = 0; i < 10; i++) Assert.assertFalse(pinned.isTrue(context));
+        Assert.assertTrue(pinned.getOperands()[0] instanceof PinnedCondition);
+    }
+
+    @Test
+    public void testAdaptiveConditionSampling() {
+        Condition isPositive = ConditionBuilder
+                .with((Integer a) -> a > 0)
+                .build();
+        Condition isEven = ConditionBuilder
+                .with((Integer a) -> a % 2 == 0)
+                .build();
+        RuleContext context = RuleContextBuilder.build(Bindings.create().bind("a", int.class, 2));
+
+        // Pinned so that the order is stable regardless of timings
+        AdaptiveLogicalCondition condition = new AdaptiveLogicalCondition(LogicalOperator.AND, 10, 5,
+                ConditionBuilder.pin(isPositive), ConditionBuilder.pin(isEven));
+        for (int i = 0; i < 10; i++) Assert.assertTrue(condition.isTrue(context));
+
+        // Only every 5th evaluation is timed
+        Assert.assertEquals(2, condition.getStatistics(0).getEvaluationCount());
+        Assert.assertFalse(condition.isSettled());
+
+        // Order does not change any more; statistics are no longer gathered
+        for (int i = 0; i < 10 * AdaptiveLogicalCondition.STABLE_REORDERS; i++) condition.isTrue(context);
+        Assert.assertTrue(condition.isSettled());
+        long count = condition.getStatistics(0).getEvaluationCount();
+        for (int i = 0; i < 100; i++) Assert.assertTrue(condition.isTrue(context));
+        Assert.assertEquals(count, condition.getStatistics(0).getEvaluationCount());
+
+        condition.reset();
+        for (int i = 0; i < 5; i++) condition.isTrue(context);
+        Assert.assertEquals(count + 1, condition.getStatistics(0).getEvaluationCount());
+    }
+
+    private static boolean spin(Integer a) {
+        long end = System.nanoTime() + 50_000;
+        while (System.nanoTime() < end);
+        return a != null;
+    }
 }
@@ -19,8 +19,13 @@ package org.algorithmx.rulii.core.test.context;
 
 import org.algorithmx.rulii.bind.Bindings;
 import org.algorithmx.rulii.bind.InvalidBindingException;
+import org.algorithmx.rulii.bind.ScopedBindings;
+import org.algorithmx.rulii.bind.match.ParameterMatch;
+import org.algorithmx.rulii.core.condition.Condition;
+import org.algorithmx.rulii.core.condition.ConditionBuilder;
 import org.algorithmx.rulii.core.context.RuleContext;
 import org.algorithmx.rulii.core.context.RuleContextBuilder;
+import org.junit.Assert;
 import org.junit.Test;
 
 public class RuleContextTest {
@@ -34,4 +39,91 @@ public class RuleContextTest {
         RuleContext context = RuleContextBuilder.build(Bindings.create());
         context.getBindings().bind("context", 25);
     }
+
+    @Test
+    public void testMatchPlanReuse() {
+        Bindings bindings = Bindings.create().bind("x", 10);
+        RuleContext context = RuleContextBuilder.build(bindings);
+        Condition condition = ConditionBuilder.build((Integer x, Integer y) -> x > 5 && y == null);
+
+        ParameterMatch[] matches1 = context.match(condition.getMethodDefinition());
+        ParameterMatch[] matches2 = context.match(condition.getMethodDefinition());
+        Assert.assertSame(matches1, matches2);
+        Assert.assertNull(matches1[1].getBinding());
+
+        // Value changes do not alter the structure
+        bindings.setValue("x", 20);
+        Assert.assertSame(matches1, context.match(condition.getMethodDefinition()));
+
+        // New Binding invalidates the plan
+        bindings.bind("y", 5);
+        ParameterMatch[] matches3 = context.match(condition.getMethodDefinition());
+        Assert.assertNotSame(matches1, matches3);
+        Assert.assertEquals("y", matches3[1].getBinding().getName());
+
+        // Empty scope does not change what can be matched
+        context.getBindings().addScope("test-scope");
+        Assert.assertSame(matches3, context.match(condition.getMethodDefinition()));
+
+        // Binding in the new scope invalidates the plan
+        context.getBindings().bind("x", 30);
+        ParameterMatch[] matches4 = context.match(condition.getMethodDefinition());
+        Assert.assertNotSame(matches3, matches4);
+        Assert.assertEquals(30, matches4[0].getBinding().getValue());
+
+        // Removing the scope invalidates the plan
+        context.getBindings().removeScope();
+        ParameterMatch[] matches5 = context.match(condition.getMethodDefinition());
+        Assert.assertNotSame(matches4, matches5);
+        Assert.assertEquals(20, matches5[0].getBinding().getValue());
+    }
+
+    @Test
+    public void testScopeVersions() {
+        ScopedBindings bindings = ScopedBindings.createIndexed();
+        bindings.bind("x", 10);
+        long version = bindings.getVersion();
+
+        // Same (unchanged) scope on top of the same layout gets the same version
+        Bindings scope = Bindings.create().bind("y", 20);
+        bindings.addScope("scope", scope);
+        long scopeVersion = bindings.getVersion();
+        Assert.assertNotEquals(version, scopeVersion);
+        bindings.removeScope(scope);
+        Assert.assertEquals(version, bindings.getVersion());
+        bindings.addScope("scope", scope);
+        Assert.assertEquals(scopeVersion, bindings.getVersion());
+
+        // Scope changed; new version
+        scope.bind("z", 30);
+        bindings.removeScope(scope);
+        Assert.assertEquals(version, bindings.getVersion());
+        bindings.addScope("scope", scope);
+        Assert.assertNotEquals(scopeVersion, bindings.getVersion());
+        Assert.assertNotEquals(version, bindings.getVersion());
+
+        // Layout underneath changed; cannot go back
+        bindings.getRootScope().bind("w", 40);
+        bindings.removeScope(scope);
+        Assert.assertNotEquals(version, bindings.getVersion());
+    }
+
+    @Test
+    public void testSharedGlobalScope() {
+        Bindings bindings = Bindings.create().bind("x", 10);
+        RuleContext context1 = RuleContextBuilder.with(bindings).build();
+        RuleContext context2 = RuleContextBuilder.with(bindings).build();
+        Assert.assertEquals(10, (int) context1.getBindings().getValue("x"));
+        long version = context1.getBindings().getVersion();
+
+        // Bound straight into the shared Bindings; seen by every context
+        bindings.bind("y", 20);
+        Assert.assertNotEquals(version, context1.getBindings().getVersion());
+        Assert.assertEquals(20, (int) context1.getBindings().getValue("y"));
+        Assert.assertEquals(20, (int) context2.getBindings().getValue("y"));
+
+        // Bound through a context; seen by the other one
+        context1.getBindings().getGlobalScope().bind("z", 30);
+        Assert.assertEquals(30, (int) context2.getBindings().getValue("z"));
+    }
 }
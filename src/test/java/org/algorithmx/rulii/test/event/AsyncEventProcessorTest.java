@@ -0,0 +1,230 @@
+/*
+ * This software is licensed under the Apache 2 license, quoted below.
+ *
+ * Copyright (c) 1999-2021, Algorithmx Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.algorithmx.rulii.test.event;
+
+import org.algorithmx.rulii.bind.Bindings;
+import org.algorithmx.rulii.core.condition.ConditionBuilder;
+import org.algorithmx.rulii.core.context.RuleContext;
+import org.algorithmx.rulii.core.context.RuleContextBuilder;
+import org.algorithmx.rulii.core.rule.Rule;
+import org.algorithmx.rulii.core.rule.RuleBuilder;
+import org.algorithmx.rulii.event.AsyncEventProcessor;
+import org.algorithmx.rulii.event.BackpressurePolicy;
+import org.algorithmx.rulii.event.ConditionExecution;
+import org.algorithmx.rulii.event.EventProcessor;
+import org.algorithmx.rulii.event.EventType;
+import org.algorithmx.rulii.event.ExecutionEvent;
+import org.algorithmx.rulii.event.ExecutionListener;
+import org.algorithmx.rulii.trace.ExecutionCollector;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Tests for the AsyncEventProcessor.
+ *
+ * @author Max Arulananthan
+ */
+public class AsyncEventProcessorTest {
+
+    public AsyncEventProcessorTest() {
+        super();
+    }
+
+    @Test
+    public void testCollector() {
+        List<String> logs = new ArrayList<>();
+
+        try (AsyncEventProcessor processor = EventProcessor.createAsync(64, BackpressurePolicy.BLOCK)) {
+            processor.addEventListener(new ExecutionCollector() {
+                @Override
+                public void collect(ExecutionEvent event, String executionText) {
+                    logs.add(executionText);
+                }
+            });
+
+            Rule rule = RuleBuilder
+                    .name("rule1")
+                    .given(ConditionBuilder.build((Integer y) -> y > 10))
+                    .build();
+
+            RuleContext context = RuleContextBuilder
+                    .with(Bindings.create().bind("y", int.class, 123))
+                    .eventProcessor(processor)
+                    .build();
+
+            rule.run(context);
+            Assert.assertTrue(processor.flush(5, TimeUnit.SECONDS));
+            Assert.assertFalse(logs.isEmpty());
+            Assert.assertTrue(logs.stream().anyMatch(log -> log.contains("Condition Result : true")));
+        }
+    }
+
+    @Test
+    public void testBlock() {
+        AtomicInteger count = new AtomicInteger();
+
+        try (AsyncEventProcessor processor = EventProcessor.createAsync(4, BackpressurePolicy.BLOCK)) {
+            processor.addEventListener(countingListener(count));
+
+            for (int i = 0; i < 1000; i++) {
+                processor.fireListeners(new ExecutionEvent<>(EventType.ON_ACTION, null));
+            }
+
+            Assert.assertTrue(processor.flush(5, TimeUnit.SECONDS));
+            Assert.assertEquals(1000, count.get());
+            Assert.assertEquals(0, processor.getDroppedCount());
+        }
+    }
+
+    @Test
+    public void testDrop() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+        AtomicInteger count = new AtomicInteger();
+
+        try (AsyncEventProcessor processor = EventProcessor.createAsync(4, BackpressurePolicy.DROP)) {
+            processor.addEventListener(new ExecutionListener() {
+                @Override
+                public <T> void onEvent(ExecutionEvent<T> event) {
+                    try {
+                        latch.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    count.incrementAndGet();
+                }
+            });
+
+            for (int i = 0; i < 100; i++) {
+                processor.fireListeners(new ExecutionEvent<>(EventType.ON_ACTION, null));
+            }
+
+            latch.countDown();
+            Assert.assertTrue(processor.flush(5, TimeUnit.SECONDS));
+            Assert.assertTrue(processor.getDroppedCount() > 0);
+            Assert.assertEquals(100, count.get() + processor.getDroppedCount());
+        }
+    }
+
+    @Test
+    public void testClose() {
+        AtomicInteger count = new AtomicInteger();
+        AsyncEventProcessor processor = EventProcessor.createAsync(1024, BackpressurePolicy.SAMPLE);
+        processor.addEventListener(countingListener(count));
+
+        for (int i = 0; i < 100; i++) {
+            processor.fireListeners(new ExecutionEvent<>(EventType.ON_ACTION, null));
+        }
+
+        processor.close();
+        // Everything left in the buffer is delivered on close
+        Assert.assertEquals(100, count.get());
+        Assert.assertFalse(processor.isListening(EventType.ON_ACTION));
+    }
+
+    @Test
+    public void testCloseWhilePublishing() throws InterruptedException {
+        AtomicInteger count = new AtomicInteger();
+        AsyncEventProcessor processor = EventProcessor.createAsync(64, BackpressurePolicy.BLOCK);
+        processor.addEventListener(countingListener(count));
+        List<Thread> threads = new ArrayList<>();
+
+        for (int i = 0; i < 4; i++) {
+            Thread thread = new Thread(() -> {
+                for (int j = 0; j < 10000; j++) {
+                    processor.fireListeners(new ExecutionEvent<>(EventType.ON_ACTION, null));
+                }
+            });
+            threads.add(thread);
+            thread.start();
+        }
+
+        processor.close();
+        for (Thread thread : threads) thread.join();
+
+        // Every event was either delivered or counted as dropped
+        Assert.assertEquals(40000, count.get() + processor.getDroppedCount());
+    }
+
+    @Test
+    public void testSnapshot() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+        List<ConditionExecution> executions = new ArrayList<>();
+
+        try (AsyncEventProcessor processor = EventProcessor.createAsync(64, BackpressurePolicy.BLOCK)) {
+            processor.addEventListener(new ExecutionListener() {
+                @Override
+                public <T> void onEvent(ExecutionEvent<T> event) {
+                    try {
+                        latch.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    if (event.getData() instanceof ConditionExecution) executions.add((ConditionExecution) event.getData());
+                }
+            }, EventType.ON_CONDITION);
+
+            Bindings bindings = Bindings.create().bind("y", Integer.class, 123);
+            RuleContext context = RuleContextBuilder.with(bindings).eventProcessor(processor).build();
+            RuleBuilder.name("rule1").given(ConditionBuilder.build((Integer y) -> y > 10)).build().run(context);
+
+            // Changed before the consumer gets to the event
+            bindings.setValue("y", 5);
+            latch.countDown();
+            Assert.assertTrue(processor.flush(5, TimeUnit.SECONDS));
+            Assert.assertEquals(1, executions.size());
+            Assert.assertEquals(123, executions.get(0).getParameterMatches()[0].getBinding().getValue());
+            Assert.assertEquals(123, executions.get(0).getValues()[0]);
+        }
+    }
+
+    @Test
+    public void testListenerError() {
+        AtomicInteger count = new AtomicInteger();
+
+        try (AsyncEventProcessor processor = EventProcessor.createAsync(64, BackpressurePolicy.BLOCK)) {
+            processor.addEventListener(new ExecutionListener() {
+                @Override
+                public <T> void onEvent(ExecutionEvent<T> event) {
+                    if (count.incrementAndGet() == 1) throw new IllegalStateException("listener failure");
+                }
+            });
+
+            processor.fireListeners(new ExecutionEvent<>(EventType.ON_ACTION, null));
+            processor.fireListeners(new ExecutionEvent<>(EventType.ON_ACTION, null));
+            // Consumer survives the failure
+            Assert.assertTrue(processor.flush(5, TimeUnit.SECONDS));
+            Assert.assertEquals(2, count.get());
+        }
+    }
+
+    private static ExecutionListener countingListener(AtomicInteger count) {
+        return new ExecutionListener() {
+            @Override
+            public <T> void onEvent(ExecutionEvent<T> event) {
+                count.incrementAndGet();
+            }
+        };
+    }
+}
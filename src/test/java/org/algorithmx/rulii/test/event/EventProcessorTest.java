@@ -0,0 +1,208 @@
+/*
+ * This software is licensed under the Apache 2 license, quoted below.
+ *
+ * Copyright (c) 1999-2021, Algorithmx Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.algorithmx.rulii.test.event;
+
+import org.algorithmx.rulii.bind.Bindings;
+import org.algorithmx.rulii.core.condition.ConditionBuilder;
+import org.algorithmx.rulii.core.context.RuleContext;
+import org.algorithmx.rulii.core.context.RuleContextBuilder;
+import org.algorithmx.rulii.core.rule.Rule;
+import org.algorithmx.rulii.core.rule.RuleBuilder;
+import org.algorithmx.rulii.event.EventProcessor;
+import org.algorithmx.rulii.event.EventType;
+import org.algorithmx.rulii.event.ExecutionEvent;
+import org.algorithmx.rulii.event.ExecutionListener;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Tests for the EventProcessor.
+ *
+ * @author Max Arulananthan
+ */
+public class EventProcessorTest {
+
+    public EventProcessorTest() {
+        super();
+    }
+
+    @Test
+    public void testIsListening() {
+        EventProcessor processor = EventProcessor.create();
+        Assert.assertFalse(processor.isListening(EventType.RULE_START));
+
+        ExecutionListener listener = new ExecutionListener() {
+            @Override
+            public <T> void onEvent(ExecutionEvent<T> event) {}
+
+            @Override
+            public boolean isInterested(EventType eventType) {
+                return eventType == EventType.ON_CONDITION;
+            }
+        };
+
+        processor.addEventListener(listener);
+        Assert.assertTrue(processor.isListening(EventType.ON_CONDITION));
+        Assert.assertFalse(processor.isListening(EventType.RULE_START));
+
+        processor.setEventsEnabled(false);
+        Assert.assertFalse(processor.isListening(EventType.ON_CONDITION));
+        processor.setEventsEnabled(true);
+
+        processor.removeEventListener(listener);
+        Assert.assertFalse(processor.isListening(EventType.ON_CONDITION));
+    }
+
+    @Test
+    public void testSelectiveListener() {
+        List<EventType> events = new ArrayList<>();
+
+        Rule rule = RuleBuilder
+                .name("rule1")
+                .given(ConditionBuilder.build((Integer y) -> y > 10))
+                .build();
+
+        RuleContext context = RuleContextBuilder
+                .with(Bindings.create().bind("y", int.class, 123))
+                .traceUsing(new ExecutionListener() {
+                    @Override
+                    public <T> void onEvent(ExecutionEvent<T> event) {
+                        events.add(event.getEventType());
+                    }
+
+                    @Override
+                    public boolean isInterested(EventType eventType) {
+                        return eventType == EventType.RULE_START || eventType == EventType.ON_CONDITION;
+                    }
+                })
+                .build();
+
+        rule.run(context);
+        Assert.assertEquals(2, events.size());
+        Assert.assertEquals(EventType.RULE_START, events.get(0));
+        Assert.assertEquals(EventType.ON_CONDITION, events.get(1));
+    }
+
+    @Test
+    public void testSubscription() {
+        EventProcessor processor = EventProcessor.create();
+        List<EventType> events = new ArrayList<>();
+        ExecutionListener listener = new ExecutionListener() {
+            @Override
+            public <T> void onEvent(ExecutionEvent<T> event) {
+                events.add(event.getEventType());
+            }
+        };
+
+        processor.addEventListener(listener, EventType.RULE_START, EventType.RULE_END);
+        Assert.assertTrue(processor.isListening(EventType.RULE_END));
+        Assert.assertFalse(processor.isListening(EventType.ON_ACTION));
+
+        processor.fireListeners(new ExecutionEvent<>(EventType.ON_ACTION, null));
+        processor.fireListeners(new ExecutionEvent<>(EventType.RULE_START, null));
+        processor.fireListeners(new ExecutionEvent<>(EventType.RULE_END, null));
+        Assert.assertEquals(2, events.size());
+
+        processor.removeEventListener(listener);
+        processor.fireListeners(new ExecutionEvent<>(EventType.RULE_START, null));
+        Assert.assertEquals(2, events.size());
+    }
+
+    @Test
+    public void testDefaultSubscription() {
+        List<ExecutionListener> listeners = new ArrayList<>();
+        // Only implements the required methods; relies on the default type filtering
+        EventProcessor processor = new EventProcessor() {
+            @Override
+            public boolean isEventsEnabled() {
+                return true;
+            }
+
+            @Override
+            public void setEventsEnabled(boolean eventsEnabled) {}
+
+            @Override
+            public void addEventListener(ExecutionListener listener) {
+                listeners.add(listener);
+            }
+
+            @Override
+            public void removeEventListener(ExecutionListener listener) {
+                listeners.remove(listener);
+            }
+
+            @Override
+            public <T> void fireListeners(ExecutionEvent<T> event) {
+                for (ExecutionListener listener : listeners) {
+                    listener.onEvent(event);
+                }
+            }
+        };
+
+        List<EventType> events = new ArrayList<>();
+        processor.addEventListener(new ExecutionListener() {
+            @Override
+            public <T> void onEvent(ExecutionEvent<T> event) {
+                events.add(event.getEventType());
+            }
+        }, EventType.RULE_START);
+
+        Assert.assertEquals(1, listeners.size());
+        Assert.assertTrue(listeners.get(0).isInterested(EventType.RULE_START));
+        Assert.assertFalse(listeners.get(0).isInterested(EventType.RULE_END));
+
+        processor.fireListeners(new ExecutionEvent<>(EventType.RULE_START, null));
+        processor.fireListeners(new ExecutionEvent<>(EventType.RULE_END, null));
+        Assert.assertEquals(1, events.size());
+        Assert.assertEquals(EventType.RULE_START, events.get(0));
+    }
+
+    @Test
+    public void testConcurrentFire() throws InterruptedException {
+        EventProcessor processor = EventProcessor.create();
+        AtomicInteger count = new AtomicInteger();
+        processor.addEventListener(new ExecutionListener() {
+            @Override
+            public <T> void onEvent(ExecutionEvent<T> event) {
+                count.incrementAndGet();
+            }
+        }, EventType.ON_CONDITION);
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        for (int i = 0; i < 8; i++) {
+            executor.submit(() -> {
+                for (int j = 0; j < 1000; j++) {
+                    processor.fireListeners(new ExecutionEvent<>(EventType.ON_CONDITION, null));
+                }
+            });
+        }
+
+        executor.shutdown();
+        Assert.assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+        Assert.assertEquals(8000, count.get());
+    }
+}
@@ -0,0 +1,133 @@
+/*
+ * This software is licensed under the Apache 2 license, quoted below.
+ *
+ * Copyright (c) 1999-2021, Algorithmx Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.algorithmx.rulii.test.ruleset;
+
+import org.algorithmx.rulii.bind.Binding;
+import org.algorithmx.rulii.bind.Bindings;
+import org.algorithmx.rulii.bind.match.BindingMatchingStrategy;
+import org.algorithmx.rulii.bind.match.DefaultParameterResolver;
+import org.algorithmx.rulii.bind.match.ParameterMatch;
+import org.algorithmx.rulii.core.action.ActionBuilder;
+import org.algorithmx.rulii.core.condition.ConditionBuilder;
+import org.algorithmx.rulii.core.context.RuleContextBuilder;
+import org.algorithmx.rulii.core.model.MethodDefinition;
+import org.algorithmx.rulii.core.rule.RuleBuilder;
+import org.algorithmx.rulii.core.ruleset.RuleSet;
+import org.algorithmx.rulii.core.ruleset.RuleSetBatchExecutor;
+import org.algorithmx.rulii.core.ruleset.RuleSetBuilder;
+import org.algorithmx.rulii.util.reflect.ObjectFactory;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Tests for the RuleSetBatchExecutor.
+ *
+ * @author Max Arulananthan
+ * @since 1.0
+ */
+public class RuleSetBatchExecutorTest {
+
+    public RuleSetBatchExecutorTest() {
+        super();
+    }
+
+    @Test
+    public void testSequential() {
+        Map<Integer, Integer> results = new ConcurrentHashMap<>();
+
+        long count = RuleSetBatchExecutor.with(createRuleSet(), (Integer fact, Bindings bindings) -> {
+                    bindings.bind("value", Integer.class, fact);
+                    bindings.bind("result", Integer.class, 0);
+                })
+                .sink((fact, result) -> results.put(fact, result.getBindings().getValue("result", Integer.class)))
+                .execute(IntStream.range(0, 100).boxed().collect(Collectors.toList()));
+
+        Assert.assertEquals(100, count);
+        Assert.assertEquals(100, results.size());
+        Assert.assertTrue(results.get(5) == 0);
+        Assert.assertTrue(results.get(50) == 100);
+    }
+
+    @Test
+    public void testParallel() {
+        Map<Integer, Integer> results = new ConcurrentHashMap<>();
+
+        long count = RuleSetBatchExecutor.with(createRuleSet(), (Integer fact, Bindings bindings) -> {
+                    bindings.bind("value", Integer.class, fact);
+                    bindings.bind("result", Integer.class, 0);
+                })
+                .sink((fact, result) -> results.put(fact, result.getBindings().getValue("result", Integer.class)))
+                .parallel()
+                .batchSize(16)
+                .execute(IntStream.range(0, 10_000).boxed());
+
+        Assert.assertEquals(10_000, count);
+        Assert.assertEquals(10_000, results.size());
+        Assert.assertTrue(results.get(9) == 0);
+        Assert.assertTrue(results.get(9_999) == 19_998);
+    }
+
+    @Test
+    public void testMatchPlanReuse() {
+        AtomicInteger matchCount = new AtomicInteger();
+        Map<Integer, Integer> results = new ConcurrentHashMap<>();
+
+        RuleSetBatchExecutor.with(createRuleSet(), (Integer fact, Bindings bindings) -> {
+                    bindings.bind("value", Integer.class, fact);
+                    bindings.bind("result", Integer.class, 0);
+                })
+                .contextFactory(() -> RuleContextBuilder
+                        .with(Bindings.create())
+                        .paramResolver(new DefaultParameterResolver() {
+                            @Override
+                            public ParameterMatch[] match(MethodDefinition definition,
+                                                          Bindings bindings,
+                                                          BindingMatchingStrategy matchingStrategy,
+                                                          ObjectFactory objectFactory) {
+                                matchCount.incrementAndGet();
+                                return super.match(definition, bindings, matchingStrategy, objectFactory);
+                            }
+                        })
+                        .build())
+                .sink((fact, result) -> results.put(fact, result.getBindings().getValue("result", Integer.class)))
+                .execute(IntStream.range(0, 100).boxed().collect(Collectors.toList()));
+
+        Assert.assertTrue(results.get(5) == 0);
+        Assert.assertTrue(results.get(50) == 100);
+        // Every fact maps to the same layout; matched once (condition + action)
+        Assert.assertEquals(2, matchCount.get());
+    }
+
+    private static RuleSet createRuleSet() {
+        return RuleSetBuilder
+                .with("BatchRuleSet")
+                .rule(RuleBuilder
+                        .name("Rule1")
+                        .given(ConditionBuilder.build((Integer value) -> value >= 10))
+                        .then(ActionBuilder.build((Integer value, Binding<Integer> result) -> result.setValue(value * 2)))
+                        .build())
+                .build();
+    }
+}
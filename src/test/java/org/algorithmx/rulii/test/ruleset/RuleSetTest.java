@@ -20,16 +20,45 @@ package org.algorithmx.rulii.test.ruleset;
 
 import org.algorithmx.rulii.bind.Binding;
 import org.algorithmx.rulii.bind.Bindings;
+import org.algorithmx.rulii.core.UnrulyException;
+import org.algorithmx.rulii.bind.match.BindingMatchingStrategy;
+import org.algorithmx.rulii.bind.match.BindingMatchingStrategyType;
+import org.algorithmx.rulii.bind.match.DefaultParameterResolver;
+import org.algorithmx.rulii.bind.match.ParameterMatch;
 import org.algorithmx.rulii.core.action.ActionBuilder;
+import org.algorithmx.rulii.core.condition.Condition;
 import org.algorithmx.rulii.core.condition.ConditionBuilder;
+import org.algorithmx.rulii.core.condition.ConditionKey;
+import org.algorithmx.rulii.core.condition.MemoizedCondition;
+import org.algorithmx.rulii.core.context.RuleContext;
+import org.algorithmx.rulii.core.context.RuleContextBuilder;
+import org.algorithmx.rulii.core.model.MethodDefinition;
 import org.algorithmx.rulii.core.rule.Rule;
 import org.algorithmx.rulii.core.rule.RuleBuilder;
+import org.algorithmx.rulii.core.rule.RuleResult;
+import org.algorithmx.rulii.core.rule.RulingClass;
+import org.algorithmx.rulii.core.ruleset.ForwardChainingRulingFamily;
+import org.algorithmx.rulii.core.ruleset.ParallelRulingFamily;
 import org.algorithmx.rulii.core.ruleset.RuleSet;
 import org.algorithmx.rulii.core.ruleset.RuleSetBuilder;
+import org.algorithmx.rulii.core.ruleset.RuleSetDecisionIndex;
+import org.algorithmx.rulii.core.ruleset.RuleSetDependencyGraph;
+import org.algorithmx.rulii.core.ruleset.RuleSetExecutionException;
+import org.algorithmx.rulii.core.ruleset.RuleSetResult;
+import org.algorithmx.rulii.core.ruleset.RulingFamily;
+import org.algorithmx.rulii.util.TypeReference;
+import org.algorithmx.rulii.util.reflect.ObjectFactory;
 import org.junit.Assert;
 import org.junit.Test;
 
 import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Tests for RuleSets.
@@ -39,6 +68,8 @@ import java.math.BigDecimal;
  */
 public class RuleSetTest {
 
+    private static final AtomicInteger SHARED_COUNTER = new AtomicInteger();
+
     public RuleSetTest() {
         super();
     }
@@ -88,6 +119,38 @@ public class RuleSetTest {
         Assert.assertTrue(rule3.getCondition().isTrue("", "hello", 20));
     }
 
+    @Test
+    public void matchPlanReuseTest() {
+        AtomicInteger matchCount = new AtomicInteger();
+        RuleContext context = RuleContextBuilder
+                .with(Bindings.create().bind("x", Integer.class, 10).bind("y", Integer.class, 0))
+                .paramResolver(new DefaultParameterResolver() {
+                    @Override
+                    public ParameterMatch[] match(MethodDefinition definition, Bindings bindings,
+                                                  BindingMatchingStrategy matchingStrategy,
+                                                  ObjectFactory objectFactory) {
+                        matchCount.incrementAndGet();
+                        return super.match(definition, bindings, matchingStrategy, objectFactory);
+                    }
+                })
+                .build();
+
+        RuleSet rules = RuleSetBuilder
+                .with("RuleSet1")
+                .rule(RuleBuilder
+                        .name("Rule1")
+                        .given(ConditionBuilder.build((Integer x) -> x > 5))
+                        .then(ActionBuilder.build((Binding<Integer> y) -> y.setValue(y.getValue() + 1)))
+                        .build())
+                .build();
+
+        for (int i = 0; i < 100; i++) rules.run(context);
+
+        Assert.assertTrue(context.getBindings().getValue("y", Integer.class) == 100);
+        // Matched once (condition + action); the RuleSet scope does not invalidate the matches
+        Assert.assertEquals(2, matchCount.get());
+    }
+
     @Test
     public void test2() {
         Bindings bindings = Bindings.create()
@@ -108,4 +171,645 @@ public class RuleSetTest {
         Assert.assertTrue(bindings.getValue("c", Integer.class) == 2);
         Assert.assertTrue(rule3.getCondition().isTrue("", "hello", 20));
     }
+
+    @Test
+    public void parallelTest1() {
+        Bindings bindings = Bindings.create()
+                .bind("y", String.class, "")
+                .bind("a", String.class, "")
+                .bind("b", String.class, "hello")
+                .bind("c", Integer.class, 20)
+                .bind("x", BigDecimal.class, new BigDecimal("100.00"));
+
+        RuleSet rules = RuleSetBuilder
+                .with("RuleSet1", "Test Rule Set")
+                .rule(RuleBuilder
+                        .name("Rule1")
+                        .given(ConditionBuilder.build((String y) -> y.equals("")))
+                        .then(ActionBuilder.build((Binding<Integer> c) -> c.setValue(0)))
+                        .build())
+                .rule(RuleBuilder
+                        .name("Rule2")
+                        .given(ConditionBuilder.build((String a, BigDecimal x) -> x != null))
+                        .then(ActionBuilder.build((Binding<Integer> c) -> c.setValue(c.getValue() + 1)))
+                        .build())
+                .rule(RuleBuilder
+                        .name("Rule3")
+                        .given(ConditionBuilder.build((String a, String b, Integer c) -> c == 20 && "hello".equals(b)))
+                        .then(ActionBuilder.build((Binding<Integer> c) -> c.setValue(c.getValue() + 1)))
+                        .build())
+                .parallel()
+                .build();
+
+        Assert.assertTrue(rules instanceof ParallelRulingFamily);
+        RuleSetDependencyGraph graph = ((ParallelRulingFamily) rules).getGraph();
+        // All the rules touch c; they must run in sequence
+        Assert.assertArrayEquals(new int[] {0}, graph.getDependencies(1));
+        Assert.assertArrayEquals(new int[] {0, 1}, graph.getDependencies(2));
+
+        rules.run(bindings);
+        Assert.assertTrue(bindings.getValue("c", Integer.class) == 1);
+    }
+
+    @Test
+    public void parallelTest2() {
+        Bindings bindings = Bindings.create()
+                .bind("a", Integer.class, 1)
+                .bind("b", Integer.class, 2)
+                .bind("c", Integer.class, 3)
+                .bind("total", Integer.class, 0);
+
+        CountDownLatch latch = new CountDownLatch(2);
+
+        RuleSet rules = RuleSetBuilder
+                .with("RuleSet2")
+                .rule(RuleBuilder
+                        .name("Rule1")
+                        .given(ConditionBuilder.build((Integer a) -> await(latch)))
+                        .build())
+                .rule(RuleBuilder
+                        .name("Rule2")
+                        .given(ConditionBuilder.build((Integer b) -> await(latch)))
+                        .build())
+                .rule(RuleBuilder
+                        .name("Rule3")
+                        .given(ConditionBuilder.build((Integer a, Integer b) -> true))
+                        .then(ActionBuilder.build((Binding<Integer> total, Integer a, Integer b) -> total.setValue(a + b)))
+                        .build())
+                .writes("Rule1", "a")
+                .parallel(new ForkJoinPool(4))
+                .build();
+
+        RuleSetDependencyGraph graph = ((ParallelRulingFamily) rules).getGraph();
+        // Rule1 & Rule2 are independent; Rule3 reads what Rule1 writes
+        Assert.assertEquals(0, graph.getDependencies(1).length);
+        Assert.assertArrayEquals(new int[] {0}, graph.getDependencies(2));
+
+        // Rule1 & Rule2 wait for each other; only passes if they run concurrently
+        rules.run(bindings);
+        Assert.assertEquals(0, latch.getCount());
+        Assert.assertTrue(bindings.getValue("total", Integer.class) == 3);
+    }
+
+    @Test
+    public void parallelTest3() {
+        Bindings bindings = Bindings.create()
+                .bind("c", Integer.class, 0);
+
+        RuleSet rules = RuleSetBuilder
+                .with("RuleSet3")
+                .rule(RuleBuilder
+                        .name("Rule1")
+                        .given(ConditionBuilder.TRUE())
+                        .then(ActionBuilder.build((Binding<Integer> c) -> c.setValue(c.getValue() + 1)))
+                        .build())
+                .rule(RuleBuilder
+                        .name("Rule2")
+                        .given(ConditionBuilder.TRUE())
+                        .then(ActionBuilder.build((Binding<Integer> c) -> c.setValue(c.getValue() + 1)))
+                        .build())
+                .stopWhen(ConditionBuilder.build((Integer c) -> c >= 1))
+                .parallel()
+                .build();
+
+        rules.run(bindings);
+        Assert.assertTrue(bindings.getValue("c", Integer.class) == 1);
+    }
+
+    @Test
+    public void parallelTypeMatchTest() {
+        Bindings bindings = Bindings.create()
+                .bind("total", Long.class, 0L)
+                .bind("seen", Long.class, -1L);
+        Bindings values = Bindings.create().bind("total", Long.class, 0L);
+
+        RuleSet rules = RuleSetBuilder
+                .with("RuleSet18")
+                .rule(RuleBuilder
+                        .name("Rule1")
+                        .given(ConditionBuilder.TRUE())
+                        .then(ActionBuilder.build((Binding<Long> total) -> total.setValue(10L)))
+                        .build())
+                .rule(RuleBuilder
+                        .name("Rule2")
+                        .given(ConditionBuilder.TRUE())
+                        .then(ActionBuilder.build((Long amount) -> values.setValue("total", amount)))
+                        .build())
+                .parallel()
+                .build();
+
+        ParallelRulingFamily family = (ParallelRulingFamily) rules;
+        // Going by the names alone the rules are independent
+        Assert.assertEquals(0, family.getGraph().getDependencies(1).length);
+
+        // amount only matches total by type
+        RuleContext context = RuleContextBuilder
+                .with(Bindings.create().bind("total", Long.class, 0L))
+                .matchUsing(BindingMatchingStrategyType.MATCH_BY_NAME_THEN_BY_TYPE)
+                .build();
+        Assert.assertArrayEquals(new int[] {0}, family.getGraph(context).getDependencies(1));
+        Assert.assertSame(family.getGraph(context), family.getGraph(context));
+
+        rules.run(context);
+        Assert.assertEquals(10L, (long) values.getValue("total", Long.class));
+
+        // Could match either; depends on both
+        context = RuleContextBuilder
+                .with(bindings)
+                .matchUsing(BindingMatchingStrategyType.MATCH_BY_NAME_THEN_BY_TYPE)
+                .build();
+        Assert.assertArrayEquals(new int[] {0}, family.getGraph(context).getDependencies(1));
+    }
+
+    @Test(expected = UnrulyException.class)
+    public void parallelKeyedTest() {
+        RuleSetBuilder
+                .with("RuleSet16")
+                .rule(createKeyedRule("RuleUS"))
+                .key("RuleUS", "country", "US")
+                .parallel()
+                .build();
+    }
+
+    @Test(expected = UnrulyException.class)
+    public void parallelRerunTest() {
+        RuleSet rules = RuleSetBuilder
+                .with("RuleSet17")
+                .rule(createKeyedRule("Rule1"))
+                .parallel()
+                .build();
+
+        rules.rerun(Bindings.create(), null);
+    }
+
+    @Test
+    public void sharedConditionTest() {
+        SHARED_COUNTER.set(0);
+        Bindings bindings = Bindings.create()
+                .bind("active", Boolean.class, true)
+                .bind("c", Integer.class, 0);
+
+        AtomicInteger runs = new AtomicInteger();
+        Rule rule1 = createActiveRule("Rule1");
+        Rule base = createActiveRule("Rule3");
+        // Subclass behaviour must be kept
+        Rule rule3 = new RulingClass<Object>(base.getRuleDefinition(), base.getTarget(), base.getPreCondition(),
+                base.getCondition(), new ArrayList<>(Arrays.asList(base.getActions())), base.getOtherwiseAction()) {
+            @Override
+            public RuleResult run(RuleContext context) {
+                runs.incrementAndGet();
+                return super.run(context);
+            }
+        };
+
+        RuleSet rules = RuleSetBuilder
+                .with("RuleSet4")
+                .rule(rule1)
+                .rule(createActiveRule("Rule2"))
+                .rule(rule3)
+                .build();
+
+        // Rules are left as is
+        Assert.assertSame(rule1, rules.get("Rule1", Rule.class));
+        Assert.assertSame(rule3, rules.get("Rule3", Rule.class));
+        Assert.assertFalse(rule1.getPreCondition() instanceof MemoizedCondition);
+
+        rules.run(bindings);
+        // Evaluated once; c is not read by the pre-condition
+        Assert.assertEquals(1, SHARED_COUNTER.get());
+        Assert.assertEquals(1, runs.get());
+        Assert.assertTrue(bindings.getValue("c", Integer.class) == 3);
+
+        // New execution; evaluated again
+        rules.run(bindings);
+        Assert.assertEquals(2, SHARED_COUNTER.get());
+    }
+
+    @Test
+    public void sharedConditionInvalidationTest() {
+        SHARED_COUNTER.set(0);
+        Bindings bindings = Bindings.create()
+                .bind("active", Boolean.class, true)
+                .bind("c", Integer.class, 0);
+
+        RuleSet rules = RuleSetBuilder
+                .with("RuleSet5")
+                .rule(createActiveRule("Rule1"))
+                .rule(RuleBuilder
+                        .name("Deactivate")
+                        .given(ConditionBuilder.TRUE())
+                        .then(ActionBuilder.build((Binding<Boolean> active) -> active.setValue(false)))
+                        .build())
+                .rule(createActiveRule("Rule2"))
+                .build();
+
+        rules.run(bindings);
+        // Re-evaluated as the active binding was modified
+        Assert.assertEquals(2, SHARED_COUNTER.get());
+        Assert.assertTrue(bindings.getValue("c", Integer.class) == 1);
+    }
+
+    @Test
+    public void sharedContextConditionTest() {
+        List<String> firedRules = new ArrayList<>();
+        Condition condition = ConditionBuilder.build((RuleContext context)
+                -> context.getBindings().getValue("x", Integer.class) > 5);
+        Bindings bindings = Bindings.create()
+                .bind("x", Integer.class, 1)
+                .bind("fired", new TypeReference<List<String>>() {}, firedRules);
+
+        RuleSet rules = RuleSetBuilder
+                .with("RuleSet20")
+                .rule(RuleBuilder.name("R1").given(condition)
+                        .then(ActionBuilder.build((List<String> fired) -> fired.add("R1"))).build())
+                .rule(RuleBuilder.name("SetX").given(ConditionBuilder.TRUE())
+                        .then(ActionBuilder.build((Binding<Integer> x) -> x.setValue(10))).build())
+                .rule(RuleBuilder.name("R2").given(condition)
+                        .then(ActionBuilder.build((List<String> fired) -> fired.add("R2"))).build())
+                .build();
+
+        // Reads through the RuleContext; not shared
+        Assert.assertFalse(rules.get("R1", Rule.class).getCondition() instanceof MemoizedCondition);
+        rules.run(bindings);
+        Assert.assertEquals(Arrays.asList("R2"), firedRules);
+    }
+
+    @Test
+    public void conditionKeyParameterTest() {
+        Condition condition1 = createGreaterThanCondition();
+        Condition condition2 = createGreaterThanCondition();
+        Assert.assertEquals(ConditionKey.create(condition1), ConditionKey.create(condition2));
+
+        condition2.getMethodDefinition().getParameterDefinitions()[0].setName("b");
+        Assert.assertNotEquals(ConditionKey.create(condition1), ConditionKey.create(condition2));
+    }
+
+    private static Condition createGreaterThanCondition() {
+        return ConditionBuilder.build((Integer a) -> a > 5);
+    }
+
+    @Test
+    public void keyedRuleTest() {
+        List<String> evaluated = new ArrayList<>();
+        Bindings bindings = Bindings.create()
+                .bind("country", String.class, "CA")
+                .bind("evaluated", new TypeReference<List<String>>() {}, evaluated);
+
+        RuleSet rules = RuleSetBuilder
+                .with("RuleSet6")
+                .rule(createKeyedRule("RuleUS"))
+                .rule(createKeyedRule("RuleAny"))
+                .rule(createKeyedRule("RuleCA"))
+                .rule(createKeyedRule("RuleMX"))
+                .key("RuleUS", "country", "US")
+                .key("RuleCA", "country", "CA")
+                .key("RuleMX", "country", "MX")
+                .build();
+
+        RuleSetDecisionIndex index = ((RulingFamily) rules).getDecisionIndex();
+        Assert.assertNotNull(index);
+        Assert.assertTrue(index.isKeyed(0));
+        Assert.assertFalse(index.isKeyed(1));
+
+        rules.run(bindings);
+        // Only the matching Rules are evaluated; in order
+        Assert.assertEquals(Arrays.asList("RuleAny", "RuleCA"), evaluated);
+
+        evaluated.clear();
+        bindings.setValue("country", "FR");
+        rules.run(bindings);
+        Assert.assertEquals(Arrays.asList("RuleAny"), evaluated);
+    }
+
+    @Test
+    public void keyedOtherwiseRuleTest() {
+        List<String> messages = new ArrayList<>();
+        Bindings bindings = Bindings.create()
+                .bind("country", String.class, "CA")
+                .bind("log", new TypeReference<List<String>>() {}, messages);
+
+        RuleSet rules = RuleSetBuilder
+                .with("RuleSet14")
+                .rule(RuleBuilder
+                        .name("RuleUS")
+                        .given(ConditionBuilder.build((String country) -> "US".equals(country)))
+                        .then(ActionBuilder.build((List<String> log) -> log.add("then")))
+                        .otherwise(ActionBuilder.build((List<String> log) -> log.add("otherwise")))
+                        .build())
+                .key("RuleUS", "country", "US")
+                .build();
+
+        // Not indexed; the otherwise Action must still run
+        Assert.assertNull(((RulingFamily) rules).getDecisionIndex());
+        rules.run(bindings);
+        Assert.assertEquals(Arrays.asList("otherwise"), messages);
+    }
+
+    @Test
+    public void keyedRuleReselectTest() {
+        List<String> evaluated = new ArrayList<>();
+        Bindings bindings = Bindings.create()
+                .bind("country", String.class, "CA")
+                .bind("evaluated", new TypeReference<List<String>>() {}, evaluated);
+
+        RuleSet rules = RuleSetBuilder
+                .with("RuleSet15")
+                .rule(RuleBuilder
+                        .name("MoveToUS")
+                        .given(ConditionBuilder.TRUE())
+                        .then(ActionBuilder.build((Binding<String> country) -> country.setValue("US")))
+                        .build())
+                .rule(createKeyedRule("RuleUS"))
+                .rule(createKeyedRule("RuleCA"))
+                .key("RuleUS", "country", "US")
+                .key("RuleCA", "country", "CA")
+                .build();
+
+        rules.run(bindings);
+        // Selected again after the key Binding changed
+        Assert.assertEquals(Arrays.asList("RuleUS"), evaluated);
+    }
+
+    @Test
+    public void keyedAnnotationRuleTest() {
+        List<String> evaluated = new ArrayList<>();
+        List<String> executed = new ArrayList<>();
+        Bindings bindings = Bindings.create()
+                .bind("country", String.class, "CA")
+                .bind("tier", Integer.class, 10)
+                .bind("evaluated", new TypeReference<List<String>>() {}, evaluated)
+                .bind("executed", new TypeReference<List<String>>() {}, executed);
+
+        RuleSet rules = RuleSetBuilder
+                .with("RuleSet7")
+                .rule(RuleBuilder.build(new TestKeyedRule()))
+                .build();
+
+        rules.run(bindings);
+        Assert.assertEquals(Arrays.asList("TestKeyedRule"), executed);
+
+        evaluated.clear();
+        bindings.setValue("tier", 20);
+        rules.run(bindings);
+        Assert.assertTrue(evaluated.isEmpty());
+
+        // Not indexed without keys
+        Assert.assertNull(((RulingFamily) RuleSetBuilder.with("RuleSet8")
+                .rule(createKeyedRule("Rule1")).build()).getDecisionIndex());
+    }
+
+    @Test
+    public void keyedRuleConversionTest() {
+        List<String> evaluated = new ArrayList<>();
+        List<String> executed = new ArrayList<>();
+        Bindings bindings = Bindings.create()
+                .bind("country", String.class, "CA")
+                .bind("tier", String.class, "10")
+                .bind("evaluated", new TypeReference<List<String>>() {}, evaluated)
+                .bind("executed", new TypeReference<List<String>>() {}, executed);
+
+        RuleSet rules = RuleSetBuilder
+                .with("RuleSet16")
+                .rule(RuleBuilder.build(new TestKeyedRule()))
+                .build();
+
+        // "10" is converted to the key type (Integer) like the ParameterResolver does
+        rules.run(bindings);
+        Assert.assertEquals(Arrays.asList("TestKeyedRule"), executed);
+
+        // Converted value does not match; not even evaluated
+        evaluated.clear();
+        bindings.setValue("tier", "20");
+        rules.run(bindings);
+        Assert.assertTrue(evaluated.isEmpty());
+    }
+
+    @Test
+    public void keyedRuleMissingBindingTest() {
+        List<String> evaluated = new ArrayList<>();
+        Bindings bindings = Bindings.create()
+                .bind("nation", String.class, "US")
+                .bind("evaluated", new TypeReference<List<String>>() {}, evaluated);
+
+        RuleSet rules = RuleSetBuilder
+                .with("RuleSet17")
+                .rule(createKeyedRule("RuleUS"))
+                .key("RuleUS", "country", "US")
+                .build();
+
+        // No "country" Binding; the Rule is evaluated normally
+        rules.run(bindings);
+        Assert.assertEquals(Arrays.asList("RuleUS"), evaluated);
+    }
+
+    @Test
+    public void forwardChainingTest() {
+        AtomicInteger evaluations = new AtomicInteger();
+        Bindings bindings = Bindings.create()
+                .bind("total", Integer.class, 0)
+                .bind("discount", Integer.class, 0);
+
+        RuleSet rules = RuleSetBuilder
+                .with("RuleSet9")
+                .rule(RuleBuilder
+                        .name("Discount")
+                        .given(ConditionBuilder.build((Integer total) -> evaluations.incrementAndGet() > 0 && total > 100))
+                        .then(ActionBuilder.build((Binding<Integer> discount) -> discount.setValue(10)))
+                        .build())
+                .rule(RuleBuilder
+                        .name("Total")
+                        .given(ConditionBuilder.TRUE())
+                        .then(ActionBuilder.build((Binding<Integer> total) -> total.setValue(150)))
+                        .build())
+                .forwardChaining()
+                .build();
+
+        Assert.assertTrue(rules instanceof ForwardChainingRulingFamily);
+        rules.run(bindings);
+        // Re-activated once total changed
+        Assert.assertEquals(10, (int) bindings.getValue("discount", Integer.class));
+        Assert.assertEquals(2, evaluations.get());
+    }
+
+    @Test
+    public void forwardChainingRefractionTest() {
+        Bindings bindings = Bindings.create()
+                .bind("c", Integer.class, 0);
+
+        RuleSet rules = RuleSetBuilder
+                .with("RuleSet10")
+                .rule(RuleBuilder
+                        .name("Increment")
+                        .given(ConditionBuilder.build((Integer c) -> c < 5))
+                        .then(ActionBuilder.build((Binding<Integer> c) -> c.setValue(c.getValue() + 1)))
+                        .build())
+                .forwardChaining()
+                .build();
+
+        rules.run(bindings);
+        Assert.assertEquals(5, (int) bindings.getValue("c", Integer.class));
+    }
+
+    @Test
+    public void forwardChainingSalienceTest() {
+        List<String> executed = new ArrayList<>();
+        Bindings bindings = Bindings.create()
+                .bind("executed", new TypeReference<List<String>>() {}, executed);
+
+        RuleSet rules = RuleSetBuilder
+                .with("RuleSet11")
+                .rule(createExecutedRule("Rule1"))
+                .rule(createExecutedRule("Rule2"))
+                .rule(createExecutedRule("Rule3"))
+                .salience("Rule3", 10)
+                .forwardChaining()
+                .build();
+
+        rules.run(bindings);
+        Assert.assertEquals(Arrays.asList("Rule3", "Rule1", "Rule2"), executed);
+    }
+
+    @Test(expected = UnrulyException.class)
+    public void forwardChainingKeyedTest() {
+        RuleSetBuilder
+                .with("RuleSet18")
+                .rule(createKeyedRule("RuleUS"))
+                .key("RuleUS", "country", "US")
+                .forwardChaining()
+                .build();
+    }
+
+    @Test(expected = RuleSetExecutionException.class)
+    public void forwardChainingMaxCyclesTest() {
+        Bindings bindings = Bindings.create()
+                .bind("c", Integer.class, 0);
+
+        RuleSet rules = RuleSetBuilder
+                .with("RuleSet12")
+                .rule(RuleBuilder
+                        .name("Forever")
+                        .given(ConditionBuilder.build((Integer c) -> c >= 0))
+                        .then(ActionBuilder.build((Binding<Integer> c) -> c.setValue(c.getValue() + 1)))
+                        .build())
+                .forwardChaining(100)
+                .build();
+
+        rules.run(bindings);
+    }
+
+    @Test
+    public void rerunTest() {
+        List<String> evaluated = new ArrayList<>();
+        Bindings bindings = Bindings.create()
+                .bind("x", Integer.class, 1)
+                .bind("y", Integer.class, 2)
+                .bind("z", Integer.class, 0);
+
+        RuleSet rules = RuleSetBuilder
+                .with("RuleSet13")
+                .rule(RuleBuilder
+                        .name("RuleX")
+                        .given(ConditionBuilder.build((Integer x) -> evaluated.add("RuleX")))
+                        .then(ActionBuilder.build((Binding<Integer> z, Integer x) -> z.setValue(x * 10)))
+                        .build())
+                .rule(RuleBuilder
+                        .name("RuleY")
+                        .given(ConditionBuilder.build((Integer y) -> evaluated.add("RuleY")))
+                        .build())
+                .rule(RuleBuilder
+                        .name("RuleZ")
+                        .given(ConditionBuilder.build((Integer z) -> evaluated.add("RuleZ")))
+                        .build())
+                .build();
+
+        RuleSetResult result = rules.rerun(bindings, null);
+        Assert.assertEquals(Arrays.asList("RuleX", "RuleY", "RuleZ"), evaluated);
+
+        // Nothing has changed
+        evaluated.clear();
+        result = rules.rerun(bindings, result);
+        Assert.assertTrue(evaluated.isEmpty());
+
+        evaluated.clear();
+        bindings.setValue("y", 3);
+        result = rules.rerun(bindings, result);
+        Assert.assertEquals(Arrays.asList("RuleY"), evaluated);
+
+        // RuleX writes z; RuleZ must be re-evaluated
+        evaluated.clear();
+        bindings.setValue("x", 2);
+        result = rules.rerun(bindings, result);
+        Assert.assertEquals(Arrays.asList("RuleX", "RuleZ"), evaluated);
+        Assert.assertEquals(20, (int) bindings.getValue("z", Integer.class));
+
+        // Replaced Binding
+        evaluated.clear();
+        Bindings other = Bindings.create()
+                .bind("x", Integer.class, 2)
+                .bind("y", Integer.class, 3)
+                .bind("z", Integer.class, 20);
+        rules.rerun(other, result);
+        Assert.assertEquals(Arrays.asList("RuleX", "RuleY", "RuleZ"), evaluated);
+    }
+
+    @Test
+    public void rerunMatchedByTypeTest() {
+        List<String> evaluated = new ArrayList<>();
+        Bindings bindings = Bindings.create()
+                .bind("total", BigDecimal.class, BigDecimal.ONE);
+        RuleContext context = RuleContextBuilder.with(bindings)
+                .matchUsing(BindingMatchingStrategyType.MATCH_BY_TYPE)
+                .build();
+
+        RuleSet rules = RuleSetBuilder
+                .with("RuleSet19")
+                .rule(RuleBuilder
+                        .name("RuleAmount")
+                        .given(ConditionBuilder.build((BigDecimal amount) -> evaluated.add("RuleAmount")))
+                        .build())
+                .build();
+
+        RuleSetResult result = rules.rerun(context, null);
+        result = rules.rerun(context, result);
+        Assert.assertEquals(Arrays.asList("RuleAmount"), evaluated);
+
+        // Matched by type; a change to total must be detected
+        bindings.setValue("total", BigDecimal.TEN);
+        rules.rerun(context, result);
+        Assert.assertEquals(Arrays.asList("RuleAmount", "RuleAmount"), evaluated);
+    }
+
+    private static Rule createExecutedRule(String name) {
+        return RuleBuilder
+                .name(name)
+                .given(ConditionBuilder.TRUE())
+                .then(ActionBuilder.build((List<String> executed) -> executed.add(name)))
+                .build();
+    }
+
+    private static Rule createKeyedRule(String name) {
+        return RuleBuilder
+                .name(name)
+                .given(ConditionBuilder.build((List<String> evaluated) -> evaluated.add(name)))
+                .build();
+    }
+
+    private static Rule createActiveRule(String name) {
+        return RuleBuilder
+                .name(name)
+                .preCondition(ConditionBuilder.build((Boolean active) -> SHARED_COUNTER.incrementAndGet() > 0 && active))
+                .given(ConditionBuilder.TRUE())
+                .then(ActionBuilder.build((Binding<Integer> c) -> c.setValue(c.getValue() + 1)))
+                .build();
+    }
+
+    private static boolean await(CountDownLatch latch) {
+        latch.countDown();
+
+        try {
+            return latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            throw new IllegalStateException(e);
+        }
+    }
 }
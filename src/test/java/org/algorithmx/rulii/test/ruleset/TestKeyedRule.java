@@ -0,0 +1,45 @@
+/*
+ * This software is licensed under the Apache 2 license, quoted below.
+ *
+ * Copyright (c) 1999-2021, Algorithmx Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.algorithmx.rulii.test.ruleset;
+
+import org.algorithmx.rulii.annotation.Given;
+import org.algorithmx.rulii.annotation.Key;
+import org.algorithmx.rulii.annotation.Rule;
+import org.algorithmx.rulii.annotation.Then;
+
+import java.util.List;
+
+@Rule(name = "TestKeyedRule")
+public class TestKeyedRule {
+
+    public TestKeyedRule() {
+        super();
+    }
+
+    @Given
+    public boolean when(@Key("CA") String country, @Key("10") Integer tier, List<String> evaluated) {
+        evaluated.add("TestKeyedRule");
+        return true;
+    }
+
+    @Then
+    public void then(List<String> executed) {
+        executed.add("TestKeyedRule");
+    }
+}
@@ -25,10 +25,20 @@ import org.algorithmx.rulii.annotation.Then;
 import org.algorithmx.rulii.bind.match.MatchByNameAndTypeMatchingStrategy;
 import org.algorithmx.rulii.bind.match.MatchByNameMatchingStrategy;
 import org.algorithmx.rulii.bind.match.MatchByTypeMatchingStrategy;
+import org.algorithmx.rulii.core.UnrulyException;
 import org.algorithmx.rulii.util.reflect.ObjectFactory;
 import org.junit.Assert;
 import org.junit.Test;
 
+import javax.annotation.PostConstruct;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
 /**
  * Binding ParameterDefinition tests.
  *
@@ -51,6 +61,52 @@ public class ObjectFactoryTest {
         Assert.assertTrue(factory.createRule(TestRule.class) instanceof TestRule);
     }
 
+    @Test
+    public void cachedCreationTest() throws Exception {
+        ObjectFactory factory = ObjectFactory.create();
+        int before = TestBean.POST_CONSTRUCTED.get();
+        TestBean bean = factory.create(TestBean.class, false);
+        Assert.assertTrue(bean.initialized);
+        Assert.assertNotSame(bean, factory.create(TestBean.class, false));
+        Assert.assertEquals(before + 2, TestBean.POST_CONSTRUCTED.get());
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+
+        try {
+            List<Callable<TestBean>> tasks = new ArrayList<>();
+            for (int i = 0; i < 16; i++) tasks.add(() -> factory.create(TestBean.class, true));
+            TestBean singleton = factory.create(TestBean.class, true);
+
+            for (Future<TestBean> result : executor.invokeAll(tasks)) {
+                Assert.assertSame(singleton, result.get());
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test(expected = UnrulyException.class)
+    public void noDefaultCtorTest() {
+        ObjectFactory.create().create(Integer.class, false);
+    }
+
+    public static class TestBean {
+
+        private static final AtomicInteger POST_CONSTRUCTED = new AtomicInteger();
+
+        private boolean initialized;
+
+        public TestBean() {
+            super();
+        }
+
+        @PostConstruct
+        public void init() {
+            initialized = true;
+            POST_CONSTRUCTED.incrementAndGet();
+        }
+    }
+
     @Rule @Description("This is test rule")
     public static final class TestRule {
 
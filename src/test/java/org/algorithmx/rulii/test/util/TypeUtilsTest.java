@@ -20,6 +20,7 @@ package org.algorithmx.rulii.test.util;
 
 import org.algorithmx.rulii.lib.apache.reflect.TypeUtils;
 import org.algorithmx.rulii.util.TypeReference;
+import org.algorithmx.rulii.util.reflect.TypeAssignability;
 import org.junit.Assert;
 import org.junit.Test;
 
@@ -64,6 +65,22 @@ public class TypeUtilsTest {
         Assert.assertTrue(type1.equals(type2));
     }
 
+    @Test
+    public void testCachedAssignability() {
+        Type lhs = new TypeReference<List<?>>() {}.getType();
+        Type rhs = new TypeReference<List<String>>() {}.getType();
+        Type other = new TypeReference<List<Integer>>() {}.getType();
+        Type lhsCopy = TypeUtils.parameterize(List.class, TypeUtils.wildcardType().build());
+
+        for (int i = 0; i < 3; i++) {
+            Assert.assertTrue(TypeAssignability.isAssignable(rhs, lhs));
+            Assert.assertTrue(TypeAssignability.isAssignable(rhs, lhsCopy));
+            Assert.assertFalse(TypeAssignability.isAssignable(lhs, rhs));
+            Assert.assertFalse(TypeAssignability.isAssignable(other, rhs));
+            Assert.assertTrue(TypeAssignability.isAssignable(Integer.class, int.class));
+        }
+    }
+
     private static class TypeReferenceTestClass {
         private Map<List<?>, ?> field;
     }
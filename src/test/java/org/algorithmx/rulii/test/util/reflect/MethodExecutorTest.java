@@ -0,0 +1,155 @@
+/*
+ * This software is licensed under the Apache 2 license, quoted below.
+ *
+ * Copyright (c) 1999-2021, Algorithmx Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.algorithmx.rulii.test.util.reflect;
+
+import org.algorithmx.rulii.core.UnrulyException;
+import org.algorithmx.rulii.core.function.BiFunction;
+import org.algorithmx.rulii.util.reflect.DefaultMethodExecutor;
+import org.algorithmx.rulii.util.reflect.GeneratedMethodExecutor;
+import org.algorithmx.rulii.util.reflect.MethodExecutor;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.lang.reflect.Method;
+
+/**
+ * Test cases related to the MethodExecutors.
+ *
+ * @author Max Arulananthan
+ */
+public class MethodExecutorTest {
+
+    public MethodExecutorTest() {
+        super();
+    }
+
+    @Test
+    public void generatedExecutorTest1() throws NoSuchMethodException {
+        Method m = Calculator.class.getMethod("add", int.class, long.class);
+        Assert.assertTrue(GeneratedMethodExecutor.isSupported(m));
+        MethodExecutor executor = new GeneratedMethodExecutor(m);
+        Long result = executor.execute(new Calculator(), 5, 10L);
+        Assert.assertTrue(result == 15L);
+        // Invoker is reused
+        Assert.assertEquals(executor.toString(), new GeneratedMethodExecutor(m).toString());
+    }
+
+    @Test
+    public void generatedExecutorTest2() throws NoSuchMethodException {
+        Method m = Calculator.class.getMethod("concat", String.class, String[].class);
+        MethodExecutor executor = new GeneratedMethodExecutor(m);
+        String result = executor.execute(null, "a", new String[] {"b", "c"});
+        Assert.assertEquals("abc", result);
+    }
+
+    @Test
+    public void generatedExecutorTest3() throws NoSuchMethodException {
+        Method m = Calculator.class.getMethod("reset");
+        Calculator calculator = new Calculator();
+        calculator.add(1, 2);
+        Object result = new GeneratedMethodExecutor(m).execute(calculator);
+        Assert.assertNull(result);
+        Assert.assertTrue(calculator.getTotal() == 0);
+    }
+
+    @Test
+    public void generatedExecutorTest4() throws NoSuchMethodException {
+        BiFunction<Boolean, Integer, String> lambda = (Integer a, String b) -> a > 10 && b != null;
+        Method m = BiFunction.class.getMethod("apply", Object.class, Object.class);
+        MethodExecutor executor = new GeneratedMethodExecutor(m);
+        Assert.assertTrue(executor.execute(lambda, 20, "x"));
+        Assert.assertFalse(executor.execute(lambda, 5, "x"));
+    }
+
+    @Test(expected = UnrulyException.class)
+    public void generatedExecutorTest5() throws NoSuchMethodException {
+        Method m = Calculator.class.getMethod("fail");
+        new GeneratedMethodExecutor(m).execute(new Calculator());
+    }
+
+    @Test(expected = UnrulyException.class)
+    public void generatedExecutorTest6() throws NoSuchMethodException {
+        Method m = Calculator.class.getMethod("add", int.class, long.class);
+        new GeneratedMethodExecutor(m).execute(new Calculator(), 5);
+    }
+
+    @Test
+    public void generatedExecutorTest7() throws NoSuchMethodException {
+        // Primitive parameters are widened like MethodHandle.invokeWithArguments does
+        Method m = Calculator.class.getMethod("scale", long.class, double.class);
+        Double result = new GeneratedMethodExecutor(m).execute(new Calculator(), 7, 2);
+        Assert.assertTrue(result == 14.0d);
+
+        Double result2 = new DefaultMethodExecutor(m).execute(new Calculator(), (short) 3, 1.5f);
+        Assert.assertTrue(result2 == 4.5d);
+    }
+
+    @Test
+    public void defaultExecutorTest1() throws NoSuchMethodException {
+        Method m = Calculator.class.getDeclaredMethod("secret", int.class);
+        Assert.assertFalse(GeneratedMethodExecutor.isSupported(m));
+        // Falls back to MethodHandles
+        Integer result = new DefaultMethodExecutor(m).execute(new Calculator(), 21);
+        Assert.assertTrue(result == 42);
+
+        Method m2 = Calculator.class.getMethod("add", int.class, long.class);
+        Long result2 = new DefaultMethodExecutor(m2).execute(new Calculator(), 1, 2L);
+        Assert.assertTrue(result2 == 3L);
+    }
+
+    public static class Calculator {
+
+        private long total = 0;
+
+        public Calculator() {
+            super();
+        }
+
+        public long add(int a, long b) {
+            total += a + b;
+            return total;
+        }
+
+        public double scale(long value, double factor) {
+            return value * factor;
+        }
+
+        public static String concat(String prefix, String[] values) {
+            StringBuilder result = new StringBuilder(prefix);
+            for (String value : values) result.append(value);
+            return result.toString();
+        }
+
+        public void reset() {
+            total = 0;
+        }
+
+        public void fail() {
+            throw new IllegalStateException("failed");
+        }
+
+        public long getTotal() {
+            return total;
+        }
+
+        private int secret(int value) {
+            return value * 2;
+        }
+    }
+}